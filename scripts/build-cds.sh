@@ -0,0 +1,40 @@
+#!/bin/sh
+# Author: Felix Guevara
+# Course: [CEN-3024C-13950]
+# Date: October 19, 2026
+# Script: build-cds.sh
+#
+# Generates an application class-data-sharing (AppCDS) archive for the WATSSwingApp jar.
+# Build the jar artifact in IntelliJ first (Build > Build Artifacts > WATSSwingApp:jar).
+# The script launches the application once, exits as soon as the first frame is painted and
+# dumps every class loaded up to that point into the archive. Later launches map the archive
+# instead of parsing and verifying those classes again:
+#
+#   java -XX:SharedArchiveFile=out/artifacts/WATSSwingApp_jar/WATSSwingApp.jsa -jar out/artifacts/WATSSwingApp_jar/WATSSwingApp.jar
+#
+# The archive is tied to the JDK and to the jar: rerun the script after rebuilding either.
+# Without a display, HEADLESS=1 stops the training run just before the main frame is built.
+# Usage: [HEADLESS=1] scripts/build-cds.sh [jar] [archive]
+
+set -e
+cd "$(dirname "$0")/.."
+
+JAR="${1:-out/artifacts/WATSSwingApp_jar/WATSSwingApp.jar}"
+ARCHIVE="${2:-${JAR%.jar}.jsa}"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+if [ ! -f "$JAR" ]; then
+    echo "Jar not found: $JAR (build the WATSSwingApp:jar artifact first)" >&2
+    exit 1
+fi
+
+if [ -n "$HEADLESS" ]; then
+    STOP="-Djava.awt.headless=true -Dwats.startup.exitBeforeFrame=true"
+else
+    STOP="-Dwats.startup.exitAfterFirstFrame=true"
+fi
+
+rm -f "$ARCHIVE"
+# shellcheck disable=SC2086
+"$JAVA" -XX:ArchiveClassesAtExit="$ARCHIVE" $STOP -jar "$JAR"
+echo "CDS archive written to $ARCHIVE"
@@ -0,0 +1,59 @@
+#!/bin/sh
+# Author: Felix Guevara
+# Course: [CEN-3024C-13950]
+# Date: October 19, 2026
+# Script: startup-benchmark.sh
+#
+# Measures the time to the first painted frame of WATSSwingApp, with and without the AppCDS
+# archive made by build-cds.sh. Every launch is timed from just before the java command to the
+# moment the application reports its first frame (-Dwats.startup.exitAfterFirstFrame), so JVM
+# boot and class loading are included. Needs a display and GNU date (for millisecond timestamps).
+# Without a display, HEADLESS=1 times each launch up to the point just before the main frame is
+# built (-Dwats.startup.exitBeforeFrame); build the archive with HEADLESS=1 as well in that case.
+# Usage: [HEADLESS=1] scripts/startup-benchmark.sh [runs] [jar] [archive]
+
+set -e
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-10}"
+JAR="${2:-out/artifacts/WATSSwingApp_jar/WATSSwingApp.jar}"
+ARCHIVE="${3:-${JAR%.jar}.jsa}"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+if [ -n "$HEADLESS" ]; then
+    STOP="-Djava.awt.headless=true -Dwats.startup.exitBeforeFrame=true"
+else
+    STOP="-Dwats.startup.exitAfterFirstFrame=true"
+fi
+
+# Prints the milliseconds from launch to first frame of one run
+time_run() {
+    start=$(date +%s%3N)
+    # shellcheck disable=SC2086
+    first=$("$JAVA" "$@" $STOP -jar "$JAR" | sed -n 's/.*epochMillis=\([0-9]*\).*/\1/p')
+    echo $((first - start))
+}
+
+# Prints the median of the arguments
+median() {
+    printf '%s\n' "$@" | sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+measure() {
+    label="$1"
+    shift
+    times=""
+    i=0
+    while [ "$i" -lt "$RUNS" ]; do
+        times="$times $(time_run "$@")"
+        i=$((i + 1))
+    done
+    # shellcheck disable=SC2086
+    echo "$label: median $(median $times) ms over $RUNS runs ($times )"
+}
+
+measure "Default        " -Xshare:auto
+if [ -f "$ARCHIVE" ]; then
+    measure "AppCDS archive " -XX:SharedArchiveFile="$ARCHIVE"
+else
+    echo "No CDS archive at $ARCHIVE, run scripts/build-cds.sh to compare."
+fi
@@ -74,7 +74,7 @@ public class AddAnimalDialog extends JDialog {
         formPanel.add(txtAge);
 
         formPanel.add(new JLabel("Gender:"));
-        cmbGender = new JComboBox<>(new String[] { "Male", "Female", "Unknown" });
+        cmbGender = new JComboBox<>(animalManager.getValidator().getGenderChoices().toArray(new String[0]));
         formPanel.add(cmbGender);
 
         formPanel.add(new JLabel("Weight (kg):"));
@@ -85,9 +85,7 @@ public class AddAnimalDialog extends JDialog {
         formPanel.add(txtWeight);
 
         formPanel.add(new JLabel("Health Status:"));
-        cmbHealthStatus = new JComboBox<>(new String[] {
-                "Healthy", "Injured", "Sick", "Recovering"
-        });
+        cmbHealthStatus = new JComboBox<>(animalManager.getValidator().getHealthStatuses().toArray(new String[0]));
         formPanel.add(cmbHealthStatus);
 
         // Button panel
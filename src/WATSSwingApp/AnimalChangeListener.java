@@ -0,0 +1,38 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Interface: AnimalChangeListener.java
+ *
+ * This interface is implemented by components that need to know when the animal records
+ * held by the AnimalManager change. Listeners are notified on the thread that made the change,
+ * which is not necessarily the Swing Event Dispatch Thread.
+ */
+
+package WATSSwingApp;
+
+import java.util.Set;
+
+public interface AnimalChangeListener {
+
+    /**
+     * Method: animalsChanged
+     * Purpose: Called after one or more animal records were added, updated or deleted.
+     * A bulk operation such as an import produces a single notification.
+     * Arguments: None
+     * Return: void
+     */
+    void animalsChanged();
+
+    /**
+     * Method: animalUpdated
+     * Purpose: Called after some fields of a single record were changed by a partial update.
+     * Listeners that only depend on other fields can ignore the change; by default it is
+     * treated like any other change.
+     * Arguments: int id - Tag ID of the record, Set<AnimalPatch.Field> fields - the changed fields, never empty
+     * Return: void
+     */
+    default void animalUpdated(int id, Set<AnimalPatch.Field> fields) {
+        animalsChanged();
+    }
+}
@@ -0,0 +1,643 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: AnimalFilter.java
+ *
+ * This class compiles a filter expression over animal records, for example
+ *
+ *   species = 'Lion' and weight > 150 and health in ('Sick', 'Injured')
+ *
+ * Fields are id, species, name, age, gender, weight and health. Numeric fields are compared with
+ * = != < <= > >=, text fields with = and != (ignoring case); both support in (...) and not in (...),
+ * and conditions are combined with and, or, not and parentheses.
+ * The expression is parsed once and compiled into a chain of small predicates that read the
+ * record's fields directly, so nothing is interpreted per record. The conditions every match must
+ * meet on the Tag ID or the species are also extracted, so a repository can look the records up
+ * by Tag ID or through a species index instead of testing every record.
+ */
+
+package WATSSwingApp;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+public final class AnimalFilter {
+
+    private final String expression;
+    private final Predicate<WildAnimal> predicate;
+    private final Node root;
+    /**
+     * Sorted Tag IDs that every match must have one of, or null if the filter does not restrict them
+     */
+    private final int[] idCandidates;
+    /**
+     * Species (lower case) that every match must have one of, or null if the filter does not restrict them
+     */
+    private final Set<String> speciesCandidates;
+
+    private AnimalFilter(String expression, Node root) {
+        this.expression = expression;
+        this.root = root;
+        this.predicate = root.compile();
+
+        List<Node> conjuncts = new ArrayList<>();
+        collectConjuncts(root, conjuncts);
+        Set<Double> ids = null;
+        Set<String> species = null;
+        for (Node conjunct : conjuncts) {
+            Set<Object> values = conjunct.requiredValues();
+            if (values == null) {
+                continue;
+            }
+            Field field = ((Condition) conjunct).field;
+            if (field == Field.ID) {
+                Set<Double> conjunctIds = new HashSet<>();
+                values.forEach(value -> conjunctIds.add((Double) value));
+                ids = intersect(ids, conjunctIds);
+            } else if (field == Field.SPECIES) {
+                Set<String> conjunctSpecies = new HashSet<>();
+                values.forEach(value -> conjunctSpecies.add((String) value));
+                species = intersect(species, conjunctSpecies);
+            }
+        }
+        this.idCandidates = ids == null ? null : ids.stream()
+                .filter(id -> id == Math.rint(id) && id >= Integer.MIN_VALUE && id <= Integer.MAX_VALUE)
+                .mapToInt(Double::intValue).sorted().toArray();
+        this.speciesCandidates = species == null ? null : Collections.unmodifiableSet(species);
+    }
+
+    /**
+     * Method: compile
+     * Purpose: Parses and compiles a filter expression.
+     * Arguments: String expression - the filter, see the class comment
+     * Return: AnimalFilter - the compiled filter
+     */
+    public static AnimalFilter compile(String expression) {
+        if (expression == null || expression.trim().isEmpty()) {
+            throw new IllegalArgumentException("The filter is empty");
+        }
+        Parser parser = new Parser(expression);
+        Node root = parser.parseOr();
+        if (parser.peek().type != TokenType.END) {
+            throw parser.error("Unexpected '" + parser.peek().text + "'");
+        }
+        return new AnimalFilter(expression, root);
+    }
+
+    /**
+     * Method: test
+     * Purpose: Checks whether a record matches the filter.
+     * Arguments: WildAnimal animal - the record
+     * Return: boolean - true if the record matches
+     */
+    public boolean test(WildAnimal animal) {
+        return predicate.test(animal);
+    }
+
+    /**
+     * Method: getIdCandidates
+     * Purpose: Returns the Tag IDs every match must have one of, when the filter requires them,
+     * e.g. for "id in (3, 5) and weight > 10".
+     * Arguments: None
+     * Return: int[] - sorted Tag IDs (possibly empty), or null if any Tag ID may match
+     */
+    public int[] getIdCandidates() {
+        return idCandidates == null ? null : idCandidates.clone();
+    }
+
+    /**
+     * Method: getSpeciesCandidates
+     * Purpose: Returns the species every match must have one of, when the filter requires them.
+     * Arguments: None
+     * Return: Set<String> - species in lower case, or null if any species may match
+     */
+    public Set<String> getSpeciesCandidates() {
+        return speciesCandidates;
+    }
+
+    /**
+     * Method: appendSql
+     * Purpose: Appends the filter as an SQL condition over the columns of JdbcAnimalRepository,
+     * with ? placeholders whose values are added to the parameter list.
+     * Arguments: StringBuilder sql - the target, List<Object> parameters - receives the placeholder values
+     * Return: void
+     */
+    public void appendSql(StringBuilder sql, List<Object> parameters) {
+        root.appendSql(sql, parameters);
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static void collectConjuncts(Node node, List<Node> conjuncts) {
+        if (node instanceof And) {
+            for (Node operand : ((And) node).operands) {
+                collectConjuncts(operand, conjuncts);
+            }
+        } else {
+            conjuncts.add(node);
+        }
+    }
+
+    private static <T> Set<T> intersect(Set<T> current, Set<T> values) {
+        if (current == null) {
+            return values;
+        }
+        current.retainAll(values);
+        return current;
+    }
+
+    /**
+     * Enum: Field
+     * The record fields a filter can use, with their SQL column.
+     */
+    private enum Field {
+        ID("id", true), SPECIES("species", false), NAME("name", false), AGE("age", true),
+        GENDER("gender", false), WEIGHT("weight", true), HEALTH("health_status", false);
+
+        private final String column;
+        private final boolean numeric;
+
+        Field(String column, boolean numeric) {
+            this.column = column;
+            this.numeric = numeric;
+        }
+
+        static Field forName(String name) {
+            switch (name.toLowerCase(Locale.ROOT)) {
+                case "id": case "tag": return ID;
+                case "species": return SPECIES;
+                case "name": return NAME;
+                case "age": return AGE;
+                case "gender": return GENDER;
+                case "weight": return WEIGHT;
+                case "health": case "healthstatus": return HEALTH;
+                default: return null;
+            }
+        }
+    }
+
+    /**
+     * Class: Node
+     * A parsed part of the expression.
+     */
+    private abstract static class Node {
+        /**
+         * Builds the predicate of this part once; the predicate does no further parsing.
+         */
+        abstract Predicate<WildAnimal> compile();
+
+        abstract void appendSql(StringBuilder sql, List<Object> parameters);
+
+        /**
+         * Returns the values the field of this condition must have for a record to match, or null
+         * if this part does not restrict a single field to a set of values.
+         */
+        Set<Object> requiredValues() {
+            return null;
+        }
+    }
+
+    /**
+     * Class: Condition
+     * A comparison of one field with a value, or a test for membership in a list of values.
+     */
+    private static final class Condition extends Node {
+        private final Field field;
+        private final String operator;
+        /**
+         * Double for numeric fields, lower case String for text fields
+         */
+        private final List<Object> values;
+
+        Condition(Field field, String operator, List<Object> values) {
+            this.field = field;
+            this.operator = operator;
+            this.values = values;
+        }
+
+        @Override
+        Predicate<WildAnimal> compile() {
+            if (operator.equals("in") || operator.equals("not in")) {
+                Predicate<WildAnimal> contains = field.numeric ? compileNumericIn() : compileTextIn();
+                return operator.equals("in") ? contains : contains.negate();
+            }
+            return field.numeric ? compileNumeric((Double) values.get(0)) : compileText((String) values.get(0));
+        }
+
+        private Predicate<WildAnimal> compileNumeric(double value) {
+            switch (field) {
+                case ID:
+                    switch (operator) {
+                        case "=": return animal -> animal.getId() == value;
+                        case "!=": return animal -> animal.getId() != value;
+                        case "<": return animal -> animal.getId() < value;
+                        case "<=": return animal -> animal.getId() <= value;
+                        case ">": return animal -> animal.getId() > value;
+                        default: return animal -> animal.getId() >= value;
+                    }
+                case AGE:
+                    switch (operator) {
+                        case "=": return animal -> animal.getAge() == value;
+                        case "!=": return animal -> animal.getAge() != value;
+                        case "<": return animal -> animal.getAge() < value;
+                        case "<=": return animal -> animal.getAge() <= value;
+                        case ">": return animal -> animal.getAge() > value;
+                        default: return animal -> animal.getAge() >= value;
+                    }
+                default:
+                    switch (operator) {
+                        case "=": return animal -> animal.getWeight() == value;
+                        case "!=": return animal -> animal.getWeight() != value;
+                        case "<": return animal -> animal.getWeight() < value;
+                        case "<=": return animal -> animal.getWeight() <= value;
+                        case ">": return animal -> animal.getWeight() > value;
+                        default: return animal -> animal.getWeight() >= value;
+                    }
+            }
+        }
+
+        private Predicate<WildAnimal> compileNumericIn() {
+            double[] sorted = values.stream().mapToDouble(value -> (Double) value).sorted().toArray();
+            switch (field) {
+                case ID: return animal -> Arrays.binarySearch(sorted, animal.getId()) >= 0;
+                case AGE: return animal -> Arrays.binarySearch(sorted, animal.getAge()) >= 0;
+                default: return animal -> Arrays.binarySearch(sorted, animal.getWeight()) >= 0;
+            }
+        }
+
+        private Predicate<WildAnimal> compileText(String value) {
+            Predicate<WildAnimal> equal;
+            switch (field) {
+                case SPECIES: equal = animal -> value.equalsIgnoreCase(animal.getSpecies()); break;
+                case NAME: equal = animal -> value.equalsIgnoreCase(animal.getName()); break;
+                case GENDER: equal = animal -> value.equalsIgnoreCase(animal.getGender()); break;
+                default: equal = animal -> value.equalsIgnoreCase(animal.getHealthStatus()); break;
+            }
+            return operator.equals("=") ? equal : equal.negate();
+        }
+
+        private Predicate<WildAnimal> compileTextIn() {
+            Set<Object> allowed = new HashSet<>(values);
+            switch (field) {
+                case SPECIES: return animal -> allowed.contains(animal.getSpecies().toLowerCase(Locale.ROOT));
+                case NAME: return animal -> allowed.contains(animal.getName().toLowerCase(Locale.ROOT));
+                case GENDER: return animal -> allowed.contains(animal.getGender().toLowerCase(Locale.ROOT));
+                default: return animal -> allowed.contains(animal.getHealthStatus().toLowerCase(Locale.ROOT));
+            }
+        }
+
+        @Override
+        void appendSql(StringBuilder sql, List<Object> parameters) {
+            String column = field.numeric ? field.column : "LOWER(" + field.column + ")";
+            sql.append(column).append(' ').append(operator.equals("!=") ? "<>" : operator.toUpperCase(Locale.ROOT));
+            if (operator.endsWith("in")) {
+                sql.append(" (");
+                for (int i = 0; i < values.size(); i++) {
+                    sql.append(i == 0 ? "?" : ", ?");
+                }
+                sql.append(')');
+            } else {
+                sql.append(" ?");
+            }
+            parameters.addAll(values);
+        }
+
+        @Override
+        Set<Object> requiredValues() {
+            return operator.equals("=") || operator.equals("in") ? new HashSet<>(values) : null;
+        }
+    }
+
+    /**
+     * Class: And
+     * Matches when every operand matches; operands are tested in the order written.
+     */
+    private static final class And extends Node {
+        private final List<Node> operands;
+
+        And(List<Node> operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        Predicate<WildAnimal> compile() {
+            if (operands.size() == 2) {
+                Predicate<WildAnimal> first = operands.get(0).compile();
+                Predicate<WildAnimal> second = operands.get(1).compile();
+                return animal -> first.test(animal) && second.test(animal);
+            }
+            Predicate<WildAnimal>[] compiled = compileAll(operands);
+            return animal -> {
+                for (Predicate<WildAnimal> operand : compiled) {
+                    if (!operand.test(animal)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+
+        @Override
+        void appendSql(StringBuilder sql, List<Object> parameters) {
+            appendJoined(sql, parameters, operands, " AND ");
+        }
+    }
+
+    /**
+     * Class: Or
+     * Matches when any operand matches.
+     */
+    private static final class Or extends Node {
+        private final List<Node> operands;
+
+        Or(List<Node> operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        Predicate<WildAnimal> compile() {
+            if (operands.size() == 2) {
+                Predicate<WildAnimal> first = operands.get(0).compile();
+                Predicate<WildAnimal> second = operands.get(1).compile();
+                return animal -> first.test(animal) || second.test(animal);
+            }
+            Predicate<WildAnimal>[] compiled = compileAll(operands);
+            return animal -> {
+                for (Predicate<WildAnimal> operand : compiled) {
+                    if (operand.test(animal)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
+        @Override
+        void appendSql(StringBuilder sql, List<Object> parameters) {
+            appendJoined(sql, parameters, operands, " OR ");
+        }
+    }
+
+    /**
+     * Class: Not
+     * Matches when its operand does not.
+     */
+    private static final class Not extends Node {
+        private final Node operand;
+
+        Not(Node operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        Predicate<WildAnimal> compile() {
+            return operand.compile().negate();
+        }
+
+        @Override
+        void appendSql(StringBuilder sql, List<Object> parameters) {
+            sql.append("NOT (");
+            operand.appendSql(sql, parameters);
+            sql.append(')');
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate<WildAnimal>[] compileAll(List<Node> nodes) {
+        Predicate<WildAnimal>[] compiled = new Predicate[nodes.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = nodes.get(i).compile();
+        }
+        return compiled;
+    }
+
+    private static void appendJoined(StringBuilder sql, List<Object> parameters, List<Node> nodes, String separator) {
+        sql.append('(');
+        for (int i = 0; i < nodes.size(); i++) {
+            if (i > 0) {
+                sql.append(separator);
+            }
+            nodes.get(i).appendSql(sql, parameters);
+        }
+        sql.append(')');
+    }
+
+    private enum TokenType { WORD, NUMBER, STRING, SYMBOL, END }
+
+    private static final class Token {
+        private final TokenType type;
+        private final String text;
+        private final int position;
+
+        Token(TokenType type, String text, int position) {
+            this.type = type;
+            this.text = text;
+            this.position = position;
+        }
+
+        boolean isWord(String word) {
+            return type == TokenType.WORD && text.equalsIgnoreCase(word);
+        }
+
+        boolean isSymbol(String symbol) {
+            return type == TokenType.SYMBOL && text.equals(symbol);
+        }
+    }
+
+    /**
+     * Class: Parser
+     * Recursive-descent parser: or binds weaker than and, which binds weaker than not.
+     */
+    private static final class Parser {
+        private final List<Token> tokens;
+        private int index = 0;
+
+        Parser(String expression) {
+            this.tokens = tokenize(expression);
+        }
+
+        Node parseOr() {
+            List<Node> operands = new ArrayList<>();
+            operands.add(parseAnd());
+            while (peek().isWord("or")) {
+                index++;
+                operands.add(parseAnd());
+            }
+            return operands.size() == 1 ? operands.get(0) : new Or(operands);
+        }
+
+        private Node parseAnd() {
+            List<Node> operands = new ArrayList<>();
+            operands.add(parseNot());
+            while (peek().isWord("and")) {
+                index++;
+                operands.add(parseNot());
+            }
+            return operands.size() == 1 ? operands.get(0) : new And(operands);
+        }
+
+        private Node parseNot() {
+            if (peek().isWord("not")) {
+                index++;
+                return new Not(parseNot());
+            }
+            if (peek().isSymbol("(")) {
+                index++;
+                Node inner = parseOr();
+                expectSymbol(")");
+                return inner;
+            }
+            return parseCondition();
+        }
+
+        private Node parseCondition() {
+            Token fieldToken = next();
+            if (fieldToken.type == TokenType.END) {
+                throw error(fieldToken, "The filter ends where a condition is expected");
+            }
+            Field field = fieldToken.type == TokenType.WORD ? Field.forName(fieldToken.text) : null;
+            if (field == null) {
+                throw error(fieldToken, "Unknown field '" + fieldToken.text + "'");
+            }
+
+            Token operatorToken = next();
+            String operator;
+            if (operatorToken.isWord("in")) {
+                operator = "in";
+            } else if (operatorToken.isWord("not") && peek().isWord("in")) {
+                index++;
+                operator = "not in";
+            } else if (operatorToken.type == TokenType.SYMBOL && !operatorToken.text.equals("(")
+                    && !operatorToken.text.equals(")") && !operatorToken.text.equals(",")) {
+                operator = operatorToken.text.equals("<>") ? "!=" : operatorToken.text;
+                if (!field.numeric && !operator.equals("=") && !operator.equals("!=")) {
+                    throw error(operatorToken, "Only = and != can be used with " + fieldToken.text);
+                }
+            } else {
+                throw error(operatorToken, "Expected a comparison after " + fieldToken.text);
+            }
+
+            List<Object> values = new ArrayList<>();
+            if (operator.endsWith("in")) {
+                expectSymbol("(");
+                values.add(parseValue(field));
+                while (peek().isSymbol(",")) {
+                    index++;
+                    values.add(parseValue(field));
+                }
+                expectSymbol(")");
+            } else {
+                values.add(parseValue(field));
+            }
+            return new Condition(field, operator, values);
+        }
+
+        private Object parseValue(Field field) {
+            Token token = next();
+            if (field.numeric) {
+                if (token.type != TokenType.NUMBER) {
+                    throw error(token, "Expected a number for " + field.name().toLowerCase(Locale.ROOT));
+                }
+                return Double.parseDouble(token.text);
+            }
+            if (token.type != TokenType.STRING) {
+                throw error(token, "Expected quoted text for " + field.name().toLowerCase(Locale.ROOT));
+            }
+            return token.text.toLowerCase(Locale.ROOT);
+        }
+
+        private void expectSymbol(String symbol) {
+            Token token = next();
+            if (!token.isSymbol(symbol)) {
+                throw error(token, "Expected '" + symbol + "'");
+            }
+        }
+
+        Token peek() {
+            return tokens.get(index);
+        }
+
+        private Token next() {
+            Token token = tokens.get(index);
+            if (token.type != TokenType.END) {
+                index++;
+            }
+            return token;
+        }
+
+        IllegalArgumentException error(String message) {
+            return error(peek(), message);
+        }
+
+        private static IllegalArgumentException error(Token token, String message) {
+            return new IllegalArgumentException("Invalid filter at position " + (token.position + 1) + ": " + message);
+        }
+
+        private static List<Token> tokenize(String text) {
+            List<Token> tokens = new ArrayList<>();
+            int position = 0;
+            while (position < text.length()) {
+                char c = text.charAt(position);
+                int start = position;
+                if (Character.isWhitespace(c)) {
+                    position++;
+                } else if (Character.isLetter(c) || c == '_') {
+                    while (position < text.length()
+                            && (Character.isLetterOrDigit(text.charAt(position)) || text.charAt(position) == '_')) {
+                        position++;
+                    }
+                    tokens.add(new Token(TokenType.WORD, text.substring(start, position), start));
+                } else if (Character.isDigit(c) || c == '.' || (c == '-' && position + 1 < text.length()
+                        && (Character.isDigit(text.charAt(position + 1)) || text.charAt(position + 1) == '.'))) {
+                    position++;
+                    while (position < text.length()
+                            && (Character.isDigit(text.charAt(position)) || text.charAt(position) == '.')) {
+                        position++;
+                    }
+                    String number = text.substring(start, position);
+                    try {
+                        Double.parseDouble(number);
+                    } catch (NumberFormatException e) {
+                        throw error(new Token(TokenType.NUMBER, number, start), "Invalid number '" + number + "'");
+                    }
+                    tokens.add(new Token(TokenType.NUMBER, number, start));
+                } else if (c == '\'' || c == '"') {
+                    StringBuilder value = new StringBuilder();
+                    position++;
+                    while (true) {
+                        if (position >= text.length()) {
+                            throw error(new Token(TokenType.STRING, "", start), "Unterminated text");
+                        }
+                        char d = text.charAt(position++);
+                        if (d == c) {
+                            // A doubled quote stands for the quote itself
+                            if (position < text.length() && text.charAt(position) == c) {
+                                value.append(c);
+                                position++;
+                                continue;
+                            }
+                            break;
+                        }
+                        value.append(d);
+                    }
+                    tokens.add(new Token(TokenType.STRING, value.toString(), start));
+                } else if (text.startsWith("<=", position) || text.startsWith(">=", position)
+                        || text.startsWith("!=", position) || text.startsWith("<>", position)) {
+                    position += 2;
+                    tokens.add(new Token(TokenType.SYMBOL, text.substring(start, position), start));
+                } else if ("=<>(),".indexOf(c) >= 0) {
+                    position++;
+                    tokens.add(new Token(TokenType.SYMBOL, String.valueOf(c), start));
+                } else {
+                    throw error(new Token(TokenType.SYMBOL, String.valueOf(c), start), "Unexpected character '" + c + "'");
+                }
+            }
+            tokens.add(new Token(TokenType.END, "end of filter", text.length()));
+            return tokens;
+        }
+    }
+}
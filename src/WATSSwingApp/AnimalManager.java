@@ -11,22 +11,155 @@
 
 package WATSSwingApp;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
 import java.io.*;
 
 public class AnimalManager {
 
     /**
-     * List to store all animal records
+     * Storage for all animal records, kept in memory unless another repository is supplied
      */
-    private List<WildAnimal> animals = new ArrayList<>();
+    private final AnimalRepository repository;
     /**
-     * Set used to keep all unique IDs to animals
+     * Weight measurements of every animal, recorded whenever a weight is stored
      */
-    private Set<Integer> usedIds = new HashSet<>();
+    private final WeightHistory weightHistory = new WeightHistory();
     /**
-     * List to store all valid Health Statuses
+     * Location sightings of every animal, indexed for area and last known position queries
      */
-    private final List<String> validHealthStatuses = Arrays.asList("Healthy", "Injured", "Sick", "Unknown");
+    private final SightingLog sightingLog = new SightingLog();
+    /**
+     * Counts and total weights per species, age bracket and health status, kept current on every change
+     */
+    private final PivotCube pivotCube = new PivotCube();
+    /**
+     * Weight distribution per species (lower case), kept current on every change
+     */
+    private final Map<String, QuantileSketch> weightSketches = new HashMap<>();
+    /**
+     * Heaviest and oldest animals per species, kept current on every change
+     */
+    private final TopKIndex heaviest = new TopKIndex(WildAnimal::getWeight);
+    private final TopKIndex oldest = new TopKIndex(WildAnimal::getAge);
+    /**
+     * Fields each group of aggregates depends on; a change to any other field leaves the group untouched
+     */
+    private static final Set<AnimalPatch.Field> ALL_FIELDS = EnumSet.allOf(AnimalPatch.Field.class);
+    private static final Set<AnimalPatch.Field> PIVOT_FIELDS = EnumSet.of(AnimalPatch.Field.SPECIES,
+            AnimalPatch.Field.AGE, AnimalPatch.Field.WEIGHT, AnimalPatch.Field.HEALTH_STATUS);
+    private static final Set<AnimalPatch.Field> WEIGHT_FIELDS = EnumSet.of(AnimalPatch.Field.SPECIES,
+            AnimalPatch.Field.WEIGHT);
+    private static final Set<AnimalPatch.Field> AGE_FIELDS = EnumSet.of(AnimalPatch.Field.SPECIES,
+            AnimalPatch.Field.AGE);
+    /**
+     * Compiled validation rules shared by every write path
+     */
+    private final ValidationEngine validator;
+    /**
+     * Listeners notified when animal records change
+     */
+    private final List<AnimalChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    /**
+     * Parsed batches each file worker of a multi-file import may hold ahead of the importing thread
+     */
+    private static final int PARSE_AHEAD_BATCHES = 16;
+    /**
+     * Number of records looked up in the repository at a time when applying a change set
+     */
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    /**
+     * Method: AnimalManager (Constructor)
+     * Purpose: Creates a manager that keeps its records in memory.
+     * Arguments: None
+     * Return: None
+     */
+    public AnimalManager() {
+        this(new InMemoryAnimalRepository());
+    }
+
+    /**
+     * Method: AnimalManager (Constructor)
+     * Purpose: Creates a manager that keeps its records in the given repository.
+     * Arguments: AnimalRepository repository - storage for the animal records
+     * Return: None
+     */
+    public AnimalManager(AnimalRepository repository) {
+        this(repository, new ValidationRules());
+    }
+
+    /**
+     * Method: AnimalManager (Constructor)
+     * Purpose: Creates a manager that keeps its records in the given repository and validates
+     * them with the given rule set.
+     * Arguments: AnimalRepository repository - storage for the animal records,
+     * ValidationRules rules - the validation rules, compiled once here
+     * Return: None
+     */
+    public AnimalManager(AnimalRepository repository, ValidationRules rules) {
+        this.repository = repository;
+        this.validator = rules.compile();
+        // A persistent repository may already hold records
+        repository.forEach(this::index);
+    }
+
+    /**
+     * Method: getValidator
+     * Purpose: Returns the compiled validation rules, e.g. for the choices offered by the dialogs.
+     * Arguments: None
+     * Return: ValidationEngine - the validation rules
+     */
+    public ValidationEngine getValidator() {
+        return validator;
+    }
+
+    /**
+     * Method: addChangeListener
+     * Purpose: Registers a listener that is notified whenever animal records change.
+     * Arguments: AnimalChangeListener listener - the listener to register
+     * Return: void
+     */
+    public void addChangeListener(AnimalChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Method: removeChangeListener
+     * Purpose: Unregisters a previously registered change listener.
+     * Arguments: AnimalChangeListener listener - the listener to remove
+     * Return: void
+     */
+    public void removeChangeListener(AnimalChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    /**
+     * Method: fireAnimalsChanged
+     * Purpose: Notifies all registered listeners that animal records changed.
+     * Called outside the manager lock so listeners may read the manager freely.
+     * Arguments: None
+     * Return: void
+     */
+    private void fireAnimalsChanged() {
+        for (AnimalChangeListener listener : changeListeners) {
+            listener.animalsChanged();
+        }
+    }
+
+    /**
+     * Method: fireAnimalUpdated
+     * Purpose: Notifies all registered listeners that some fields of one record changed.
+     * Called outside the manager lock, and only when at least one field really changed.
+     * Arguments: int id - Tag ID, Set<AnimalPatch.Field> fields - the changed fields
+     * Return: void
+     */
+    private void fireAnimalUpdated(int id, Set<AnimalPatch.Field> fields) {
+        Set<AnimalPatch.Field> changed = Collections.unmodifiableSet(fields);
+        for (AnimalChangeListener listener : changeListeners) {
+            listener.animalUpdated(id, changed);
+        }
+    }
 
 
     /**
@@ -40,7 +173,7 @@ public class AnimalManager {
         try {
             System.out.print("Tag ID (unique integer): ");
             int id = Integer.parseInt(scanner.nextLine());
-            if (usedIds.contains(id)) {
+            if (repository.contains(id)) {
                 System.out.println("[ERROR] Tag ID already exists.");
                 return returnVal;
             }
@@ -52,23 +185,25 @@ public class AnimalManager {
 
             System.out.print("Age (non-negative): ");
             int age = Integer.parseInt(scanner.nextLine());
-            if (age < 0) throw new IllegalArgumentException("Age must be non-negative.");
 
             System.out.print("Gender: ");
             String gender = scanner.nextLine();
 
             System.out.print("Weight (positive): ");
             double weight = Double.parseDouble(scanner.nextLine());
-            if (weight <= 0) throw new IllegalArgumentException("Weight must be positive.");
 
-            System.out.print("Health Status (Healthy/Injured/Sick/Unknown): ");
+            System.out.print("Health Status (" + String.join("/", validator.getHealthStatuses()) + "): ");
             String health = scanner.nextLine();
-            if (!validHealthStatuses.contains(health)) {
-                throw new IllegalArgumentException("Invalid health status.");
-            }
 
-            animals.add(new WildAnimal(id, species, name, age, gender, weight, health));
-            usedIds.add(id);
+            WildAnimal animal = new WildAnimal(id, species, name, age, gender, weight, health);
+            validator.validate(animal);
+            synchronized (this) {
+                if (repository.contains(id)) {
+                    throw new DuplicateTagIdException();
+                }
+                storeAnimal(animal);
+            }
+            fireAnimalsChanged();
             returnVal = true;
             System.out.println("[SUCCESS] Animal added successfully.");
         } catch (NumberFormatException e) {
@@ -86,96 +221,401 @@ public class AnimalManager {
      * Return: boolean - true if success, false otherwise
      */
     public boolean addAnimal(WildAnimal animal) {
+        boolean returnVal = addAnimalLocked(animal);
+        fireAnimalsChanged();
+        return returnVal;
+    }
+
+    /**
+     * Method: addAnimalLocked
+     * Purpose: Validates and stores a new animal record while holding the manager lock.
+     * Arguments: WildAnimal animal - the animal record to be added
+     * Return: boolean - true if success, false otherwise
+     */
+    private synchronized boolean addAnimalLocked(WildAnimal animal) {
         boolean returnVal = true;
         // Validate unique ID
-        if (usedIds.contains(animal.getId())) {
-            returnVal = false;
-            throw new IllegalArgumentException("Tag ID already exists");
-        }
-
-        // Validate age
-        if (animal.getAge() < 0) {
-            returnVal = false;
-            throw new IllegalArgumentException("Age must be non-negative");
-        }
-
-        // Validate weight
-        if (animal.getWeight() <= 0) {
+        if (repository.contains(animal.getId())) {
             returnVal = false;
-            throw new IllegalArgumentException("Weight must be positive");
+            throw new DuplicateTagIdException();
         }
 
-        // Validate health status
-        if (!validHealthStatuses.contains(animal.getHealthStatus())) {
-            returnVal = false;
-            throw new IllegalArgumentException("Invalid health status");
-        }
+        // Validate the fields against the rule set
+        validator.validate(animal);
 
         // Add animal to list and track ID
-        animals.add(animal);
-        usedIds.add(animal.getId());
+        storeAnimal(animal);
 
         return returnVal;
     }
 
     /**
      * Method: uploadAnimalsFromFile
-     * Purpose: Uploads animals from a CSV file (format: species,name,age,gender,weight)
+     * Purpose: Uploads animals from a CSV file (format: id,species,name,age,gender,weight,health).
+     * The file may also be gzip-compressed (.gz) or a zip archive (.zip); every entry of a zip
+     * archive is imported in turn without extracting it to disk.
      * Arguments: String filename - the file name to load animal data from
-     * Return: Return: boolean - true if success, false otherwise
+     * Return: List<String> - summary messages describing the result of the upload
      */
     public List<String> uploadAnimalsFromFile(String filename) {
-        List<String> messages = new ArrayList<>();
-        int count = 0;
+        return importAnimalsFromFile(filename).toMessages();
+    }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split(",");
-                if (parts.length != 7) {
-                    messages.add("[WARNING] Skipping line due to missing fields: " + line);
-                    continue;
-                }
+    /**
+     * Method: importAnimalsFromFile
+     * Purpose: Uploads animals from a CSV, .gz or .zip file and returns structured diagnostics:
+     * counters per rejection reason, a bounded sample of rejected lines, and a side file
+     * (filename + ".rejects.csv") holding every rejected line.
+     * Arguments: String filename - the file name to load animal data from
+     * Return: ImportDiagnostics - the outcome of the import
+     */
+    public ImportDiagnostics importAnimalsFromFile(String filename) {
+        return importAnimalsFromFile(filename, ConflictPolicy.SKIP);
+    }
 
-                try {
-                    int id = Integer.parseInt(parts[0].trim());
-                    if (usedIds.contains(id)) {
-                        messages.add("[WARNING] Duplicate Tag ID skipped: " + id);
-                        continue;
-                    }
+    /**
+     * Method: importAnimalsFromFile
+     * Purpose: Uploads animals from a CSV, .gz or .zip file, resolving rows whose Tag ID already
+     * exists with the given conflict policy. With OVERWRITE_IF_CHANGED, rows equal to the stored
+     * record are detected through the cached record hash and cause no write at all.
+     * Arguments: String filename - the file name to load animal data from,
+     * ConflictPolicy policy - what to do with rows whose Tag ID already exists
+     * Return: ImportDiagnostics - the outcome of the import
+     */
+    public ImportDiagnostics importAnimalsFromFile(String filename, ConflictPolicy policy) {
+        ImportDiagnostics diagnostics = new ImportDiagnostics(ImportDiagnostics.rejectsFileFor(filename));
+        boolean changed = false;
+
+        try (PipelinedCsvReader reader = new PipelinedCsvReader(filename)) {
+            PipelinedCsvReader.LineBatch batch;
+            while ((batch = reader.nextBatch()) != null) {
+                changed |= importBatch(batch.getLines(), batch.getEntryName(), batch.getFirstLineNumber(),
+                        policy, diagnostics);
+            }
+        } catch (IOException e) {
+            diagnostics.error("File error: " + e.getMessage());
+        } finally {
+            diagnostics.close();
+        }
 
-                    String species = parts[1].trim();
-                    String name = parts[2].trim();
-                    int age = Integer.parseInt(parts[3].trim());
-                    if (age < 0) throw new IllegalArgumentException("Age must be non-negative.");
+        if (changed) {
+            fireAnimalsChanged();
+        }
+        return diagnostics;
+    }
 
-                    String gender = parts[4].trim();
-                    double weight = Double.parseDouble(parts[5].trim());
-                    if (weight <= 0) throw new IllegalArgumentException("Weight must be positive.");
+    /**
+     * Method: importAnimalsFromFiles
+     * Purpose: Uploads animals from several CSV, .gz or .zip files at once, such as one file per
+     * station. Each file is read and parsed by its own worker, so the files are processed
+     * concurrently, while the parsed rows are stored strictly in file order and then line order.
+     * A Tag ID that appears more than once is therefore resolved the same way on every run,
+     * exactly as if the files had been imported one after another: with SKIP the first row wins,
+     * with OVERWRITE the last. All files share one report and one rejects side file.
+     * Arguments: List<String> filenames - the files, in the order their rows take precedence,
+     * ConflictPolicy policy - what to do with rows whose Tag ID already exists
+     * Return: ImportDiagnostics - the consolidated outcome of the import
+     */
+    public ImportDiagnostics importAnimalsFromFiles(List<String> filenames, ConflictPolicy policy) {
+        if (filenames.isEmpty()) {
+            throw new IllegalArgumentException("No files to import");
+        }
+        ImportDiagnostics diagnostics = new ImportDiagnostics(ImportDiagnostics.rejectsFileFor(filenames));
+        List<BlockingQueue<ParsedBatch>> queues = new ArrayList<>(filenames.size());
+        // Workers start in file order and the files are drained in the same order, so the worker
+        // of the earliest unfinished file is always running and the bounded queues cannot deadlock
+        ExecutorService workers = Executors.newFixedThreadPool(
+                Math.min(filenames.size(), Runtime.getRuntime().availableProcessors()), task -> {
+                    Thread thread = new Thread(task, "wats-import-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        for (String filename : filenames) {
+            BlockingQueue<ParsedBatch> queue = new ArrayBlockingQueue<>(PARSE_AHEAD_BATCHES);
+            queues.add(queue);
+            workers.submit(() -> parseFile(filename, queue));
+        }
 
-                    String health = parts[6].trim();
-                    if (!validHealthStatuses.contains(health)) {
-                        throw new IllegalArgumentException("Invalid health status: " + health);
+        boolean changed = false;
+        try {
+            for (BlockingQueue<ParsedBatch> queue : queues) {
+                ParsedBatch parsed;
+                while ((parsed = queue.take()) != ParsedBatch.END_OF_FILE) {
+                    if (parsed.error != null) {
+                        diagnostics.error(parsed.error);
+                        continue;
                     }
+                    RowOutcome[] outcomes = new RowOutcome[parsed.batch.size()];
+                    storeRows(parsed.batch, null, 0, policy, outcomes);
+                    changed |= reportRows(parsed.batch, parsed.lines.getLines(), parsed.lines.getEntryName(),
+                            parsed.lines.getFirstLineNumber(), outcomes, diagnostics);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            diagnostics.error("Import interrupted");
+        } finally {
+            workers.shutdownNow();
+            diagnostics.close();
+        }
 
-                    animals.add(new WildAnimal(id, species, name, age, gender, weight, health));
-                    usedIds.add(id);
-                    count++;
+        if (changed) {
+            fireAnimalsChanged();
+        }
+        return diagnostics;
+    }
 
-                } catch (NumberFormatException e) {
-                    System.out.println("[ERROR] Invalid number format.");
-                } catch (IllegalArgumentException e) {
-                    System.out.println("[ERROR] " + e.getMessage());
+    /**
+     * Method: parseFile
+     * Purpose: Body of an import worker. Reads a file batch by batch, parses and validates each
+     * batch and hands it to the importing thread, followed by the end-of-file marker.
+     * Arguments: String filename - the file, BlockingQueue<ParsedBatch> queue - where the batches go
+     * Return: void
+     */
+    private void parseFile(String filename, BlockingQueue<ParsedBatch> queue) {
+        try {
+            try (PipelinedCsvReader reader = new PipelinedCsvReader(filename)) {
+                PipelinedCsvReader.LineBatch lines;
+                while ((lines = reader.nextBatch()) != null) {
+                    queue.put(new ParsedBatch(lines, parseAnimalLines(lines.getLines()), null));
                 }
+            } catch (IOException e) {
+                queue.put(new ParsedBatch(null, null, "File error in " + filename + ": " + e.getMessage()));
+            } catch (RuntimeException e) {
+                queue.put(new ParsedBatch(null, null, "Could not import " + filename + ": " + e.getMessage()));
             }
+            queue.put(ParsedBatch.END_OF_FILE);
+        } catch (InterruptedException e) {
+            // The import was abandoned; nobody reads the queue any more
+            Thread.currentThread().interrupt();
+        }
+    }
 
-            messages.add("[SUCCESS] " + count + " animals uploaded successfully.");
+    /**
+     * Class: ParsedBatch
+     * A parsed and validated batch of one file, or a file error, on its way to the importing thread.
+     */
+    private static final class ParsedBatch {
+        private static final ParsedBatch END_OF_FILE = new ParsedBatch(null, null, null);
 
-        } catch (IOException e) {
-            messages.add("[ERROR] File error: " + e.getMessage());
+        private final PipelinedCsvReader.LineBatch lines;
+        private final ValidationEngine.Batch batch;
+        private final String error;
+
+        ParsedBatch(PipelinedCsvReader.LineBatch lines, ValidationEngine.Batch batch, String error) {
+            this.lines = lines;
+            this.batch = batch;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Method: importAnimalLines
+     * Purpose: Imports a batch of CSV lines that did not come from a whole file, such as the
+     * newly appended lines of a watched file. Uses the same parsing rules as a file upload
+     * and notifies the listeners once for the whole batch.
+     * Arguments: List<String> lines - the CSV lines, String entryName - source reported in the diagnostics,
+     * long firstLineNumber - line number of the first line, ConflictPolicy policy - handling of existing
+     * Tag IDs, ImportDiagnostics diagnostics - result sink
+     * Return: void
+     */
+    public void importAnimalLines(List<String> lines, String entryName, long firstLineNumber,
+                                  ConflictPolicy policy, ImportDiagnostics diagnostics) {
+        if (importBatch(lines, entryName, firstLineNumber, policy, diagnostics)) {
+            fireAnimalsChanged();
+        }
+    }
+
+    /**
+     * Method: importBatch
+     * Purpose: Imports a batch of CSV lines. The lines are parsed into a columnar batch and
+     * validated as a whole before the manager lock is taken; only storing the rows needs the lock.
+     * Arguments: List<String> lines, String entryName, long firstLineNumber, ConflictPolicy policy,
+     * ImportDiagnostics diagnostics - see importAnimalLines
+     * Return: boolean - true if any record was added or updated
+     */
+    private boolean importBatch(List<String> lines, String entryName, long firstLineNumber,
+                                ConflictPolicy policy, ImportDiagnostics diagnostics) {
+        ValidationEngine.Batch batch = parseAnimalLines(lines);
+        RowOutcome[] outcomes = new RowOutcome[batch.size()];
+        storeRows(batch, null, 0, policy, outcomes);
+        return reportRows(batch, lines, entryName, firstLineNumber, outcomes, diagnostics);
+    }
+
+    /**
+     * Enum: RowOutcome
+     * What happened to a valid row of an import batch.
+     */
+    enum RowOutcome { ADDED, UPDATED, UNCHANGED, DUPLICATE }
+
+    /**
+     * Method: storeRows
+     * Purpose: Stores valid rows of a validated batch while holding the manager lock and records
+     * the outcome of each row. The records the rows hit are looked up in one repository call;
+     * new records and changed records are collected and handed to the repository together at
+     * the end. Rows that carry a rejection reason are left alone.
+     * Arguments: ValidationEngine.Batch batch - the validated rows, int[] rows - the rows to store,
+     * or null for every row, int rowCount - number of entries of rows used, ConflictPolicy policy -
+     * handling of existing Tag IDs, RowOutcome[] outcomes - receives the outcome per batch row
+     * Return: void
+     */
+    synchronized void storeRows(ValidationEngine.Batch batch, int[] rows, int rowCount, ConflictPolicy policy,
+                                RowOutcome[] outcomes) {
+        int count = rows == null ? batch.size() : rowCount;
+        List<Integer> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int row = rows == null ? i : rows[i];
+            if (batch.getReason(row) == null) {
+                ids.add(batch.getId(row));
+            }
+        }
+        ImportTargets targets = new ImportTargets(repository.findByIds(ids));
+        for (int i = 0; i < count; i++) {
+            int row = rows == null ? i : rows[i];
+            if (batch.getReason(row) == null) {
+                outcomes[row] = importAnimal(batch.toAnimal(row), policy, targets);
+            }
+        }
+        if (!targets.updated.isEmpty()) {
+            // Fields a record already held are written again, so every record takes the same statement
+            repository.updateAllFields(new ArrayList<>(targets.updated.values()), targets.written);
+        }
+        if (!targets.pending.isEmpty()) {
+            storeAnimals(new ArrayList<>(targets.pending.values()));
+        }
+    }
+
+    /**
+     * Class: ImportTargets
+     * The records an import batch works on: the stored records its rows hit, the new records not
+     * stored yet, and the stored records changed in memory together with the fields to write back.
+     */
+    private static final class ImportTargets {
+        final Map<Integer, WildAnimal> stored;
+        final Map<Integer, WildAnimal> pending = new LinkedHashMap<>();
+        final Map<Integer, WildAnimal> updated = new LinkedHashMap<>();
+        final Set<AnimalPatch.Field> written = EnumSet.noneOf(AnimalPatch.Field.class);
+
+        ImportTargets(Map<Integer, WildAnimal> stored) {
+            this.stored = stored;
+        }
+    }
+
+    /**
+     * Method: reportRows
+     * Purpose: Reports every row of a stored batch to the diagnostics sink in line order:
+     * rejected rows together with their reason, the other rows with their outcome.
+     * Arguments: ValidationEngine.Batch batch - the validated rows, List<String> lines - the source lines,
+     * String entryName, long firstLineNumber - see importAnimalLines, RowOutcome[] outcomes - the
+     * outcome per row, ImportDiagnostics diagnostics - result sink
+     * Return: boolean - true if any record was added or updated
+     */
+    static boolean reportRows(ValidationEngine.Batch batch, List<String> lines, String entryName,
+                              long firstLineNumber, RowOutcome[] outcomes, ImportDiagnostics diagnostics) {
+        boolean changed = false;
+        int row = 0;
+        for (String line : lines) {
+            long lineNumber = firstLineNumber + row;
+            ImportDiagnostics.Reason reason = batch.getReason(row);
+            if (reason != null) {
+                diagnostics.reject(entryName, lineNumber, reason, line);
+            } else {
+                switch (outcomes[row]) {
+                    case ADDED:
+                        diagnostics.accept(entryName);
+                        changed = true;
+                        break;
+                    case UPDATED:
+                        diagnostics.updated(entryName);
+                        changed = true;
+                        break;
+                    case UNCHANGED:
+                        diagnostics.unchanged(entryName);
+                        break;
+                    default:
+                        diagnostics.reject(entryName, lineNumber, ImportDiagnostics.Reason.DUPLICATE_ID, line);
+                }
+            }
+            row++;
+        }
+        return changed;
+    }
+
+    /**
+     * Method: importAnimal
+     * Purpose: Adds a validated animal, resolving an existing Tag ID with the conflict policy.
+     * Changes to a stored record are made in memory and only collected for writing back. A row
+     * identical to the record it would overwrite is UNCHANGED under either overwrite policy.
+     * Arguments: WildAnimal animal - the validated record, ConflictPolicy policy - handling of existing
+     * Tag IDs, ImportTargets targets - the records of the batch
+     * Return: RowOutcome - what happened to the record
+     */
+    private RowOutcome importAnimal(WildAnimal animal, ConflictPolicy policy, ImportTargets targets) {
+        WildAnimal existing = targets.pending.get(animal.getId());
+        boolean existingPending = existing != null;
+        if (!existingPending) {
+            existing = targets.stored.get(animal.getId());
+        }
+        if (existing == null) {
+            targets.pending.put(animal.getId(), animal);
+            return RowOutcome.ADDED;
+        }
+        if (policy == ConflictPolicy.SKIP) {
+            return RowOutcome.DUPLICATE;
+        }
+        if (policy == ConflictPolicy.OVERWRITE_IF_CHANGED && existing.hasSameContent(animal)) {
+            return RowOutcome.UNCHANGED;
+        }
+        if (existingPending) {
+            if (existing.hasSameContent(animal)) {
+                return RowOutcome.UNCHANGED;
+            }
+            targets.pending.put(animal.getId(), animal);
+            return RowOutcome.UPDATED;
         }
+        AnimalPatch patch = AnimalPatch.between(existing, animal);
+        Set<AnimalPatch.Field> changed = patch.getDirtyFields();
+        if (changed.isEmpty()) {
+            return RowOutcome.UNCHANGED;
+        }
+        unindex(existing, changed);
+        patch.applyTo(existing, changed);
+        index(existing, changed);
+        if (changed.contains(AnimalPatch.Field.WEIGHT)) {
+            weightHistory.record(existing.getId(), System.currentTimeMillis(), existing.getWeight());
+        }
+        targets.updated.put(existing.getId(), existing);
+        targets.written.addAll(changed);
+        return RowOutcome.UPDATED;
+    }
 
-        return messages;
+    /**
+     * Method: parseAnimalLines
+     * Purpose: Parses CSV lines (format: id,species,name,age,gender,weight,health) into a columnar
+     * batch and validates it, without storing anything. Row i of the batch belongs to line i;
+     * rows that failed to parse or validate carry the reason. Used by the imports and by tools
+     * that stream CSV data elsewhere.
+     * Arguments: List<String> lines - the CSV lines
+     * Return: ValidationEngine.Batch - the parsed and validated rows
+     */
+    ValidationEngine.Batch parseAnimalLines(List<String> lines) {
+        ValidationEngine.Batch batch = new ValidationEngine.Batch(lines.size());
+        for (String line : lines) {
+            String[] parts = line.split(",");
+            if (parts.length != 7) {
+                batch.addRejected(ImportDiagnostics.Reason.MISSING_FIELDS);
+                continue;
+            }
+            try {
+                batch.add(Integer.parseInt(parts[0].trim()), parts[1].trim(), parts[2].trim(),
+                        Integer.parseInt(parts[3].trim()), parts[4].trim(), Double.parseDouble(parts[5].trim()),
+                        parts[6].trim());
+            } catch (NumberFormatException e) {
+                batch.addRejected(ImportDiagnostics.Reason.INVALID_NUMBER);
+            }
+        }
+        validator.validate(batch);
+        return batch;
     }
 
     /**
@@ -184,11 +624,11 @@ public class AnimalManager {
      * Arguments: None
      * Return: void
      */
-    public void displayAllAnimals() {
-        if (animals.isEmpty()) {
+    public synchronized void displayAllAnimals() {
+        if (repository.size() == 0) {
             System.out.println("[INFO] No animals to display.");
         } else {
-            animals.forEach(System.out::println);
+            repository.forEach(System.out::println);
         }
     }
 
@@ -210,32 +650,33 @@ public class AnimalManager {
             }
 
             System.out.print("New Species: ");
-            animal.setSpecies(scanner.nextLine());
+            String species = scanner.nextLine();
             System.out.print("New Name: ");
-            animal.setName(scanner.nextLine());
+            String name = scanner.nextLine();
 
             System.out.print("New Age: ");
             int age = Integer.parseInt(scanner.nextLine());
-            if (age < 0) throw new IllegalArgumentException("Age must be non-negative.");
-            animal.setAge(age);
 
             System.out.print("New Gender: ");
-            animal.setGender(scanner.nextLine());
+            String gender = scanner.nextLine();
 
             System.out.print("New Weight: ");
             double weight = Double.parseDouble(scanner.nextLine());
-            if (weight <= 0) throw new IllegalArgumentException("Weight must be positive.");
-            animal.setWeight(weight);
 
-            System.out.print("New Health Status (Healthy/Injured/Sick/Unknown): ");
+            System.out.print("New Health Status (" + String.join("/", validator.getHealthStatuses()) + "): ");
             String health = scanner.nextLine();
-            if (!validHealthStatuses.contains(health)) {
-                throw new IllegalArgumentException("Invalid health status.");
-            }
-            animal.setHealthStatus(health);
+
+            // Validated as a whole, so a bad value leaves the stored record untouched
+            Set<AnimalPatch.Field> changed = updateAnimalLocked(id,
+                    new WildAnimal(id, species, name, age, gender, weight, health));
 
             returnVal = true;
-            System.out.println("[SUCCESS] Animal updated successfully.");
+            if (changed.isEmpty()) {
+                System.out.println("[INFO] No changes to save.");
+            } else {
+                fireAnimalUpdated(id, changed);
+                System.out.println("[SUCCESS] Animal updated successfully.");
+            }
         } catch (Exception e) {
             System.out.println("[ERROR] " + e.getMessage());
         }
@@ -244,45 +685,77 @@ public class AnimalManager {
 
     /**
      * Method: updateAnimal
-     * Purpose: Updates an existing animal's details by Tag ID.
+     * Purpose: Updates an existing animal's details by Tag ID. Only the fields that differ from
+     * the stored record are written; an update that changes nothing notifies no listener.
      * Arguments: int id - Tag ID, WildAnimal updatedAnimal - animal record to be updated
      * Return: boolean - true if success, false otherwise
      */
     public boolean updateAnimal(int id, WildAnimal updatedAnimal) {
-        boolean returnVal = true;
+        Set<AnimalPatch.Field> changed = updateAnimalLocked(id, updatedAnimal);
+        if (!changed.isEmpty()) {
+            fireAnimalUpdated(id, changed);
+        }
+        return true;
+    }
+
+    /**
+     * Method: updateAnimalLocked
+     * Purpose: Validates and applies an update while holding the manager lock.
+     * Arguments: int id - Tag ID, WildAnimal updatedAnimal - animal record to be updated
+     * Return: Set<AnimalPatch.Field> - the fields that changed, empty if the record already held these values
+     */
+    synchronized Set<AnimalPatch.Field> updateAnimalLocked(int id, WildAnimal updatedAnimal) {
         WildAnimal existingAnimal = findAnimalById(id);
         if (existingAnimal == null) {
-            returnVal = false;
-            throw new IllegalArgumentException("Animal with ID " + id + " not found.");
+            throw new AnimalNotFoundException(id);
         }
 
-        // Validate age
-        if (updatedAnimal.getAge() < 0) {
-            returnVal = false;
-            throw new IllegalArgumentException("Age must be non-negative");
-        }
+        // Validate the fields against the rule set
+        validator.validate(updatedAnimal);
 
-        // Validate weight
-        if (updatedAnimal.getWeight() <= 0) {
-            returnVal = false;
-            throw new IllegalArgumentException("Weight must be positive");
-        }
+        // Apply updates
+        return applyFields(existingAnimal, updatedAnimal);
+    }
 
-        // Validate health status
-        if (!validHealthStatuses.contains(updatedAnimal.getHealthStatus())) {
-            returnVal = false;
-            throw new IllegalArgumentException("Invalid health status");
+    /**
+     * Method: patchAnimal
+     * Purpose: Changes only the fields set on a patch. Fields already holding the patched value
+     * are ignored; if none is left the record, its indexes and the listeners are not touched.
+     * The patched record is validated as a whole before anything is changed.
+     * Arguments: int id - Tag ID, AnimalPatch patch - the fields to change
+     * Return: boolean - true if the record changed, false if the patch changed nothing
+     */
+    public boolean patchAnimal(int id, AnimalPatch patch) {
+        Set<AnimalPatch.Field> changed = patchAnimalLocked(id, patch);
+        if (changed.isEmpty()) {
+            return false;
         }
+        fireAnimalUpdated(id, changed);
+        return true;
+    }
 
-        // Apply updates
-        existingAnimal.setSpecies(updatedAnimal.getSpecies());
-        existingAnimal.setName(updatedAnimal.getName());
-        existingAnimal.setAge(updatedAnimal.getAge());
-        existingAnimal.setGender(updatedAnimal.getGender());
-        existingAnimal.setWeight(updatedAnimal.getWeight());
-        existingAnimal.setHealthStatus(updatedAnimal.getHealthStatus());
-
-        return returnVal;
+    /**
+     * Method: patchAnimalLocked
+     * Purpose: Validates and applies a patch while holding the manager lock.
+     * Arguments: int id - Tag ID, AnimalPatch patch - the fields to change
+     * Return: Set<AnimalPatch.Field> - the fields that changed, empty for a no-op
+     */
+    synchronized Set<AnimalPatch.Field> patchAnimalLocked(int id, AnimalPatch patch) {
+        WildAnimal existingAnimal = findAnimalById(id);
+        if (existingAnimal == null) {
+            throw new AnimalNotFoundException(id);
+        }
+        EnumSet<AnimalPatch.Field> changed = patch.changedFields(existingAnimal);
+        if (changed.isEmpty()) {
+            return changed;
+        }
+        WildAnimal patched = patch.preview(existingAnimal);
+        validator.validate(patched);
+        if (changed.contains(AnimalPatch.Field.WEIGHT)) {
+            weightHistory.record(id, System.currentTimeMillis(), patched.getWeight());
+        }
+        writeFields(existingAnimal, patch, changed);
+        return changed;
     }
 
     /**
@@ -296,10 +769,15 @@ public class AnimalManager {
         try {
             System.out.print("Enter Animal Tag ID to delete: ");
             int id = Integer.parseInt(scanner.nextLine());
-            WildAnimal animal = findAnimalById(id);
+            WildAnimal animal;
+            synchronized (this) {
+                animal = findAnimalById(id);
+                if (animal != null) {
+                    removeAnimal(animal);
+                }
+            }
             if (animal != null) {
-                animals.remove(animal);
-                usedIds.remove(id);
+                fireAnimalsChanged();
                 returnVal = true;
                 System.out.println("[SUCCESS] Animal deleted successfully.");
             } else {
@@ -318,81 +796,959 @@ public class AnimalManager {
      * Return: boolean - true if success, false otherwise
      */
     public boolean deleteAnimal(int id) {
+        boolean returnVal = deleteAnimalLocked(id);
+        fireAnimalsChanged();
+        return returnVal;
+    }
+
+    /**
+     * Method: deleteAnimalLocked
+     * Purpose: Removes an animal record while holding the manager lock.
+     * Arguments: int id - the tag id for the record to be deleted
+     * Return: boolean - true if success, false otherwise
+     */
+    private synchronized boolean deleteAnimalLocked(int id) {
         boolean returnVal = true;
         WildAnimal animal = findAnimalById(id);
         if (animal != null) {
-            animals.remove(animal);
-            usedIds.remove(id);
+            removeAnimal(animal);
         } else {
             returnVal = false;
-            throw new IllegalArgumentException("Animal with ID " + id + " not found.");
+            throw new AnimalNotFoundException(id);
         }
 
         return returnVal;
     }
 
     /**
-     * Method: calculateAverageWeightBySpecies
-     * Purpose: Calculates and displays the average weight of animals by species.
-     * Arguments: Scanner - the scanner instance for reading user input from the console
-     * Return: void
+     * Method: deleteAnimals
+     * Purpose: Deletes every animal matching a condition in one batch. The repository removes the
+     * records in a single pass and listeners are notified once.
+     * Arguments: Predicate<WildAnimal> condition - selects the records to delete
+     * Return: int - number of records deleted
      */
-    public void calculateAverageWeightBySpecies(Scanner scanner) {
-        System.out.print("Enter species: ");
-        String species = scanner.nextLine();
-        double totalWeight = 0;
-        int count = 0;
-        for (WildAnimal a : animals) {
-            if (a.getSpecies().equalsIgnoreCase(species)) {
-                totalWeight += a.getWeight();
-                count++;
-            }
+    public int deleteAnimals(Predicate<WildAnimal> condition) {
+        int removed;
+        synchronized (this) {
+            removed = removeAnimals(matching(condition));
         }
-
-        if (count > 0) {
-            System.out.printf("[INFO] Average weight for species '%s': %.2f\n", species, totalWeight / count);
-        } else {
-            System.out.println("[INFO] No animals found for that species.");
+        if (removed > 0) {
+            fireAnimalsChanged();
         }
+        return removed;
     }
 
     /**
-     * Method: calculateAverageWeightBySpecies
-     * Purpose: Calculates and displays the average weight of animals by species.
-     * Arguments: String species - the animal species to use
-     * Return: double - calculated average weight
+     * Method: deleteAnimals
+     * Purpose: Deletes every animal matching a filter expression in one batch.
+     * Arguments: AnimalFilter filter - the compiled filter
+     * Return: int - number of records deleted
      */
-    public double calculateAverageWeightBySpecies(String species) {
-        double totalWeight = 0;
-        double average = 0;
-
-        int count = 0;
-
-        for (WildAnimal animal : animals) {
-            if (animal.getSpecies().equalsIgnoreCase(species)) {
-                totalWeight += animal.getWeight();
-                count++;
-            }
+    public int deleteAnimals(AnimalFilter filter) {
+        int removed;
+        synchronized (this) {
+            removed = removeAnimals(repository.findMatching(filter));
         }
-
-        if (count > 0) {
-            average = totalWeight / count;
-            System.out.printf("[INFO] Average weight for species '%s': %.2f%n", species, average);
-        } else {
-            System.out.println("[INFO] No animals found for species: " + species);
+        if (removed > 0) {
+            fireAnimalsChanged();
         }
-
-        return average;
+        return removed;
     }
 
     /**
-     * Method: findAnimalById
-     * Purpose: Helper method to find an animal by its Tag ID.
+     * Method: deleteAnimals
+     * Purpose: Deletes the animals with the given Tag IDs, such as the rows selected in the table,
+     * in one batch. Unknown Tag IDs are ignored.
+     * Arguments: Collection<Integer> ids - the Tag IDs
+     * Return: int - number of records deleted
+     */
+    public int deleteAnimals(Collection<Integer> ids) {
+        int removed;
+        synchronized (this) {
+            removed = removeAnimals(withIds(ids));
+        }
+        if (removed > 0) {
+            fireAnimalsChanged();
+        }
+        return removed;
+    }
+
+    /**
+     * Method: updateAnimals
+     * Purpose: Applies the same patch to every animal matching a condition. All patched records are
+     * validated before any is changed, so an invalid value changes nothing. Records already
+     * holding the patched values are skipped, and listeners are notified once.
+     * Arguments: Predicate<WildAnimal> condition - selects the records, AnimalPatch patch - the fields to set
+     * Return: int - number of records changed
+     */
+    public int updateAnimals(Predicate<WildAnimal> condition, AnimalPatch patch) {
+        int changed;
+        synchronized (this) {
+            changed = patchAnimals(matching(condition), patch);
+        }
+        if (changed > 0) {
+            fireAnimalsChanged();
+        }
+        return changed;
+    }
+
+    /**
+     * Method: updateAnimals
+     * Purpose: Applies the same patch to every animal matching a filter expression.
+     * Arguments: AnimalFilter filter - the compiled filter, AnimalPatch patch - the fields to set
+     * Return: int - number of records changed
+     */
+    public int updateAnimals(AnimalFilter filter, AnimalPatch patch) {
+        int changed;
+        synchronized (this) {
+            changed = patchAnimals(repository.findMatching(filter), patch);
+        }
+        if (changed > 0) {
+            fireAnimalsChanged();
+        }
+        return changed;
+    }
+
+    /**
+     * Method: updateAnimals
+     * Purpose: Applies the same patch to the animals with the given Tag IDs. Unknown Tag IDs are ignored.
+     * Arguments: Collection<Integer> ids - the Tag IDs, AnimalPatch patch - the fields to set
+     * Return: int - number of records changed
+     */
+    public int updateAnimals(Collection<Integer> ids, AnimalPatch patch) {
+        int changed;
+        synchronized (this) {
+            changed = patchAnimals(withIds(ids), patch);
+        }
+        if (changed > 0) {
+            fireAnimalsChanged();
+        }
+        return changed;
+    }
+
+    /**
+     * Method: applyChangeSet
+     * Purpose: Applies the changes found by comparing this dataset with another one as a single
+     * batch: every added and updated record is validated before anything is changed, then the
+     * deletes, updates and adds are written to the repository as one batch each, and listeners
+     * are notified once. Records changed here since the comparison are handled gracefully: an add
+     * for an existing Tag ID updates it, an update for a missing Tag ID adds it, and deletes of
+     * missing Tag IDs are ignored.
+     * Arguments: DatasetSnapshot.ChangeSet changes - the result of DatasetSnapshot.diff
+     * Return: int - number of records added, changed or deleted
+     */
+    public int applyChangeSet(DatasetSnapshot.ChangeSet changes) {
+        int applied;
+        synchronized (this) {
+            applied = applyChangeSetLocked(changes);
+        }
+        if (applied > 0) {
+            fireAnimalsChanged();
+        }
+        return applied;
+    }
+
+    /**
+     * Method: applyChangeSetLocked
+     * Purpose: Body of applyChangeSet; the caller holds the manager lock. The stored records are
+     * looked up a chunk at a time, so a database answers one query per chunk.
+     * Arguments: DatasetSnapshot.ChangeSet changes - the changes
+     * Return: int - number of records added, changed or deleted
+     */
+    private int applyChangeSetLocked(DatasetSnapshot.ChangeSet changes) {
+        List<WildAnimal> records = new ArrayList<>(changes.getAdded().size() + changes.getUpdated().size());
+        records.addAll(changes.getAdded());
+        records.addAll(changes.getUpdated());
+        for (WildAnimal record : records) {
+            try {
+                validator.validate(record);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Animal with ID " + record.getId() + ": " + e.getMessage(), e);
+            }
+        }
+
+        int applied = removeAnimals(withIds(changes.getDeleted()));
+        List<WildAnimal> inserts = new ArrayList<>();
+        List<WildAnimal> targets = new ArrayList<>();
+        Set<AnimalPatch.Field> written = EnumSet.noneOf(AnimalPatch.Field.class);
+        long now = System.currentTimeMillis();
+        Map<Integer, WildAnimal> stored = Map.of();
+        for (int i = 0; i < records.size(); i++) {
+            WildAnimal record = records.get(i);
+            if (i % LOOKUP_CHUNK_SIZE == 0) {
+                List<Integer> ids = new ArrayList<>(LOOKUP_CHUNK_SIZE);
+                for (WildAnimal next : records.subList(i, Math.min(i + LOOKUP_CHUNK_SIZE, records.size()))) {
+                    ids.add(next.getId());
+                }
+                stored = repository.findByIds(ids);
+            }
+            WildAnimal current = stored.get(record.getId());
+            if (current == null) {
+                inserts.add(new WildAnimal(record.getId(), record.getSpecies(), record.getName(), record.getAge(),
+                        record.getGender(), record.getWeight(), record.getHealthStatus()));
+                continue;
+            }
+            AnimalPatch patch = AnimalPatch.between(current, record);
+            Set<AnimalPatch.Field> changed = patch.getDirtyFields();
+            if (changed.isEmpty()) {
+                continue;
+            }
+            unindex(current, changed);
+            patch.applyTo(current, changed);
+            index(current, changed);
+            if (changed.contains(AnimalPatch.Field.WEIGHT)) {
+                weightHistory.record(current.getId(), now, current.getWeight());
+            }
+            targets.add(current);
+            written.addAll(changed);
+        }
+        if (!targets.isEmpty()) {
+            // Fields a record already held are written again, so every record takes the same statement
+            repository.updateAllFields(targets, written);
+        }
+        storeAnimals(inserts);
+        return applied + targets.size() + inserts.size();
+    }
+
+    /**
+     * Method: calculateAverageWeightBySpecies
+     * Purpose: Calculates and displays the average weight of animals by species.
+     * Arguments: Scanner - the scanner instance for reading user input from the console
+     * Return: void
+     */
+    public void calculateAverageWeightBySpecies(Scanner scanner) {
+        System.out.print("Enter species: ");
+        String species = scanner.nextLine();
+        double totalWeight = 0;
+        int count = 0;
+        for (WildAnimal a : getAllAnimals()) {
+            if (a.getSpecies().equalsIgnoreCase(species)) {
+                totalWeight += a.getWeight();
+                count++;
+            }
+        }
+
+        if (count > 0) {
+            System.out.printf("[INFO] Average weight for species '%s': %.2f\n", species, totalWeight / count);
+        } else {
+            System.out.println("[INFO] No animals found for that species.");
+        }
+    }
+
+    /**
+     * Method: calculateAverageWeightBySpecies
+     * Purpose: Calculates and displays the average weight of animals by species.
+     * Arguments: String species - the animal species to use
+     * Return: double - calculated average weight
+     */
+    public double calculateAverageWeightBySpecies(String species) {
+        double average = 0;
+        SpeciesSummary summary = summarizeSpecies(species);
+        double totalWeight = summary.getTotalWeight();
+        long count = summary.getCount();
+
+        if (count > 0) {
+            average = totalWeight / count;
+            System.out.printf("[INFO] Average weight for species '%s': %.2f%n", species, average);
+        } else {
+            System.out.println("[INFO] No animals found for species: " + species);
+        }
+
+        return average;
+    }
+
+    /**
+     * Method: getAnimalCount
+     * Purpose: Returns the number of stored animals.
+     * Arguments: None
+     * Return: int - number of animals
+     */
+    synchronized int getAnimalCount() {
+        return repository.size();
+    }
+
+    /**
+     * Method: summarizeSpecies
+     * Purpose: Counts the animals of one species (ignoring case) and sums their weights.
+     * Arguments: String species - the species
+     * Return: SpeciesSummary - the figures, with a count of 0 if there is no such animal
+     */
+    synchronized SpeciesSummary summarizeSpecies(String species) {
+        return repository.summarizeSpecies(species);
+    }
+
+    /**
+     * Method: findAnimals
+     * Purpose: Returns the animals matching a filter expression such as
+     * "species = 'Lion' and weight > 150". The expression is compiled before the lock is taken.
+     * Arguments: String expression - the filter, see AnimalFilter
+     * Return: List<WildAnimal> - the matching animals
+     */
+    public List<WildAnimal> findAnimals(String expression) {
+        return findAnimals(AnimalFilter.compile(expression));
+    }
+
+    /**
+     * Method: findAnimals
+     * Purpose: Returns the animals matching a compiled filter, using the repository's indexes where the filter allows.
+     * Arguments: AnimalFilter filter - the compiled filter
+     * Return: List<WildAnimal> - the matching animals
+     */
+    public synchronized List<WildAnimal> findAnimals(AnimalFilter filter) {
+        return repository.findMatching(filter);
+    }
+
+    /**
+     * Method: findAnimalIds
+     * Purpose: Returns the Tag IDs of the animals matching a filter, or of every animal, in the order
+     * the records would be returned. With copyAnimals a large result is read a chunk at a time.
+     * Arguments: AnimalFilter filter - the compiled filter, or null for every animal
+     * Return: int[] - the Tag IDs
+     */
+    public int[] findAnimalIds(AnimalFilter filter) {
+        return findAnimalIds(filter, null);
+    }
+
+    /**
+     * Method: findAnimalIds
+     * Purpose: Returns the Tag IDs of the animals of one species (compared by WildAnimal.speciesKey)
+     * matching a filter, so a species-filtered export only copies the records it sends.
+     * Arguments: AnimalFilter filter - the compiled filter, or null for every animal,
+     * String species - the species, or null for every species
+     * Return: int[] - the Tag IDs
+     */
+    public synchronized int[] findAnimalIds(AnimalFilter filter, String species) {
+        String key = species == null ? null : WildAnimal.speciesKey(species);
+        Predicate<WildAnimal> ofSpecies = animal -> key == null || key.equals(WildAnimal.speciesKey(animal.getSpecies()));
+        if (filter != null) {
+            return repository.findMatching(filter).stream().filter(ofSpecies).mapToInt(WildAnimal::getId).toArray();
+        }
+        if (key != null) {
+            List<Integer> ids = new ArrayList<>();
+            repository.forEach(animal -> {
+                if (ofSpecies.test(animal)) {
+                    ids.add(animal.getId());
+                }
+            });
+            return ids.stream().mapToInt(Integer::intValue).toArray();
+        }
+        // The lock keeps the size and the records in step
+        int[] ids = new int[repository.size()];
+        int[] count = { 0 };
+        repository.forEach(animal -> ids[count[0]++] = animal.getId());
+        return ids;
+    }
+
+    /**
+     * Method: copyAnimals
+     * Purpose: Copies the records with some of the given Tag IDs while holding the manager lock, so
+     * every copy is consistent and can be used without the lock. Records deleted since the Tag IDs
+     * were read are left out.
+     * Arguments: int[] ids - the Tag IDs, int from - first index used, int to - index after the last one used
+     * Return: List<WildAnimal> - copies of the records found, in the order of the Tag IDs
+     */
+    public synchronized List<WildAnimal> copyAnimals(int[] ids, int from, int to) {
+        List<Integer> chunk = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            chunk.add(ids[i]);
+        }
+        Map<Integer, WildAnimal> found = repository.findByIds(chunk);
+        List<WildAnimal> copies = new ArrayList<>(found.size());
+        for (int id : chunk) {
+            WildAnimal animal = found.get(id);
+            if (animal != null) {
+                copies.add(copyOf(animal));
+            }
+        }
+        return copies;
+    }
+
+    /**
+     * Method: copyAnimalById
+     * Purpose: Copies one record while holding the manager lock, so the copy can be used without the lock.
+     * Arguments: int id - the Tag ID
+     * Return: WildAnimal - a copy of the record, or null if there is none
+     */
+    public synchronized WildAnimal copyAnimalById(int id) {
+        WildAnimal animal = repository.findById(id);
+        return animal == null ? null : copyOf(animal);
+    }
+
+    private static WildAnimal copyOf(WildAnimal animal) {
+        return new WildAnimal(animal.getId(), animal.getSpecies(), animal.getName(), animal.getAge(),
+                animal.getGender(), animal.getWeight(), animal.getHealthStatus());
+    }
+
+    /**
+     * Method: forEachAnimal
+     * Purpose: Passes every animal record to the given action without copying the list.
+     * The manager lock is held meanwhile, so the action must not modify the manager.
+     * Arguments: Consumer<WildAnimal> action - called once per record
+     * Return: void
+     */
+    public synchronized void forEachAnimal(java.util.function.Consumer<WildAnimal> action) {
+        repository.forEach(action);
+    }
+
+    /**
+     * Method: summarizeBySpecies
+     * Purpose: Counts the animals and sums their weights per species in a single pass,
+     * or in the database when the repository supports it.
+     * Arguments: None
+     * Return: List<SpeciesSummary> - one summary per species
+     */
+    public synchronized List<SpeciesSummary> summarizeBySpecies() {
+        return repository.summarizeBySpecies();
+    }
+
+    /**
+     * Method: getPivot
+     * Purpose: Returns the animal count and mean weight broken down by two dimensions, read from
+     * the aggregate cube rather than from the records.
+     * Arguments: PivotCube.Dimension rows - dimension of the rows, PivotCube.Dimension columns - dimension
+     * of the columns, Map<PivotCube.Dimension, String> filter - required value per dimension, for drill-down
+     * Return: PivotCube.Pivot - the pivot table
+     */
+    public synchronized PivotCube.Pivot getPivot(PivotCube.Dimension rows, PivotCube.Dimension columns,
+                                                 Map<PivotCube.Dimension, String> filter) {
+        return pivotCube.pivot(rows, columns, filter);
+    }
+
+    /**
+     * Method: getWeightQuantiles
+     * Purpose: Estimates quantiles of the weights of one species (ignoring case) from its sketch,
+     * within QuantileSketch.DEFAULT_RELATIVE_ACCURACY, without reading the records.
+     * Arguments: String species - the species, double... quantiles - e.g. 0.05, 0.5, 0.95
+     * Return: double[] - one estimate per quantile, NaN if there is no animal of the species
+     */
+    public synchronized double[] getWeightQuantiles(String species, double... quantiles) {
+        QuantileSketch sketch = weightSketches.get(WildAnimal.speciesKey(species));
+        double[] estimates = new double[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++) {
+            estimates[i] = sketch == null ? Double.NaN : sketch.getQuantile(quantiles[i]);
+        }
+        return estimates;
+    }
+
+    /**
+     * Method: getWeightSketch
+     * Purpose: Returns a copy of the weight sketch of one species (ignoring case), e.g. to merge it
+     * with the sketches of other managers.
+     * Arguments: String species - the species
+     * Return: QuantileSketch - the copy, empty if there is no animal of the species
+     */
+    public synchronized QuantileSketch getWeightSketch(String species) {
+        QuantileSketch sketch = weightSketches.get(WildAnimal.speciesKey(species));
+        return sketch == null ? new QuantileSketch() : sketch.copy();
+    }
+
+    /**
+     * Method: getHeaviestAnimals
+     * Purpose: Returns the heaviest animals of a species (ignoring case), heaviest first.
+     * Arguments: String species - the species, int k - number of animals, at most TopKIndex.MAX_K
+     * Return: List<WildAnimal> - up to k animals
+     */
+    public synchronized List<WildAnimal> getHeaviestAnimals(String species, int k) {
+        return topAnimals(heaviest, species, k);
+    }
+
+    /**
+     * Method: getOldestAnimals
+     * Purpose: Returns the oldest animals of a species (ignoring case), oldest first.
+     * Arguments: String species - the species, int k - number of animals, at most TopKIndex.MAX_K
+     * Return: List<WildAnimal> - up to k animals
+     */
+    public synchronized List<WildAnimal> getOldestAnimals(String species, int k) {
+        return topAnimals(oldest, species, k);
+    }
+
+    /**
+     * Method: topAnimals
+     * Purpose: Helper method to read a leaderboard from a top-K index. If removals left the index
+     * of the species too short, it is first rebuilt from the species' records. The records are
+     * returned as copies, so callers may read them without the manager lock.
+     * Arguments: TopKIndex index - the index, String species - the species, int k - number of animals
+     * Return: List<WildAnimal> - up to k animals
+     */
+    private List<WildAnimal> topAnimals(TopKIndex index, String species, int k) {
+        if (index.needsRepair(species, k)) {
+            List<WildAnimal> members = new ArrayList<>();
+            String key = WildAnimal.speciesKey(species);
+            repository.forEach(animal -> {
+                if (WildAnimal.speciesKey(animal.getSpecies()).equals(key)) {
+                    members.add(animal);
+                }
+            });
+            index.rebuild(species, members);
+        }
+        List<WildAnimal> animals = new ArrayList<>(k);
+        for (int id : index.top(species, k)) {
+            animals.add(copyOf(repository.findById(id)));
+        }
+        return animals;
+    }
+
+    /**
+     * Method: recordWeight
+     * Purpose: Adds a weight measurement taken at a given time, such as a historical or collar
+     * reading. Readings newer than every other reading of the animal also become its current weight.
+     * Arguments: int id - Tag ID, long timeMillis - when the weight was measured, double weight - the weight
+     * Return: void
+     */
+    public void recordWeight(int id, long timeMillis, double weight) {
+        EnumSet<AnimalPatch.Field> changed = EnumSet.noneOf(AnimalPatch.Field.class);
+        synchronized (this) {
+            WildAnimal animal = repository.findById(id);
+            if (animal == null) {
+                throw new AnimalNotFoundException(id);
+            }
+            // The reading must satisfy the same rules as the animal's current weight
+            AnimalPatch patch = new AnimalPatch().setWeight(weight);
+            validator.validate(patch.preview(animal));
+            weightHistory.record(id, timeMillis, weight);
+            List<WeightHistory.Reading> latest = weightHistory.latest(id, 1);
+            if (latest.get(0).getTimeMillis() <= timeMillis) {
+                changed = patch.changedFields(animal);
+                writeFields(animal, patch, changed);
+            }
+        }
+        // Only a new current weight changes the record itself
+        if (!changed.isEmpty()) {
+            fireAnimalUpdated(id, changed);
+        }
+    }
+
+    /**
+     * Method: getLatestWeights
+     * Purpose: Returns the most recent weight readings of an animal, newest first.
+     * Arguments: int id - Tag ID, int n - maximum number of readings
+     * Return: List<WeightHistory.Reading> - up to n readings
+     */
+    public synchronized List<WeightHistory.Reading> getLatestWeights(int id, int n) {
+        return weightHistory.latest(id, n);
+    }
+
+    /**
+     * Method: getWeightSlope
+     * Purpose: Computes the weight trend of an animal over the last days.
+     * Arguments: int id - Tag ID, double days - length of the window
+     * Return: double - weight change in kg per day, or NaN if there are fewer than two readings
+     */
+    public synchronized double getWeightSlope(int id, double days) {
+        long now = System.currentTimeMillis();
+        return weightHistory.slope(id, now - (long) (days * 24 * 60 * 60 * 1000), now);
+    }
+
+    /**
+     * Method: findWeightLoss
+     * Purpose: Finds the animals whose weight dropped by more than the given percentage in the last days.
+     * Arguments: double percent - minimum drop in percent, double days - length of the window
+     * Return: List<WeightHistory.WeightLoss> - the matching animals, largest drop first
+     */
+    public synchronized List<WeightHistory.WeightLoss> findWeightLoss(double percent, double days) {
+        return weightHistory.findWeightLoss(percent, days, System.currentTimeMillis());
+    }
+
+    /**
+     * Method: recordSighting
+     * Purpose: Adds a location sighting of an animal.
+     * Arguments: int id - Tag ID, long timeMillis - when the animal was seen,
+     * double latitude - degrees in [-90, 90], double longitude - degrees in [-180, 180]
+     * Return: void
+     */
+    public synchronized void recordSighting(int id, long timeMillis, double latitude, double longitude) {
+        if (!isValidPosition(latitude, longitude)) {
+            throw new IllegalArgumentException("Latitude must be within [-90, 90] and longitude within [-180, 180]");
+        }
+        if (!repository.contains(id)) {
+            throw new AnimalNotFoundException(id);
+        }
+        sightingLog.add(id, timeMillis, latitude, longitude);
+    }
+
+    /**
+     * Method: importSightingsFromFile
+     * Purpose: Uploads sightings from a CSV, .gz or .zip file (format: id,timestamp,latitude,longitude).
+     * The timestamp is either epoch milliseconds or an ISO-8601 instant such as 2025-10-19T08:30:00Z.
+     * Sightings of unknown Tag IDs are rejected; rejected lines go to filename + ".rejects.csv".
+     * Arguments: String filename - the file name to load the sightings from
+     * Return: ImportDiagnostics - the outcome of the import
+     */
+    public ImportDiagnostics importSightingsFromFile(String filename) {
+        ImportDiagnostics diagnostics = new ImportDiagnostics(ImportDiagnostics.rejectsFileFor(filename),
+                ImportDiagnostics.DEFAULT_SAMPLE_LIMIT, "sightings");
+
+        try (PipelinedCsvReader reader = new PipelinedCsvReader(filename)) {
+            PipelinedCsvReader.LineBatch batch;
+            while ((batch = reader.nextBatch()) != null) {
+                importSightingBatch(batch.getLines(), batch.getEntryName(), batch.getFirstLineNumber(), diagnostics);
+            }
+        } catch (IOException e) {
+            diagnostics.error("File error: " + e.getMessage());
+        } finally {
+            diagnostics.close();
+        }
+        return diagnostics;
+    }
+
+    /**
+     * Method: importSightingBatch
+     * Purpose: Parses, validates and stores a batch of sighting lines while holding the manager lock.
+     * Arguments: List<String> lines, String entryName, long firstLineNumber, ImportDiagnostics diagnostics
+     * - see importAnimalLines
+     * Return: void
+     */
+    private synchronized void importSightingBatch(List<String> lines, String entryName, long firstLineNumber,
+                                                  ImportDiagnostics diagnostics) {
+        long lineNumber = firstLineNumber;
+        for (String line : lines) {
+            long currentLine = lineNumber++;
+            String[] parts = line.split(",");
+            if (parts.length != 4) {
+                diagnostics.reject(entryName, currentLine, ImportDiagnostics.Reason.MISSING_FIELDS, line);
+                continue;
+            }
+            try {
+                int id = Integer.parseInt(parts[0].trim());
+                String timestamp = parts[1].trim();
+                long timeMillis = timestamp.chars().allMatch(Character::isDigit)
+                        ? Long.parseLong(timestamp)
+                        : java.time.Instant.parse(timestamp).toEpochMilli();
+                double latitude = Double.parseDouble(parts[2].trim());
+                double longitude = Double.parseDouble(parts[3].trim());
+                if (!isValidPosition(latitude, longitude)) {
+                    diagnostics.reject(entryName, currentLine, ImportDiagnostics.Reason.INVALID_COORDINATES, line);
+                } else if (!repository.contains(id)) {
+                    diagnostics.reject(entryName, currentLine, ImportDiagnostics.Reason.UNKNOWN_TAG_ID, line);
+                } else {
+                    sightingLog.add(id, timeMillis, latitude, longitude);
+                    diagnostics.accept(entryName);
+                }
+            } catch (NumberFormatException | java.time.format.DateTimeParseException e) {
+                diagnostics.reject(entryName, currentLine, ImportDiagnostics.Reason.INVALID_NUMBER, line);
+            }
+        }
+    }
+
+    /**
+     * Method: getLastKnownPosition
+     * Purpose: Returns the latest sighting of an animal.
+     * Arguments: int id - Tag ID
+     * Return: SightingLog.Sighting - the latest sighting, or null if the animal was never seen
+     */
+    public synchronized SightingLog.Sighting getLastKnownPosition(int id) {
+        return sightingLog.lastKnownPosition(id);
+    }
+
+    /**
+     * Method: getLastKnownPositions
+     * Purpose: Returns the latest sighting of every animal that was seen.
+     * Arguments: None
+     * Return: List<SightingLog.Sighting> - one sighting per animal
+     */
+    public synchronized List<SightingLog.Sighting> getLastKnownPositions() {
+        return sightingLog.lastKnownPositions();
+    }
+
+    /**
+     * Method: findAnimalsSeenInArea
+     * Purpose: Finds the animals seen inside a latitude/longitude box during a time window.
+     * Animals deleted since they were seen are left out.
+     * Arguments: double minLatitude, double maxLatitude, double minLongitude, double maxLongitude - the box,
+     * long fromMillis, long toMillis - the window, both inclusive
+     * Return: List<WildAnimal> - the matching animals in Tag ID order
+     */
+    public synchronized List<WildAnimal> findAnimalsSeenInArea(double minLatitude, double maxLatitude,
+                                                               double minLongitude, double maxLongitude,
+                                                               long fromMillis, long toMillis) {
+        List<WildAnimal> animals = new ArrayList<>();
+        for (int id : sightingLog.findTagsInBox(minLatitude, maxLatitude, minLongitude, maxLongitude, fromMillis, toMillis)) {
+            WildAnimal animal = repository.findById(id);
+            if (animal != null) {
+                animals.add(animal);
+            }
+        }
+        return animals;
+    }
+
+    /**
+     * Method: getSightingCount
+     * Purpose: Returns the number of stored sightings.
+     * Arguments: None
+     * Return: int - number of sightings
+     */
+    public synchronized int getSightingCount() {
+        return sightingLog.size();
+    }
+
+    /**
+     * Method: isValidPosition
+     * Purpose: Helper method to check that a latitude/longitude pair lies on the globe.
+     * Arguments: double latitude, double longitude - the position in degrees
+     * Return: boolean - true if both coordinates are in range
+     */
+    private static boolean isValidPosition(double latitude, double longitude) {
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+
+    /**
+     * Method: findAnimalById
+     * Purpose: Helper method to find an animal by its Tag ID.
      * Arguments: int id - the ID of the animal to find
      * Return: WildAnimal object found
      */
-    WildAnimal findAnimalById(int id) {
-        return animals.stream().filter(a -> a.getId() == id).findFirst().orElse(null);
+    synchronized WildAnimal findAnimalById(int id) {
+        return repository.findById(id);
+    }
+
+    /**
+     * Method: storeAnimal
+     * Purpose: Helper method to add an already validated animal to the repository.
+     * Arguments: WildAnimal animal - the animal to store
+     * Return: void
+     */
+    private void storeAnimal(WildAnimal animal) {
+        repository.insert(animal);
+        weightHistory.record(animal.getId(), System.currentTimeMillis(), animal.getWeight());
+        index(animal);
+    }
+
+    /**
+     * Method: storeAnimals
+     * Purpose: Helper method to add several already validated animals to the repository at once.
+     * Arguments: List<WildAnimal> animals - the animals to store, with unused and distinct Tag IDs
+     * Return: void
+     */
+    private void storeAnimals(List<WildAnimal> animals) {
+        repository.insertAll(animals);
+        long now = System.currentTimeMillis();
+        for (WildAnimal animal : animals) {
+            weightHistory.record(animal.getId(), now, animal.getWeight());
+            index(animal);
+        }
+    }
+
+    /**
+     * Method: removeAnimal
+     * Purpose: Helper method to remove an animal from the repository.
+     * Arguments: WildAnimal animal - the animal to remove
+     * Return: void
+     */
+    private void removeAnimal(WildAnimal animal) {
+        repository.delete(animal.getId());
+        weightHistory.remove(animal.getId());
+        sightingLog.forget(animal.getId());
+        unindex(animal);
+    }
+
+    /**
+     * Method: matching
+     * Purpose: Helper method to collect the stored records matching a condition.
+     * Arguments: Predicate<WildAnimal> condition - the condition
+     * Return: List<WildAnimal> - the matching records
+     */
+    private List<WildAnimal> matching(Predicate<WildAnimal> condition) {
+        List<WildAnimal> matches = new ArrayList<>();
+        repository.forEach(animal -> {
+            if (condition.test(animal)) {
+                matches.add(animal);
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * Method: withIds
+     * Purpose: Helper method to look up the stored records with the given Tag IDs.
+     * Arguments: Collection<Integer> ids - the Tag IDs, duplicates and unknown IDs allowed
+     * Return: List<WildAnimal> - the records found, each once
+     */
+    private List<WildAnimal> withIds(Collection<Integer> ids) {
+        Set<Integer> distinct = new LinkedHashSet<>(ids);
+        Map<Integer, WildAnimal> stored = repository.findByIds(distinct);
+        List<WildAnimal> found = new ArrayList<>(stored.size());
+        for (int id : distinct) {
+            WildAnimal animal = stored.get(id);
+            if (animal != null) {
+                found.add(animal);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Method: removeAnimals
+     * Purpose: Helper method to remove several stored animals from the repository at once.
+     * Arguments: List<WildAnimal> animals - the stored records to remove
+     * Return: int - number of records removed
+     */
+    private int removeAnimals(List<WildAnimal> animals) {
+        if (animals.isEmpty()) {
+            return 0;
+        }
+        Set<Integer> ids = new HashSet<>(animals.size() * 2);
+        for (WildAnimal animal : animals) {
+            ids.add(animal.getId());
+        }
+        int removed = repository.deleteAll(ids);
+        for (WildAnimal animal : animals) {
+            weightHistory.remove(animal.getId());
+            sightingLog.forget(animal.getId());
+            unindex(animal);
+        }
+        return removed;
+    }
+
+    /**
+     * Method: patchAnimals
+     * Purpose: Helper method to apply one patch to several stored animals. Every patched record is
+     * validated first; the changed records are then written back to the repository as one batch.
+     * Arguments: List<WildAnimal> animals - the stored records, AnimalPatch patch - the fields to set
+     * Return: int - number of records changed
+     */
+    private int patchAnimals(List<WildAnimal> animals, AnimalPatch patch) {
+        List<WildAnimal> targets = new ArrayList<>();
+        List<EnumSet<AnimalPatch.Field>> changes = new ArrayList<>();
+        for (WildAnimal animal : animals) {
+            EnumSet<AnimalPatch.Field> changed = patch.changedFields(animal);
+            if (changed.isEmpty()) {
+                continue;
+            }
+            try {
+                validator.validate(patch.preview(animal));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Animal with ID " + animal.getId() + ": " + e.getMessage(), e);
+            }
+            targets.add(animal);
+            changes.add(changed);
+        }
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < targets.size(); i++) {
+            WildAnimal target = targets.get(i);
+            EnumSet<AnimalPatch.Field> changed = changes.get(i);
+            unindex(target, changed);
+            patch.applyTo(target, changed);
+            index(target, changed);
+            if (changed.contains(AnimalPatch.Field.WEIGHT)) {
+                weightHistory.record(target.getId(), now, target.getWeight());
+            }
+        }
+        // Fields a record already held are written again, so every record takes the same statement
+        repository.updateAllFields(targets, patch.getDirtyFields());
+        return targets.size();
+    }
+
+    /**
+     * Method: applyFields
+     * Purpose: Helper method to copy the mutable fields of a validated record that differ onto a
+     * stored animal and write them back to the repository.
+     * Arguments: WildAnimal target - the stored animal, WildAnimal source - the new values
+     * Return: Set<AnimalPatch.Field> - the fields that changed, empty if the values were the same
+     */
+    private Set<AnimalPatch.Field> applyFields(WildAnimal target, WildAnimal source) {
+        AnimalPatch patch = AnimalPatch.between(target, source);
+        Set<AnimalPatch.Field> changed = patch.getDirtyFields();
+        if (changed.contains(AnimalPatch.Field.WEIGHT)) {
+            weightHistory.record(target.getId(), System.currentTimeMillis(), source.getWeight());
+        }
+        writeFields(target, patch, changed);
+        return changed;
+    }
+
+    /**
+     * Method: writeFields
+     * Purpose: Helper method to set the changed fields of a stored animal and write them back.
+     * Only the aggregates that depend on one of the fields are updated.
+     * Arguments: WildAnimal target - the stored animal, AnimalPatch patch - the new values,
+     * Set<AnimalPatch.Field> changed - the fields of the patch that differ from the stored values
+     * Return: void
+     */
+    private void writeFields(WildAnimal target, AnimalPatch patch, Set<AnimalPatch.Field> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        unindex(target, changed);
+        patch.applyTo(target, changed);
+        repository.updateFields(target, changed);
+        index(target, changed);
+    }
+
+    /**
+     * Method: index
+     * Purpose: Helper method to count a stored record into the aggregates kept beside the repository.
+     * Arguments: WildAnimal animal - the record with its stored values
+     * Return: void
+     */
+    private void index(WildAnimal animal) {
+        index(animal, ALL_FIELDS);
+    }
+
+    /**
+     * Method: index
+     * Purpose: Helper method to count a record into the aggregates that depend on any of the given fields.
+     * Arguments: WildAnimal animal - the record with its stored values, Set<AnimalPatch.Field> fields - the changed fields
+     * Return: void
+     */
+    private void index(WildAnimal animal, Set<AnimalPatch.Field> fields) {
+        if (affects(fields, PIVOT_FIELDS)) {
+            pivotCube.add(animal);
+        }
+        if (affects(fields, WEIGHT_FIELDS)) {
+            weightSketches.computeIfAbsent(WildAnimal.speciesKey(animal.getSpecies()), k -> new QuantileSketch())
+                    .add(animal.getWeight());
+            heaviest.add(animal);
+        }
+        if (affects(fields, AGE_FIELDS)) {
+            oldest.add(animal);
+        }
+    }
+
+    /**
+     * Method: unindex
+     * Purpose: Helper method to take a record out of the aggregates before it is changed or removed.
+     * Arguments: WildAnimal animal - the record with the values it was indexed with
+     * Return: void
+     */
+    private void unindex(WildAnimal animal) {
+        unindex(animal, ALL_FIELDS);
+    }
+
+    /**
+     * Method: unindex
+     * Purpose: Helper method to take a record out of the aggregates that depend on any of the given
+     * fields, before those fields are changed.
+     * Arguments: WildAnimal animal - the record with the values it was indexed with,
+     * Set<AnimalPatch.Field> fields - the fields about to change
+     * Return: void
+     */
+    private void unindex(WildAnimal animal, Set<AnimalPatch.Field> fields) {
+        if (affects(fields, PIVOT_FIELDS)) {
+            pivotCube.remove(animal);
+        }
+        if (affects(fields, WEIGHT_FIELDS)) {
+            String species = WildAnimal.speciesKey(animal.getSpecies());
+            QuantileSketch sketch = weightSketches.get(species);
+            if (sketch != null && sketch.remove(animal.getWeight()) && sketch.getCount() == 0) {
+                weightSketches.remove(species);
+            }
+            heaviest.remove(animal);
+        }
+        if (affects(fields, AGE_FIELDS)) {
+            oldest.remove(animal);
+        }
+    }
+
+    private static boolean affects(Set<AnimalPatch.Field> changed, Set<AnimalPatch.Field> dependencies) {
+        for (AnimalPatch.Field field : changed) {
+            if (dependencies.contains(field)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -401,8 +1757,8 @@ public class AnimalManager {
      * Arguments: N/A
      * Return: List of WildAnimals
      */
-    public List<WildAnimal> getAllAnimals() {
+    public synchronized List<WildAnimal> getAllAnimals() {
 
-        return new ArrayList<>(animals);
+        return repository.findAll();
     }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: AnimalNotFoundException.java
+ *
+ * This exception is thrown by the AnimalManager when an operation names a Tag ID that is not
+ * stored. It is an IllegalArgumentException like the manager's other errors, so existing callers
+ * keep working; callers such as the HTTP API catch it to tell a missing record from bad input.
+ */
+
+package WATSSwingApp;
+
+public class AnimalNotFoundException extends IllegalArgumentException {
+
+    /**
+     * Method: AnimalNotFoundException (Constructor)
+     * Purpose: Creates the exception with the standard message for the Tag ID.
+     * Arguments: int id - the Tag ID that is not stored
+     * Return: None
+     */
+    public AnimalNotFoundException(int id) {
+        super("Animal with ID " + id + " not found.");
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: AnimalPatch.java
+ *
+ * This class describes a partial update of an animal record: only the fields that were set are
+ * marked dirty, and only those are changed when the patch is applied. The AnimalManager drops
+ * dirty fields whose value equals the stored one, so it touches only the indexes and aggregates
+ * that depend on a field that really changed, and skips an edit that changes nothing.
+ */
+
+package WATSSwingApp;
+
+import java.util.*;
+
+public class AnimalPatch {
+
+    /**
+     * Enum: Field
+     * The mutable fields of an animal record.
+     */
+    public enum Field { SPECIES, NAME, AGE, GENDER, WEIGHT, HEALTH_STATUS }
+
+    private final EnumSet<Field> dirty = EnumSet.noneOf(Field.class);
+    private String species;
+    private String name;
+    private int age;
+    private String gender;
+    private double weight;
+    private String healthStatus;
+
+    /**
+     * Method: between
+     * Purpose: Builds the patch that turns one record into another, holding only the differing fields.
+     * Arguments: WildAnimal current - the record before the edit, WildAnimal edited - the record after it
+     * Return: AnimalPatch - the differences, empty if the records hold the same values
+     */
+    public static AnimalPatch between(WildAnimal current, WildAnimal edited) {
+        AnimalPatch patch = new AnimalPatch();
+        if (!Objects.equals(current.getSpecies(), edited.getSpecies())) {
+            patch.setSpecies(edited.getSpecies());
+        }
+        if (!Objects.equals(current.getName(), edited.getName())) {
+            patch.setName(edited.getName());
+        }
+        if (current.getAge() != edited.getAge()) {
+            patch.setAge(edited.getAge());
+        }
+        if (!Objects.equals(current.getGender(), edited.getGender())) {
+            patch.setGender(edited.getGender());
+        }
+        if (Double.compare(current.getWeight(), edited.getWeight()) != 0) {
+            patch.setWeight(edited.getWeight());
+        }
+        if (!Objects.equals(current.getHealthStatus(), edited.getHealthStatus())) {
+            patch.setHealthStatus(edited.getHealthStatus());
+        }
+        return patch;
+    }
+
+    public AnimalPatch setSpecies(String species) { this.species = species; dirty.add(Field.SPECIES); return this; }
+
+    public AnimalPatch setName(String name) { this.name = name; dirty.add(Field.NAME); return this; }
+
+    public AnimalPatch setAge(int age) { this.age = age; dirty.add(Field.AGE); return this; }
+
+    public AnimalPatch setGender(String gender) { this.gender = gender; dirty.add(Field.GENDER); return this; }
+
+    public AnimalPatch setWeight(double weight) { this.weight = weight; dirty.add(Field.WEIGHT); return this; }
+
+    public AnimalPatch setHealthStatus(String healthStatus) {
+        this.healthStatus = healthStatus;
+        dirty.add(Field.HEALTH_STATUS);
+        return this;
+    }
+
+    /**
+     * Method: getDirtyFields
+     * Purpose: Returns the fields set on this patch.
+     * Arguments: None
+     * Return: Set<Field> - a copy of the dirty fields
+     */
+    public Set<Field> getDirtyFields() {
+        return EnumSet.copyOf(dirty);
+    }
+
+    public boolean isEmpty() {
+        return dirty.isEmpty();
+    }
+
+    /**
+     * Method: changedFields
+     * Purpose: Returns the dirty fields whose value differs from the given record's value.
+     * Arguments: WildAnimal animal - the stored record
+     * Return: EnumSet<Field> - the fields the patch would really change, empty for a no-op
+     */
+    EnumSet<Field> changedFields(WildAnimal animal) {
+        EnumSet<Field> changed = EnumSet.noneOf(Field.class);
+        for (Field field : dirty) {
+            boolean same;
+            switch (field) {
+                case SPECIES: same = Objects.equals(species, animal.getSpecies()); break;
+                case NAME: same = Objects.equals(name, animal.getName()); break;
+                case AGE: same = age == animal.getAge(); break;
+                case GENDER: same = Objects.equals(gender, animal.getGender()); break;
+                case WEIGHT: same = Double.compare(weight, animal.getWeight()) == 0; break;
+                default: same = Objects.equals(healthStatus, animal.getHealthStatus()); break;
+            }
+            if (!same) {
+                changed.add(field);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Method: preview
+     * Purpose: Returns a new record holding the given record's values with this patch applied,
+     * e.g. to validate the result before anything is changed.
+     * Arguments: WildAnimal animal - the stored record, which is left untouched
+     * Return: WildAnimal - the patched copy
+     */
+    WildAnimal preview(WildAnimal animal) {
+        WildAnimal copy = new WildAnimal(animal.getId(), animal.getSpecies(), animal.getName(), animal.getAge(),
+                animal.getGender(), animal.getWeight(), animal.getHealthStatus());
+        applyTo(copy, dirty);
+        return copy;
+    }
+
+    /**
+     * Method: applyTo
+     * Purpose: Sets the given fields of a record to the values of this patch.
+     * Arguments: WildAnimal target - the record to change, Set<Field> fields - the fields to set, all dirty
+     * Return: void
+     */
+    void applyTo(WildAnimal target, Set<Field> fields) {
+        for (Field field : fields) {
+            switch (field) {
+                case SPECIES: target.setSpecies(species); break;
+                case NAME: target.setName(name); break;
+                case AGE: target.setAge(age); break;
+                case GENDER: target.setGender(gender); break;
+                case WEIGHT: target.setWeight(weight); break;
+                default: target.setHealthStatus(healthStatus); break;
+            }
+        }
+    }
+}
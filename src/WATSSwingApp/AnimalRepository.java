@@ -0,0 +1,223 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Interface: AnimalRepository.java
+ *
+ * This interface defines the storage used by the AnimalManager for animal records.
+ * The AnimalManager performs all validation and locking; a repository only stores,
+ * finds and removes records by Tag ID. Records returned by a repository may be copies,
+ * so changes to them must be written back with update().
+ * The default methods work on top of the basic operations; repositories that can do better,
+ * such as a database pushing aggregates into SQL, override them.
+ */
+
+package WATSSwingApp;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+public interface AnimalRepository {
+
+    /**
+     * Method: size
+     * Purpose: Returns the number of stored records.
+     * Arguments: None
+     * Return: int - number of records
+     */
+    int size();
+
+    /**
+     * Method: contains
+     * Purpose: Checks whether a record with the given Tag ID is stored.
+     * Arguments: int id - the Tag ID
+     * Return: boolean - true if the Tag ID is in use
+     */
+    boolean contains(int id);
+
+    /**
+     * Method: findById
+     * Purpose: Finds the record with the given Tag ID.
+     * Arguments: int id - the Tag ID
+     * Return: WildAnimal - the record, or null if there is none
+     */
+    WildAnimal findById(int id);
+
+    /**
+     * Method: insert
+     * Purpose: Stores a new record. The Tag ID must not be in use.
+     * Arguments: WildAnimal animal - the record to store
+     * Return: void
+     */
+    void insert(WildAnimal animal);
+
+    /**
+     * Method: update
+     * Purpose: Replaces the stored field values of the record with the same Tag ID.
+     * Arguments: WildAnimal animal - the new values
+     * Return: void
+     */
+    void update(WildAnimal animal);
+
+    /**
+     * Method: delete
+     * Purpose: Removes the record with the given Tag ID.
+     * Arguments: int id - the Tag ID
+     * Return: boolean - true if a record was removed
+     */
+    boolean delete(int id);
+
+    /**
+     * Method: forEach
+     * Purpose: Passes every stored record to the given action.
+     * Arguments: Consumer<WildAnimal> action - called once per record
+     * Return: void
+     */
+    void forEach(Consumer<WildAnimal> action);
+
+    /**
+     * Method: findAll
+     * Purpose: Returns a new list holding every stored record.
+     * Arguments: None
+     * Return: List<WildAnimal> - the records
+     */
+    List<WildAnimal> findAll();
+
+    /**
+     * Method: insertAll
+     * Purpose: Stores several new records at once, e.g. one import batch. None of the Tag IDs may be in use.
+     * Arguments: List<WildAnimal> animals - the records to store
+     * Return: void
+     */
+    default void insertAll(List<WildAnimal> animals) {
+        for (WildAnimal animal : animals) {
+            insert(animal);
+        }
+    }
+
+    /**
+     * Method: summarizeBySpecies
+     * Purpose: Counts the records and sums their weights per species.
+     * Arguments: None
+     * Return: List<SpeciesSummary> - one summary per species
+     */
+    default List<SpeciesSummary> summarizeBySpecies() {
+        // Per species: [0] count, [1] total weight
+        Map<String, double[]> totals = new LinkedHashMap<>();
+        forEach(animal -> {
+            double[] speciesTotals = totals.computeIfAbsent(animal.getSpecies(), k -> new double[2]);
+            speciesTotals[0]++;
+            speciesTotals[1] += animal.getWeight();
+        });
+
+        List<SpeciesSummary> summaries = new ArrayList<>(totals.size());
+        for (Map.Entry<String, double[]> entry : totals.entrySet()) {
+            summaries.add(new SpeciesSummary(entry.getKey(), (long) entry.getValue()[0], entry.getValue()[1]));
+        }
+        return summaries;
+    }
+
+    /**
+     * Method: summarizeSpecies
+     * Purpose: Counts the records of one species (ignoring case) and sums their weights.
+     * Arguments: String species - the species
+     * Return: SpeciesSummary - the figures, with a count of 0 if there is no such record
+     */
+    default SpeciesSummary summarizeSpecies(String species) {
+        // [0] count, [1] total weight
+        double[] totals = new double[2];
+        forEach(animal -> {
+            if (animal.getSpecies().equalsIgnoreCase(species)) {
+                totals[0]++;
+                totals[1] += animal.getWeight();
+            }
+        });
+        return new SpeciesSummary(species, (long) totals[0], totals[1]);
+    }
+
+    /**
+     * Method: findMatching
+     * Purpose: Returns the records matching a filter. When the filter requires certain Tag IDs only
+     * those are looked up; otherwise every record is tested.
+     * Arguments: AnimalFilter filter - the compiled filter
+     * Return: List<WildAnimal> - the matching records
+     */
+    default List<WildAnimal> findMatching(AnimalFilter filter) {
+        List<WildAnimal> matches = new ArrayList<>();
+        int[] ids = filter.getIdCandidates();
+        if (ids != null) {
+            for (int id : ids) {
+                WildAnimal animal = findById(id);
+                if (animal != null && filter.test(animal)) {
+                    matches.add(animal);
+                }
+            }
+        } else {
+            forEach(animal -> {
+                if (filter.test(animal)) {
+                    matches.add(animal);
+                }
+            });
+        }
+        return matches;
+    }
+
+    /**
+     * Method: findByIds
+     * Purpose: Finds the records with the given Tag IDs at once, e.g. the existing records hit by an import batch.
+     * Arguments: Collection<Integer> ids - the Tag IDs, duplicates and unknown IDs allowed
+     * Return: Map<Integer, WildAnimal> - the records found by Tag ID
+     */
+    default Map<Integer, WildAnimal> findByIds(Collection<Integer> ids) {
+        Map<Integer, WildAnimal> found = new HashMap<>();
+        for (int id : ids) {
+            if (!found.containsKey(id)) {
+                WildAnimal animal = findById(id);
+                if (animal != null) {
+                    found.put(id, animal);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Method: updateFields
+     * Purpose: Writes back only some fields of a stored record, e.g. after a partial update.
+     * Repositories that cannot write single fields replace the whole record.
+     * Arguments: WildAnimal animal - the record with its new values, Set<AnimalPatch.Field> fields - the changed fields
+     * Return: void
+     */
+    default void updateFields(WildAnimal animal, Set<AnimalPatch.Field> fields) {
+        update(animal);
+    }
+
+    /**
+     * Method: updateAllFields
+     * Purpose: Writes back the same fields of several stored records, e.g. after a bulk update.
+     * Arguments: List<WildAnimal> animals - the records with their new values,
+     * Set<AnimalPatch.Field> fields - the fields to write
+     * Return: void
+     */
+    default void updateAllFields(List<WildAnimal> animals, Set<AnimalPatch.Field> fields) {
+        for (WildAnimal animal : animals) {
+            updateFields(animal, fields);
+        }
+    }
+
+    /**
+     * Method: deleteAll
+     * Purpose: Removes the records with the given Tag IDs at once, e.g. a bulk delete.
+     * Arguments: Set<Integer> ids - the Tag IDs
+     * Return: int - number of records removed
+     */
+    default int deleteAll(Set<Integer> ids) {
+        int removed = 0;
+        for (int id : ids) {
+            if (delete(id)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+}
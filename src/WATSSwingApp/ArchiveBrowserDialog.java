@@ -0,0 +1,111 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: ArchiveBrowserDialog.java
+ *
+ * This is a non-modal dialog window used to browse a PagedAnimalArchive.
+ * Its table model reads records straight from the archive, and the JTable only asks for
+ * the rows inside the visible viewport, so only the pages being looked at are materialized.
+ */
+
+package WATSSwingApp;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+
+public class ArchiveBrowserDialog extends JDialog {
+
+    /**
+     * Row height of the archive table. Kept small so that JTable's total height in pixels
+     * (rows x height) stays within an int for archives of 100M+ records.
+     */
+    private static final int ROW_HEIGHT = 16;
+
+    private final PagedAnimalArchive archive;
+    private final Timer statusTimer;
+
+    /**
+     * Method: ArchiveBrowserDialog Constructor
+     * Instantiated and displayed from the main application frame when a user opens an archive.
+     * The archive is closed when the dialog is closed.
+     */
+    public ArchiveBrowserDialog(JFrame parent, PagedAnimalArchive archive, String title) {
+        super(parent, "Archive - " + title, false);
+        this.archive = archive;
+
+        setSize(1000, 600);
+        setLocationRelativeTo(parent);
+        setLayout(new BorderLayout());
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        JTable table = new JTable(new ArchiveTableModel());
+        table.setRowHeight(ROW_HEIGHT);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+
+        JLabel lblStatus = new JLabel();
+        lblStatus.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
+        add(lblStatus, BorderLayout.SOUTH);
+
+        // Show the page cache usage while the user scrolls
+        statusTimer = new Timer(1000, e -> lblStatus.setText(
+                archive.size() + " records | " + archive.getCacheStatistics()));
+        statusTimer.setInitialDelay(0);
+        statusTimer.start();
+
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                statusTimer.stop();
+                try {
+                    archive.close();
+                } catch (IOException ex) {
+                    System.out.println("[ERROR] Could not close archive: " + ex.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Class: ArchiveTableModel
+     * Read-only table model that fetches records from the archive on demand.
+     */
+    private class ArchiveTableModel extends AbstractTableModel {
+        private final String[] columnNames = {
+                "Tag ID", "Name", "Species", "Age", "Gender", "Weight", "Health Status"
+        };
+
+        @Override
+        public int getRowCount() {
+            return archive.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columnNames.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columnNames[column];
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            WildAnimal animal = archive.get(row);
+            switch (column) {
+                case 0: return animal.getId();
+                case 1: return animal.getName();
+                case 2: return animal.getSpecies();
+                case 3: return animal.getAge();
+                case 4: return animal.getGender();
+                case 5: return animal.getWeight();
+                default: return animal.getHealthStatus();
+            }
+        }
+    }
+}
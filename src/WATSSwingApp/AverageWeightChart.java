@@ -6,7 +6,11 @@
  *
  * This class generates and displays a bar chart visualizing the average weight of animals
  * grouped by species using data from the AnimalManager. Utilizes JFreeChart to create
- * the chart and presents it in a modal dialog window.
+ * the chart and presents it in a non-modal dialog window that stays open next to the main frame.
+ * The chart follows changes to the animal records live; changes are coalesced so the chart is
+ * rebuilt at most once per refresh interval, however many records an import touches.
+ * To keep rendering cost bounded as the number of species grows, the chart can show only the
+ * top N species by animal count or by average weight, with the rest folded into an "Other" bar.
  */
 
 package WATSSwingApp;
@@ -18,12 +22,65 @@ import org.jfree.data.category.DefaultCategoryDataset;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class AverageWeightChart {
 
+    /**
+     * Minimum time between two chart rebuilds, in milliseconds
+     */
+    private static final int REFRESH_INTERVAL_MS = 500;
+
+    /**
+     * Enum: Mode
+     * Which species are shown as bars.
+     */
+    public enum Mode {
+        ALL("All species"),
+        TOP_BY_COUNT("Top N by count"),
+        TOP_BY_WEIGHT("Top N by average weight");
+
+        private final String description;
+
+        Mode(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
     private final AnimalManager animalManager;
+    private final AnimalChangeListener changeListener = new AnimalChangeListener() {
+        @Override
+        public void animalsChanged() {
+            markDirty();
+        }
+
+        @Override
+        public void animalUpdated(int id, Set<AnimalPatch.Field> fields) {
+            // The bars depend only on species and weight
+            if (fields.contains(AnimalPatch.Field.SPECIES) || fields.contains(AnimalPatch.Field.WEIGHT)) {
+                markDirty();
+            }
+        }
+    };
+    /**
+     * Set when the records changed since the chart was last rebuilt
+     */
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private final DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+    private JDialog dialog;
+    private javax.swing.Timer refreshTimer;
+    private JComboBox<Mode> cmbMode;
+    private JSpinner spnTopN;
+    private boolean refreshRunning = false;
 
     public AverageWeightChart(AnimalManager manager) {
         this.animalManager = manager;
@@ -33,24 +90,26 @@ public class AverageWeightChart {
      * Method: AverageWeightChart.showChart
      * Purpose: Called from the main application frame to provide users with a graphical
      * representation of species-based weight analytics in the Wildlife Animal Tracking System.
+     * Opens the live chart dialog, or brings it to the front if it is already open.
      * Arguments: Component parent - The frame in which the dialog is displayed.
      * Return: void
      */
     public void showChart(Component parent) {
-        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
-
-        Map<String, List<Double>> speciesWeights = new HashMap<>();
-        for (WildAnimal animal : animalManager.getAllAnimals()) {
-            speciesWeights.computeIfAbsent(animal.getSpecies(), k -> new ArrayList<>()).add(animal.getWeight());
-        }
-
-        for (Map.Entry<String, List<Double>> entry : speciesWeights.entrySet()) {
-            String species = entry.getKey();
-            List<Double> weights = entry.getValue();
-            double average = weights.stream().mapToDouble(Double::doubleValue).average().orElse(0);
-            dataset.addValue(average, "Average Weight", species);
+        if (dialog == null) {
+            createDialog(parent);
         }
+        dialog.setVisible(true);
+        dialog.toFront();
+    }
 
+    /**
+     * Method: createDialog
+     * Purpose: Builds the non-modal chart dialog with its mode controls, registers the change
+     * listener and starts the refresh timer. Closing the dialog releases both.
+     * Arguments: Component parent - The frame in which the dialog is displayed.
+     * Return: void
+     */
+    private void createDialog(Component parent) {
         JFreeChart chart = ChartFactory.createBarChart(
                 "Average Weight by Species",
                 "Species",
@@ -59,10 +118,136 @@ public class AverageWeightChart {
         );
 
         ChartPanel chartPanel = new ChartPanel(chart);
-        JDialog dialog = new JDialog((Frame) SwingUtilities.getWindowAncestor(parent), "Average Weight Chart", true);
-        dialog.setSize(700, 500);
+        dialog = new JDialog((Frame) SwingUtilities.getWindowAncestor(parent), "Average Weight Chart", false);
+        dialog.setSize(900, 550);
         dialog.setLocationRelativeTo(parent);
-        dialog.add(chartPanel);
-        dialog.setVisible(true);
+        dialog.setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+        dialog.add(chartPanel, BorderLayout.CENTER);
+
+        // Mode controls
+        JPanel controlPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        cmbMode = new JComboBox<>(Mode.values());
+        cmbMode.setSelectedItem(Mode.TOP_BY_COUNT);
+        spnTopN = new JSpinner(new SpinnerNumberModel(20, 1, 200, 1));
+        cmbMode.addActionListener(e -> {
+            spnTopN.setEnabled(cmbMode.getSelectedItem() != Mode.ALL);
+            markDirty();
+        });
+        spnTopN.addChangeListener(e -> markDirty());
+        controlPanel.add(new JLabel("Show:"));
+        controlPanel.add(cmbMode);
+        controlPanel.add(new JLabel("N:"));
+        controlPanel.add(spnTopN);
+        dialog.add(controlPanel, BorderLayout.NORTH);
+
+        animalManager.addChangeListener(changeListener);
+        refreshTimer = new javax.swing.Timer(REFRESH_INTERVAL_MS, e -> refreshIfDirty());
+        refreshTimer.setInitialDelay(0);
+        refreshTimer.start();
+
+        dialog.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                refreshTimer.stop();
+                animalManager.removeChangeListener(changeListener);
+                dialog = null;
+                dirty.set(true);
+            }
+        });
+    }
+
+    /**
+     * Method: markDirty
+     * Purpose: Called on any thread when the records or the chart settings change.
+     * Only sets a flag; the refresh timer picks it up on its next tick.
+     * Arguments: None
+     * Return: void
+     */
+    private void markDirty() {
+        dirty.set(true);
+    }
+
+    /**
+     * Method: refreshIfDirty
+     * Purpose: Runs on the Event Dispatch Thread at each timer tick. If anything changed, the
+     * species summaries are computed on a background thread and the dataset is replaced once done.
+     * Arguments: None
+     * Return: void
+     */
+    private void refreshIfDirty() {
+        if (refreshRunning || !dirty.getAndSet(false)) {
+            return;
+        }
+        refreshRunning = true;
+        Mode mode = (Mode) cmbMode.getSelectedItem();
+        int topN = (Integer) spnTopN.getValue();
+
+        new SwingWorker<List<SpeciesSummary>, Void>() {
+            @Override
+            protected List<SpeciesSummary> doInBackground() {
+                return selectBars(animalManager.summarizeBySpecies(), mode, topN);
+            }
+
+            @Override
+            protected void done() {
+                refreshRunning = false;
+                try {
+                    updateDataset(get());
+                } catch (Exception ex) {
+                    System.out.println("[ERROR] Could not refresh chart: " + ex.getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Method: selectBars
+     * Purpose: Chooses the bars to draw. In the top N modes, the N largest species by count or by
+     * average weight are kept in order and all other species are merged into one "Other" bar.
+     * Arguments: List<SpeciesSummary> summaries - all species, Mode mode, int topN - bars to keep
+     * Return: List<SpeciesSummary> - the bars to draw
+     */
+    static List<SpeciesSummary> selectBars(List<SpeciesSummary> summaries, Mode mode, int topN) {
+        if (mode == Mode.ALL || summaries.size() <= topN) {
+            return summaries;
+        }
+        Comparator<SpeciesSummary> order = mode == Mode.TOP_BY_COUNT
+                ? Comparator.comparingLong(SpeciesSummary::getCount)
+                : Comparator.comparingDouble(SpeciesSummary::getAverageWeight);
+
+        // Bounded min-heap holding the current top N
+        PriorityQueue<SpeciesSummary> top = new PriorityQueue<>(topN + 1, order);
+        int otherSpecies = 0;
+        long otherCount = 0;
+        double otherWeight = 0;
+        for (SpeciesSummary summary : summaries) {
+            top.add(summary);
+            if (top.size() > topN) {
+                SpeciesSummary dropped = top.poll();
+                otherSpecies++;
+                otherCount += dropped.getCount();
+                otherWeight += dropped.getTotalWeight();
+            }
+        }
+
+        List<SpeciesSummary> bars = new ArrayList<>(top);
+        bars.sort(order.reversed());
+        bars.add(new SpeciesSummary("Other (" + otherSpecies + " species)", otherCount, otherWeight));
+        return bars;
+    }
+
+    /**
+     * Method: updateDataset
+     * Purpose: Replaces the chart data with the given bars, notifying the chart only once.
+     * Arguments: List<SpeciesSummary> bars - the bars to draw
+     * Return: void
+     */
+    private void updateDataset(List<SpeciesSummary> bars) {
+        dataset.setNotify(false);
+        dataset.clear();
+        for (SpeciesSummary bar : bars) {
+            dataset.addValue(bar.getAverageWeight(), "Average Weight", bar.getSpecies());
+        }
+        dataset.setNotify(true);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,146 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: BulkUpdateDialog.java
+ *
+ * This is a modal dialog window used to set one or more fields of many animal records at once,
+ * either the rows selected in the main table or every animal matching a filter expression.
+ * Only the ticked fields are changed; they are sent to the AnimalManager as a single patch,
+ * which validates every affected record before changing any of them.
+ */
+
+package WATSSwingApp;
+
+import javax.swing.*;
+import javax.swing.text.PlainDocument;
+import java.awt.*;
+import java.util.Collection;
+import java.util.function.ToIntFunction;
+
+public class BulkUpdateDialog extends JDialog {
+
+    private final JCheckBox chkSpecies = new JCheckBox("Species:");
+    private final JCheckBox chkName = new JCheckBox("Name:");
+    private final JCheckBox chkAge = new JCheckBox("Age:");
+    private final JCheckBox chkGender = new JCheckBox("Gender:");
+    private final JCheckBox chkWeight = new JCheckBox("Weight (kg):");
+    private final JCheckBox chkHealthStatus = new JCheckBox("Health Status:");
+    private final JTextField txtSpecies = new JTextField();
+    private final JTextField txtName = new JTextField();
+    private final JTextField txtAge = new JTextField();
+    private final JComboBox<String> cmbGender;
+    private final JTextField txtWeight = new JTextField();
+    private final JComboBox<String> cmbHealthStatus;
+
+    /**
+     * Method: BulkUpdateDialog Constructor
+     * Instantiated from the main application frame for the rows selected in the table.
+     */
+    public BulkUpdateDialog(JFrame parent, AnimalManager manager, Collection<Integer> tagIds) {
+        this(parent, manager, tagIds.size() + " selected animals", patch -> manager.updateAnimals(tagIds, patch));
+    }
+
+    /**
+     * Method: BulkUpdateDialog Constructor
+     * Instantiated from the main application frame for the animals matching a filter.
+     */
+    public BulkUpdateDialog(JFrame parent, AnimalManager manager, AnimalFilter filter, int matchCount) {
+        this(parent, manager, matchCount + " animals matching the filter", patch -> manager.updateAnimals(filter, patch));
+    }
+
+    private BulkUpdateDialog(JFrame parent, AnimalManager manager, String target, ToIntFunction<AnimalPatch> update) {
+        super(parent, "Update " + target, true);
+
+        setSize(500, 380);
+        setLocationRelativeTo(parent);
+        setLayout(new BorderLayout());
+
+        cmbGender = new JComboBox<>(manager.getValidator().getGenderChoices().toArray(new String[0]));
+        cmbHealthStatus = new JComboBox<>(manager.getValidator().getHealthStatuses().toArray(new String[0]));
+        //Apply Numeric and Decimal filters to the number fields
+        ((PlainDocument) txtAge.getDocument()).setDocumentFilter(new NumericDocumentFilter());
+        ((PlainDocument) txtWeight.getDocument()).setDocumentFilter(new DecimalDocumentFilter());
+
+        JLabel lblHint = new JLabel("Tick the fields to set on " + target + ":");
+        lblHint.setBorder(BorderFactory.createEmptyBorder(10, 10, 0, 10));
+        add(lblHint, BorderLayout.NORTH);
+
+        JPanel formPanel = new JPanel(new GridLayout(6, 2, 10, 10));
+        formPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        addRow(formPanel, chkSpecies, txtSpecies);
+        addRow(formPanel, chkName, txtName);
+        addRow(formPanel, chkAge, txtAge);
+        addRow(formPanel, chkGender, cmbGender);
+        addRow(formPanel, chkWeight, txtWeight);
+        addRow(formPanel, chkHealthStatus, cmbHealthStatus);
+        add(formPanel, BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        JButton btnSave = new JButton("Update All");
+        JButton btnCancel = new JButton("Cancel");
+        btnCancel.addActionListener(e -> dispose());
+        btnSave.addActionListener(e -> {
+            try {
+                AnimalPatch patch = buildPatch();
+                if (patch.isEmpty()) {
+                    JOptionPane.showMessageDialog(this, "Tick at least one field to update.", "Nothing to Update",
+                            JOptionPane.WARNING_MESSAGE);
+                    return;
+                }
+                int changed = update.applyAsInt(patch);
+                JOptionPane.showMessageDialog(this, changed == 0
+                        ? "No animal needed a change."
+                        : changed + " animals updated successfully!");
+                dispose();
+            } catch (Exception ex) {
+                JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage(), "Validation Error", JOptionPane.ERROR_MESSAGE);
+            }
+        });
+        buttonPanel.add(btnSave);
+        buttonPanel.add(btnCancel);
+        add(buttonPanel, BorderLayout.SOUTH);
+    }
+
+    /**
+     * Method: addRow
+     * Purpose: Adds a field to the form, enabled only while its check box is ticked.
+     * Arguments: JPanel formPanel - the form, JCheckBox checkBox - the field's check box, JComponent input - the field
+     * Return: void
+     */
+    private static void addRow(JPanel formPanel, JCheckBox checkBox, JComponent input) {
+        input.setEnabled(false);
+        checkBox.addActionListener(e -> input.setEnabled(checkBox.isSelected()));
+        formPanel.add(checkBox);
+        formPanel.add(input);
+    }
+
+    /**
+     * Method: buildPatch
+     * Purpose: Collects the ticked fields into a patch.
+     * Arguments: none
+     * Return: AnimalPatch - the fields to set
+     */
+    private AnimalPatch buildPatch() {
+        AnimalPatch patch = new AnimalPatch();
+        if (chkSpecies.isSelected()) {
+            patch.setSpecies(txtSpecies.getText().trim());
+        }
+        if (chkName.isSelected()) {
+            patch.setName(txtName.getText().trim());
+        }
+        if (chkAge.isSelected()) {
+            patch.setAge(Integer.parseInt(txtAge.getText().trim()));
+        }
+        if (chkGender.isSelected()) {
+            patch.setGender((String) cmbGender.getSelectedItem());
+        }
+        if (chkWeight.isSelected()) {
+            patch.setWeight(Double.parseDouble(txtWeight.getText().trim()));
+        }
+        if (chkHealthStatus.isSelected()) {
+            patch.setHealthStatus((String) cmbHealthStatus.getSelectedItem());
+        }
+        return patch;
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Enum: ConflictPolicy.java
+ *
+ * This enum defines what a CSV import does with a row whose Tag ID already exists
+ * in the AnimalManager.
+ */
+
+package WATSSwingApp;
+
+public enum ConflictPolicy {
+    /**
+     * Keep the existing record and report the row as a duplicate
+     */
+    SKIP("Skip existing Tag IDs"),
+    /**
+     * Replace the existing record with the row
+     */
+    OVERWRITE("Overwrite existing records"),
+    /**
+     * Replace the existing record only if the row holds different values
+     */
+    OVERWRITE_IF_CHANGED("Overwrite only changed records");
+
+    private final String description;
+
+    ConflictPolicy(String description) {
+        this.description = description;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,256 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: DatasetSnapshot.java
+ *
+ * This class captures a dataset of animal records, live in an AnimalManager or stored in an
+ * archive, as two sorted primitive arrays: the Tag IDs and the content hash of each record.
+ * Two snapshots are compared with a single merge pass over the sorted Tag IDs; records whose
+ * hashes match are skipped without being looked at, so only the records that differ are read.
+ * The result is a ChangeSet of added, updated and deleted records that the AnimalManager applies
+ * as one batch, which is how the datasets of field stations are consolidated without exporting
+ * and re-importing everything.
+ */
+
+package WATSSwingApp;
+
+import java.util.*;
+
+public class DatasetSnapshot {
+
+    private final int[] ids;
+    private final long[] hashes;
+    /**
+     * Position of each record in its source, used to read the records that differ
+     */
+    private final int[] positions;
+    private final RecordSource source;
+
+    /**
+     * Interface: RecordSource
+     * Reads a record of the snapshotted dataset by Tag ID or by its position in the source.
+     */
+    private interface RecordSource {
+        WildAnimal load(int id, int position);
+    }
+
+    private DatasetSnapshot(int[] ids, long[] hashes, int[] positions, RecordSource source) {
+        this.ids = ids;
+        this.hashes = hashes;
+        this.positions = positions;
+        this.source = source;
+    }
+
+    /**
+     * Method: of
+     * Purpose: Takes a snapshot of the records held by a manager. The records that differ are read
+     * from the manager when a diff is made, so it reflects later changes to those records.
+     * Arguments: AnimalManager manager - the live dataset
+     * Return: DatasetSnapshot - the snapshot
+     */
+    public static DatasetSnapshot of(AnimalManager manager) {
+        Collector collector = new Collector();
+        manager.forEachAnimal(collector::add);
+        return collector.build((id, position) -> {
+            WildAnimal animal = manager.findAnimalById(id);
+            return animal == null ? null : copyOf(animal);
+        });
+    }
+
+    /**
+     * Method: of
+     * Purpose: Takes a snapshot of the records in an archive, such as one exported by another
+     * field station. When a Tag ID occurs more than once, the last record is the current one.
+     * The archive must stay open while diffs are made from the snapshot. Archives that may hold cut
+     * values are refused, since syncing from them would overwrite long names with shortened ones.
+     * Arguments: PagedAnimalArchive archive - the stored dataset
+     * Return: DatasetSnapshot - the snapshot
+     */
+    public static DatasetSnapshot of(PagedAnimalArchive archive) {
+        if (!archive.keepsFullValues()) {
+            throw new IllegalArgumentException("The archive was written by an older version that shortens long "
+                    + "species and names; export the snapshot again");
+        }
+        Collector collector = new Collector();
+        for (int i = 0; i < archive.size(); i++) {
+            collector.add(archive.get(i));
+        }
+        return collector.build((id, position) -> copyOf(archive.get(position)));
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Method: diff
+     * Purpose: Compares two snapshots by Tag ID and collects the changes that turn the base dataset
+     * into the target dataset. Both Tag ID arrays are walked once in order; only the records that
+     * were added or whose hash differs are read from the target.
+     * Arguments: DatasetSnapshot base - the dataset to change, DatasetSnapshot target - the dataset to match
+     * Return: ChangeSet - the added, updated and deleted records
+     */
+    public static ChangeSet diff(DatasetSnapshot base, DatasetSnapshot target) {
+        List<WildAnimal> added = new ArrayList<>();
+        List<WildAnimal> updated = new ArrayList<>();
+        List<Integer> deleted = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < base.ids.length && j < target.ids.length) {
+            int baseId = base.ids[i];
+            int targetId = target.ids[j];
+            if (baseId == targetId) {
+                if (base.hashes[i] != target.hashes[j]) {
+                    addRecord(updated, target, j);
+                }
+                i++;
+                j++;
+            } else if (baseId < targetId) {
+                deleted.add(baseId);
+                i++;
+            } else {
+                addRecord(added, target, j);
+                j++;
+            }
+        }
+        for (; i < base.ids.length; i++) {
+            deleted.add(base.ids[i]);
+        }
+        for (; j < target.ids.length; j++) {
+            addRecord(added, target, j);
+        }
+        return new ChangeSet(added, updated, deleted);
+    }
+
+    private static void addRecord(List<WildAnimal> records, DatasetSnapshot snapshot, int index) {
+        WildAnimal animal = snapshot.source.load(snapshot.ids[index], snapshot.positions[index]);
+        // A live record deleted since the snapshot was taken has nothing left to copy
+        if (animal != null) {
+            records.add(animal);
+        }
+    }
+
+    private static WildAnimal copyOf(WildAnimal animal) {
+        return new WildAnimal(animal.getId(), animal.getSpecies(), animal.getName(), animal.getAge(),
+                animal.getGender(), animal.getWeight(), animal.getHealthStatus());
+    }
+
+    /**
+     * Class: Collector
+     * Gathers the Tag ID and hash of each record in source order, then sorts them by Tag ID.
+     */
+    private static final class Collector {
+        private int[] ids = new int[1024];
+        private long[] hashes = new long[1024];
+        private int count = 0;
+        private boolean sorted = true;
+
+        void add(WildAnimal animal) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                hashes = Arrays.copyOf(hashes, count * 2);
+            }
+            if (count > 0 && animal.getId() <= ids[count - 1]) {
+                sorted = false;
+            }
+            ids[count] = animal.getId();
+            hashes[count] = animal.contentHash();
+            count++;
+        }
+
+        DatasetSnapshot build(RecordSource source) {
+            if (sorted) {
+                int[] positions = new int[count];
+                for (int i = 0; i < count; i++) {
+                    positions[i] = i;
+                }
+                return new DatasetSnapshot(Arrays.copyOf(ids, count), Arrays.copyOf(hashes, count), positions, source);
+            }
+            // Sort Tag ID and position packed into one long, so no object is created per record;
+            // equal Tag IDs end up in source order, and the last of them is kept
+            long[] keys = new long[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = ((long) ids[i] << 32) | i;
+            }
+            Arrays.sort(keys);
+            int[] sortedIds = new int[count];
+            long[] sortedHashes = new long[count];
+            int[] positions = new int[count];
+            int unique = 0;
+            for (int k = 0; k < count; k++) {
+                int id = (int) (keys[k] >> 32);
+                int position = (int) keys[k];
+                if (unique > 0 && sortedIds[unique - 1] == id) {
+                    unique--;
+                }
+                sortedIds[unique] = id;
+                sortedHashes[unique] = hashes[position];
+                positions[unique] = position;
+                unique++;
+            }
+            return new DatasetSnapshot(Arrays.copyOf(sortedIds, unique), Arrays.copyOf(sortedHashes, unique),
+                    Arrays.copyOf(positions, unique), source);
+        }
+    }
+
+    /**
+     * Class: ChangeSet
+     * The records to add, the new values of the records to update, and the Tag IDs to delete.
+     * The records are copies, so the change set can be kept and applied later.
+     */
+    public static final class ChangeSet {
+        private final List<WildAnimal> added;
+        private final List<WildAnimal> updated;
+        private final List<Integer> deleted;
+
+        ChangeSet(List<WildAnimal> added, List<WildAnimal> updated, List<Integer> deleted) {
+            this.added = added;
+            this.updated = updated;
+            this.deleted = deleted;
+        }
+
+        public List<WildAnimal> getAdded() { return Collections.unmodifiableList(added); }
+
+        public List<WildAnimal> getUpdated() { return Collections.unmodifiableList(updated); }
+
+        public List<Integer> getDeleted() { return Collections.unmodifiableList(deleted); }
+
+        public int size() {
+            return added.size() + updated.size() + deleted.size();
+        }
+
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        /**
+         * Method: withoutDeletes
+         * Purpose: Returns the same change set without its deletes, to merge another station's
+         * records into this one without removing the animals only this station knows.
+         * Arguments: None
+         * Return: ChangeSet - the adds and updates
+         */
+        public ChangeSet withoutDeletes() {
+            return new ChangeSet(added, updated, List.of());
+        }
+
+        /**
+         * Method: withoutDeleting
+         * Purpose: Returns the same change set without the deletes of some Tag IDs, e.g. of animals
+         * that are only missing from a snapshot because their lines could not be read.
+         * Arguments: Set<Integer> ids - the Tag IDs to keep
+         * Return: ChangeSet - the changes without those deletes
+         */
+        public ChangeSet withoutDeleting(Set<Integer> ids) {
+            List<Integer> kept = new ArrayList<>(deleted);
+            kept.removeAll(ids);
+            return new ChangeSet(added, updated, kept);
+        }
+
+        @Override
+        public String toString() {
+            return added.size() + " added, " + updated.size() + " updated, " + deleted.size() + " deleted";
+        }
+    }
+}
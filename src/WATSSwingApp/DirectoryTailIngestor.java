@@ -0,0 +1,319 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: DirectoryTailIngestor.java
+ *
+ * This class watches a folder for CSV files that collar gateways append readings to.
+ * Using a WatchService, it imports only the bytes appended since the last read of each file,
+ * starting from a checkpoint offset that is persisted in the watched folder so ingestion
+ * resumes where it stopped after a restart. A partially written trailing line is left
+ * unread until its newline arrives. Lines are handed to the AnimalManager in batches using
+ * the same parsing rules as a regular CSV upload.
+ */
+
+package WATSSwingApp;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+public class DirectoryTailIngestor implements Closeable {
+
+    /**
+     * Name of the checkpoint file kept in the watched folder
+     */
+    public static final String CHECKPOINT_FILE = ".wats-ingest-offsets.properties";
+    /**
+     * Number of bytes read from a file at a time, each read becomes one batch for the AnimalManager
+     */
+    private static final int READ_CHUNK_SIZE = 1024 * 1024;
+
+    private final AnimalManager manager;
+    private final Path directory;
+    private final ConflictPolicy policy;
+    private final Path checkpointPath;
+    /**
+     * Persisted state: "<file>.offset" and "<file>.lines" for every ingested file
+     */
+    private final Properties checkpoints = new Properties();
+    /**
+     * Session-long diagnostics; no side file, only counters and a bounded sample
+     */
+    private final ImportDiagnostics diagnostics = new ImportDiagnostics(null);
+    private WatchService watchService;
+    private Thread watchThread;
+    private volatile boolean running = false;
+
+    /**
+     * Method: DirectoryTailIngestor (Constructor)
+     * Purpose: Creates an ingestor for the given folder. Call start() to begin watching.
+     * Arguments: AnimalManager manager - receives the imported records, Path directory - the watched folder,
+     * ConflictPolicy policy - handling of rows whose Tag ID already exists
+     * Return: None
+     */
+    public DirectoryTailIngestor(AnimalManager manager, Path directory, ConflictPolicy policy) {
+        this.manager = manager;
+        this.directory = directory;
+        this.policy = policy;
+        this.checkpointPath = directory.resolve(CHECKPOINT_FILE);
+    }
+
+    /**
+     * Method: start
+     * Purpose: Loads the checkpoints, catches up on every CSV file already in the folder,
+     * and starts the background thread that follows new appends.
+     * Arguments: None
+     * Return: void
+     */
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        loadCheckpoints();
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        running = true;
+        watchThread = new Thread(this::watchLoop, "folder-ingest-" + directory.getFileName());
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    /**
+     * Method: close
+     * Purpose: Stops watching the folder. The checkpoints already written stay in place.
+     * Arguments: None
+     * Return: void
+     */
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                System.out.println("[ERROR] Could not close folder watch: " + e.getMessage());
+            }
+        }
+        if (watchThread != null) {
+            watchThread.interrupt();
+        }
+    }
+
+    /**
+     * Method: getDirectory
+     * Purpose: Returns the watched folder.
+     * Arguments: None
+     * Return: Path - the watched folder
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Method: getStatusMessages
+     * Purpose: Summarizes everything ingested since the watch was started.
+     * Arguments: None
+     * Return: List<String> - summary messages
+     */
+    public List<String> getStatusMessages() {
+        synchronized (diagnostics) {
+            return diagnostics.toMessages();
+        }
+    }
+
+    /**
+     * Method: watchLoop
+     * Purpose: Body of the watch thread. Catches up on existing files, then waits for
+     * create/modify events and ingests the appended bytes of the affected files.
+     * Arguments: None
+     * Return: void
+     */
+    private void watchLoop() {
+        ingestAll();
+        while (running) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                break;
+            }
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    // Events were lost, look at every file again
+                    ingestAll();
+                } else {
+                    ingest(directory.resolve((Path) event.context()));
+                }
+            }
+            if (!key.reset()) {
+                System.out.println("[ERROR] Watched folder is no longer accessible: " + directory);
+                break;
+            }
+        }
+        running = false;
+    }
+
+    /**
+     * Method: ingestAll
+     * Purpose: Ingests the unread part of every CSV file in the watched folder.
+     * Arguments: None
+     * Return: void
+     */
+    private void ingestAll() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                ingest(file);
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            recordError("Could not list folder " + directory + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Method: isWatchedFile
+     * Purpose: Checks whether a file in the folder should be ingested: a regular .csv file
+     * that is not a rejects side file.
+     * Arguments: Path file - the file to check
+     * Return: boolean - true if the file is ingested
+     */
+    private boolean isWatchedFile(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        return name.endsWith(".csv") && !name.endsWith(".rejects.csv") && Files.isRegularFile(file);
+    }
+
+    /**
+     * Method: ingest
+     * Purpose: Reads the bytes appended to a file since its checkpoint offset and imports the
+     * complete lines among them. The checkpoint only advances past the last newline read, so a
+     * line that is still being written is picked up in full on the next event. A file that became
+     * shorter than its checkpoint is treated as replaced and read again from the start.
+     * Arguments: Path file - the file to ingest
+     * Return: void
+     */
+    private void ingest(Path file) {
+        if (!isWatchedFile(file)) {
+            return;
+        }
+        String name = file.getFileName().toString();
+        long offset = Long.parseLong(checkpoints.getProperty(name + ".offset", "0"));
+        long lineNumber = Long.parseLong(checkpoints.getProperty(name + ".lines", "0"));
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < offset) {
+                offset = 0;
+                lineNumber = 0;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK_SIZE);
+            while (running && offset < channel.size()) {
+                buffer.clear();
+                int read = channel.read(buffer, offset);
+                if (read <= 0) {
+                    break;
+                }
+                int end = lastNewline(buffer.array(), read);
+                if (end < 0) {
+                    if (read == buffer.capacity()) {
+                        // A single line longer than the chunk, grow the buffer and read again
+                        buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+                        continue;
+                    }
+                    break; // Only a partial line is available
+                }
+
+                List<String> lines = splitLines(buffer.array(), end + 1);
+                synchronized (diagnostics) {
+                    manager.importAnimalLines(lines, name, lineNumber + 1, policy, diagnostics);
+                }
+                offset += end + 1;
+                lineNumber += lines.size();
+                checkpoints.setProperty(name + ".offset", Long.toString(offset));
+                checkpoints.setProperty(name + ".lines", Long.toString(lineNumber));
+                saveCheckpoints();
+            }
+        } catch (NoSuchFileException e) {
+            // The file was removed between the event and the read
+        } catch (IOException e) {
+            recordError("Could not read " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Method: lastNewline
+     * Purpose: Finds the position of the last '\n' among the bytes read.
+     * Arguments: byte[] bytes - the buffer, int length - number of valid bytes
+     * Return: int - index of the last newline, or -1 if there is none
+     */
+    private static int lastNewline(byte[] bytes, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method: splitLines
+     * Purpose: Decodes complete lines from the buffer, dropping the line terminators ("\n" or "\r\n").
+     * Blank lines are kept so line numbers stay in step with the file.
+     * Arguments: byte[] bytes - the buffer, int length - number of bytes to decode, ending with '\n'
+     * Return: List<String> - the decoded lines
+     */
+    private static List<String> splitLines(byte[] bytes, int length) {
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] == '\n') {
+                int end = (i > start && bytes[i - 1] == '\r') ? i - 1 : i;
+                lines.add(new String(bytes, start, end - start, StandardCharsets.UTF_8));
+                start = i + 1;
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Method: loadCheckpoints
+     * Purpose: Reads the persisted offsets from the checkpoint file, if present.
+     * Arguments: None
+     * Return: void
+     */
+    private void loadCheckpoints() throws IOException {
+        if (Files.exists(checkpointPath)) {
+            try (InputStream in = Files.newInputStream(checkpointPath)) {
+                checkpoints.load(in);
+            }
+        }
+    }
+
+    /**
+     * Method: saveCheckpoints
+     * Purpose: Writes the offsets to a temporary file and moves it over the checkpoint file,
+     * so a crash never leaves a half-written checkpoint behind.
+     * Arguments: None
+     * Return: void
+     */
+    private void saveCheckpoints() throws IOException {
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            checkpoints.store(out, "WATS folder ingestion offsets");
+        }
+        try {
+            Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void recordError(String message) {
+        synchronized (diagnostics) {
+            diagnostics.error(message);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: DuplicateDetector.java
+ *
+ * This class finds animals that were probably retagged, i.e. the same individual stored under two
+ * or more Tag IDs. Records are grouped into blocks by a blocking key (normalized species, name and
+ * gender) and only records of the same block are compared, so the cost grows with the block sizes
+ * instead of the square of the number of records. Inside a block the records are sorted by weight
+ * and each record is only compared with the following records still within the weight tolerance,
+ * at most MAX_WINDOW of them, so even a large block of near-equal weights costs linear time.
+ * Matching pairs (weight and age within tolerance) are joined into clusters for review.
+ * The records are copied a chunk at a time under the manager lock and grouped without it;
+ * blocks are processed in parallel on a pool of worker threads.
+ */
+
+package WATSSwingApp;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+public class DuplicateDetector {
+
+    /**
+     * Number of blocks handed to a worker at once
+     */
+    private static final int BLOCKS_PER_TASK = 256;
+    /**
+     * Number of records copied under the manager lock at once
+     */
+    private static final int COPY_CHUNK_SIZE = 1000;
+    /**
+     * Most following records a record is compared with inside its block. Records matched through
+     * a neighbour still join the same cluster, so only very dense blocks can lose a pair.
+     */
+    private static final int MAX_WINDOW = 64;
+
+    private final double weightTolerancePercent;
+    private final int ageTolerance;
+    private final int threads;
+
+    /**
+     * Class: Cluster
+     * A group of records that are probably the same animal.
+     */
+    public static final class Cluster {
+        private final List<WildAnimal> animals;
+
+        Cluster(List<WildAnimal> animals) {
+            this.animals = Collections.unmodifiableList(animals);
+        }
+
+        public List<WildAnimal> getAnimals() { return animals; }
+
+        public int size() { return animals.size(); }
+    }
+
+    /**
+     * Method: DuplicateDetector (Constructor)
+     * Purpose: Creates a detector with the given matching tolerances.
+     * Arguments: double weightTolerancePercent - maximum weight difference in percent of the lighter record,
+     * int ageTolerance - maximum age difference in years, int threads - size of the worker pool
+     * Return: None
+     */
+    public DuplicateDetector(double weightTolerancePercent, int ageTolerance, int threads) {
+        if (weightTolerancePercent < 0 || ageTolerance < 0) {
+            throw new IllegalArgumentException("Tolerances must be non-negative");
+        }
+        this.weightTolerancePercent = weightTolerancePercent;
+        this.ageTolerance = ageTolerance;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Method: findDuplicates
+     * Purpose: Copies the manager's records in chunks, groups them into blocks and compares the
+     * records of every block in parallel. The manager lock is only held while a chunk is copied.
+     * Arguments: AnimalManager manager - source of the records
+     * Return: List<Cluster> - the clusters of probable duplicates, largest first
+     */
+    public List<Cluster> findDuplicates(AnimalManager manager) throws InterruptedException {
+        Map<String, List<WildAnimal>> blocks = new HashMap<>();
+        int[] ids = manager.findAnimalIds(null);
+        for (int start = 0; start < ids.length; start += COPY_CHUNK_SIZE) {
+            for (WildAnimal animal : manager.copyAnimals(ids, start, Math.min(start + COPY_CHUNK_SIZE, ids.length))) {
+                blocks.computeIfAbsent(blockingKey(animal), k -> new ArrayList<>(2)).add(animal);
+            }
+        }
+
+        // Blocks of a single record cannot contain duplicates
+        List<List<WildAnimal>> candidates = new ArrayList<>();
+        for (List<WildAnimal> block : blocks.values()) {
+            if (block.size() > 1) {
+                candidates.add(block);
+            }
+        }
+        blocks.clear();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<Cluster>>> results = new ArrayList<>();
+            for (int start = 0; start < candidates.size(); start += BLOCKS_PER_TASK) {
+                List<List<WildAnimal>> chunk = candidates.subList(start, Math.min(start + BLOCKS_PER_TASK, candidates.size()));
+                results.add(pool.submit(() -> {
+                    List<Cluster> clusters = new ArrayList<>();
+                    for (List<WildAnimal> block : chunk) {
+                        compareBlock(block, clusters);
+                    }
+                    return clusters;
+                }));
+            }
+
+            List<Cluster> clusters = new ArrayList<>();
+            for (Future<List<Cluster>> result : results) {
+                try {
+                    clusters.addAll(result.get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Duplicate detection failed: " + e.getCause().getMessage(), e.getCause());
+                }
+            }
+            clusters.sort(Comparator.comparingInt(Cluster::size).reversed()
+                    .thenComparingInt(cluster -> cluster.getAnimals().get(0).getId()));
+            return clusters;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Method: compareBlock
+     * Purpose: Finds the clusters of one block. Records are sorted by weight, so the comparisons of
+     * a record stop at the first following record that is too heavy to match, or after MAX_WINDOW
+     * records. Matching pairs are joined with a union-find structure.
+     * Arguments: List<WildAnimal> block - records sharing a blocking key, List<Cluster> clusters - result sink
+     * Return: void
+     */
+    private void compareBlock(List<WildAnimal> block, List<Cluster> clusters) {
+        block.sort(Comparator.comparingDouble(WildAnimal::getWeight));
+        int n = block.size();
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+
+        double factor = 1 + weightTolerancePercent / 100;
+        boolean matched = false;
+        for (int i = 0; i < n; i++) {
+            WildAnimal a = block.get(i);
+            double maxWeight = a.getWeight() * factor;
+            int end = Math.min(n, i + 1 + MAX_WINDOW);
+            for (int j = i + 1; j < end && block.get(j).getWeight() <= maxWeight; j++) {
+                if (Math.abs(a.getAge() - block.get(j).getAge()) <= ageTolerance) {
+                    union(parent, i, j);
+                    matched = true;
+                }
+            }
+        }
+        if (!matched) {
+            return;
+        }
+
+        Map<Integer, List<WildAnimal>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < n; i++) {
+            groups.computeIfAbsent(find(parent, i), k -> new ArrayList<>()).add(block.get(i));
+        }
+        for (List<WildAnimal> group : groups.values()) {
+            if (group.size() > 1) {
+                group.sort(Comparator.comparingInt(WildAnimal::getId));
+                clusters.add(new Cluster(group));
+            }
+        }
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    /**
+     * Method: blockingKey
+     * Purpose: Builds the blocking key of a record from its normalized species, name and gender.
+     * Normalization ignores case, punctuation and spacing, so "Grey Wolf" and "grey-wolf" share a block.
+     * Arguments: WildAnimal animal - the record
+     * Return: String - the blocking key
+     */
+    static String blockingKey(WildAnimal animal) {
+        return normalize(animal.getSpecies()) + '|' + normalize(animal.getName()) + '|' + normalize(animal.getGender());
+    }
+
+    private static String normalize(String value) {
+        StringBuilder normalized = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,25 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: DuplicateTagIdException.java
+ *
+ * This exception is thrown by the AnimalManager when a new record uses a Tag ID that is already
+ * stored. It is an IllegalArgumentException like the manager's other errors, so existing callers
+ * keep working; callers such as the HTTP API catch it to report a conflict.
+ */
+
+package WATSSwingApp;
+
+public class DuplicateTagIdException extends IllegalArgumentException {
+
+    /**
+     * Method: DuplicateTagIdException (Constructor)
+     * Purpose: Creates the exception with the standard message.
+     * Arguments: None
+     * Return: None
+     */
+    public DuplicateTagIdException() {
+        super("Tag ID already exists.");
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: EdtDiagnosticsDialog.java
+ *
+ * This is a non-modal dialog window showing how responsive the user interface has been: the
+ * histogram of Event Dispatch Thread stalls recorded by the EdtWatchdog, the stalled time per
+ * action (button or menu item), and the most recent stalls with the stack trace captured while
+ * the window was frozen. The figures refresh every two seconds while the dialog is open.
+ */
+
+package WATSSwingApp;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+public class EdtDiagnosticsDialog extends JDialog {
+
+    private static final int REFRESH_INTERVAL_MS = 2000;
+
+    private final EdtWatchdog watchdog;
+    private final JLabel lblSummary = new JLabel();
+    private final DefaultTableModel histogramModel = readOnlyModel("Stall Duration", "Stalls");
+    private final DefaultTableModel actionModel = readOnlyModel("Action", "Stalls", "Total (ms)", "Longest (ms)");
+    private final DefaultTableModel stallModel = readOnlyModel("Time", "Action", "Duration (ms)");
+    private final JTable stallTable = new JTable(stallModel);
+    private final JTextArea txtStack = new JTextArea();
+    private List<EdtWatchdog.Stall> stalls = List.of();
+
+    /**
+     * Method: EdtDiagnosticsDialog Constructor
+     * Instantiated and displayed from the main application frame.
+     */
+    public EdtDiagnosticsDialog(JFrame parent, EdtWatchdog watchdog) {
+        super(parent, "UI Responsiveness", false);
+        this.watchdog = watchdog;
+
+        setSize(800, 600);
+        setLocationRelativeTo(parent);
+        setLayout(new BorderLayout());
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        lblSummary.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
+        add(lblSummary, BorderLayout.NORTH);
+
+        JTabbedPane figures = new JTabbedPane();
+        figures.addTab("Histogram", new JScrollPane(new JTable(histogramModel)));
+        figures.addTab("By Action", new JScrollPane(new JTable(actionModel)));
+
+        stallTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        stallTable.getSelectionModel().addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) {
+                showStack(stallTable.getSelectedRow());
+            }
+        });
+        txtStack.setEditable(false);
+        txtStack.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        JSplitPane recent = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT,
+                new JScrollPane(stallTable), new JScrollPane(txtStack));
+        recent.setResizeWeight(0.4);
+        recent.setBorder(BorderFactory.createTitledBorder("Recent Stalls (select one for its stack trace)"));
+
+        JSplitPane content = new JSplitPane(JSplitPane.VERTICAL_SPLIT, figures, recent);
+        content.setResizeWeight(0.4);
+        add(content, BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        JButton btnReset = new JButton("Reset");
+        JButton btnClose = new JButton("Close");
+        btnReset.addActionListener(e -> {
+            watchdog.reset();
+            refresh();
+        });
+        btnClose.addActionListener(e -> dispose());
+        buttonPanel.add(btnReset);
+        buttonPanel.add(btnClose);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        Timer timer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+        timer.start();
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosed(java.awt.event.WindowEvent e) {
+                timer.stop();
+            }
+        });
+        refresh();
+    }
+
+    /**
+     * Method: refresh
+     * Purpose: Reads the current figures from the watchdog and shows them, keeping the selected stall.
+     * Arguments: none
+     * Return: void
+     */
+    private void refresh() {
+        lblSummary.setText(String.format("Stall threshold %d ms: %d stalls recorded, longest %d ms.",
+                watchdog.getThresholdMs(), watchdog.getStallCount(), watchdog.getLongestStallMs()));
+
+        List<String> labels = watchdog.getBucketLabels();
+        long[] histogram = watchdog.getHistogram();
+        histogramModel.setRowCount(0);
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            histogramModel.addRow(new Object[] { labels.get(bucket), histogram[bucket] });
+        }
+
+        actionModel.setRowCount(0);
+        for (EdtWatchdog.ActionStats action : watchdog.getActionStats()) {
+            actionModel.addRow(new Object[] { action.getAction(), action.getCount(), action.getTotalMs(),
+                    action.getLongestMs() });
+        }
+
+        EdtWatchdog.Stall selected = stallTable.getSelectedRow() >= 0 ? stalls.get(stallTable.getSelectedRow()) : null;
+        stalls = watchdog.getRecentStalls();
+        stallModel.setRowCount(0);
+        SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
+        for (EdtWatchdog.Stall stall : stalls) {
+            stallModel.addRow(new Object[] { timeFormat.format(new Date(stall.getEndedAtMillis())), stall.getAction(),
+                    stall.getDurationMs() });
+        }
+        int row = stalls.indexOf(selected);
+        if (row >= 0) {
+            stallTable.setRowSelectionInterval(row, row);
+        } else {
+            txtStack.setText("");
+        }
+    }
+
+    /**
+     * Method: showStack
+     * Purpose: Shows the stack trace captured during a stall.
+     * Arguments: int row - the row of the stall in the table
+     * Return: void
+     */
+    private void showStack(int row) {
+        if (row < 0 || row >= stalls.size()) {
+            return;
+        }
+        StackTraceElement[] stack = stalls.get(row).getStack();
+        if (stack.length == 0) {
+            txtStack.setText("The stall ended before a stack trace was captured.");
+            return;
+        }
+        StringBuilder text = new StringBuilder();
+        for (StackTraceElement frame : stack) {
+            text.append("at ").append(frame).append('\n');
+        }
+        txtStack.setText(text.toString());
+        txtStack.setCaretPosition(0);
+    }
+
+    private static DefaultTableModel readOnlyModel(String... columns) {
+        return new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,479 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: EdtWatchdog.java
+ *
+ * This class watches the Swing Event Dispatch Thread for stalls: events whose handling keeps the
+ * thread busy longer than a threshold, during which the window cannot repaint or react. It pushes
+ * an EventQueue that times every dispatched event, and a daemon thread that captures the stack
+ * trace of the Event Dispatch Thread once the event in progress passes the threshold, so the
+ * report shows what the thread was doing while the window was frozen. Time spent waiting inside
+ * a modal dialog or file chooser is not counted, only the work before and after it.
+ *
+ * The watch thread logs a stall with its stack as soon as it passes the threshold, and again each
+ * time its length doubles, so an event that never finishes, such as a deadlock, is still reported.
+ * When the event finishes, the stall is counted in a histogram of durations (threshold, 2x, 4x, ... )
+ * and summed per action, named after the button or menu item that started it. The figures are
+ * shown by the EdtDiagnosticsDialog.
+ *   -Dwats.edt.watchdog=false          disables the watchdog
+ *   -Dwats.edt.stallThresholdMs=200    sets the stall threshold
+ */
+
+package WATSSwingApp;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.InputEvent;
+import java.awt.event.InvocationEvent;
+import java.util.*;
+import java.util.List;
+
+public class EdtWatchdog extends EventQueue {
+
+    /**
+     * Default stall threshold in milliseconds
+     */
+    public static final long DEFAULT_THRESHOLD_MS = 200;
+    /**
+     * Number of histogram buckets; the last one holds every longer stall
+     */
+    public static final int BUCKET_COUNT = 6;
+    /**
+     * Number of recent stalls kept with their stack traces
+     */
+    private static final int MAX_RECENT_STALLS = 50;
+    /**
+     * Stack frames of a stall printed to the log
+     */
+    private static final int LOGGED_FRAMES = 3;
+
+    private static volatile EdtWatchdog instance;
+
+    private final long thresholdNanos;
+    private final Thread watchThread;
+    private volatile Thread dispatchThread;
+    /**
+     * The innermost event being dispatched, read by the watch thread
+     */
+    private volatile Dispatch current;
+
+    // Figures, guarded by this
+    private final long[] histogram = new long[BUCKET_COUNT];
+    private final Map<String, ActionStats> actions = new HashMap<>();
+    private final Deque<Stall> recentStalls = new ArrayDeque<>();
+    private long stallCount = 0;
+    private long longestStallMs = 0;
+
+    /**
+     * Method: install
+     * Purpose: Installs the watchdog unless it is disabled with -Dwats.edt.watchdog=false, using the
+     * threshold given with -Dwats.edt.stallThresholdMs. Installing it twice returns the first instance.
+     * Arguments: None
+     * Return: EdtWatchdog - the watchdog, or null if disabled
+     */
+    public static synchronized EdtWatchdog install() {
+        if (instance != null) {
+            return instance;
+        }
+        if (!Boolean.parseBoolean(System.getProperty("wats.edt.watchdog", "true"))) {
+            return null;
+        }
+        long thresholdMs = DEFAULT_THRESHOLD_MS;
+        String configured = System.getProperty("wats.edt.stallThresholdMs");
+        if (configured != null) {
+            try {
+                thresholdMs = Math.max(1, Long.parseLong(configured.trim()));
+            } catch (NumberFormatException e) {
+                System.out.println("[WARNING] Invalid wats.edt.stallThresholdMs '" + configured
+                        + "', using " + DEFAULT_THRESHOLD_MS + " ms");
+            }
+        }
+        EdtWatchdog watchdog = new EdtWatchdog(thresholdMs);
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(watchdog);
+        watchdog.watchThread.start();
+        instance = watchdog;
+        return watchdog;
+    }
+
+    /**
+     * Method: getInstance
+     * Purpose: Returns the installed watchdog.
+     * Arguments: None
+     * Return: EdtWatchdog - the watchdog, or null if none is installed
+     */
+    public static EdtWatchdog getInstance() {
+        return instance;
+    }
+
+    private EdtWatchdog(long thresholdMs) {
+        this.thresholdNanos = thresholdMs * 1_000_000;
+        this.watchThread = new Thread(this::watch, "wats-edt-watchdog");
+        this.watchThread.setDaemon(true);
+    }
+
+    /**
+     * Method: dispatchEvent
+     * Purpose: Dispatches an event as usual and measures how long it kept the thread busy.
+     * A nested dispatch, such as one from a modal dialog's event loop, pauses the outer one.
+     * Arguments: AWTEvent event - the event
+     * Return: void
+     */
+    @Override
+    protected void dispatchEvent(AWTEvent event) {
+        long now = System.nanoTime();
+        dispatchThread = Thread.currentThread();
+        Dispatch outer = current;
+        if (outer != null) {
+            outer.pause(now);
+        }
+        Dispatch dispatch = new Dispatch(event, now);
+        current = dispatch;
+        try {
+            super.dispatchEvent(event);
+        } finally {
+            now = System.nanoTime();
+            dispatch.pause(now);
+            current = outer;
+            if (outer != null) {
+                outer.resume(now);
+            }
+            if (dispatch.activeNanos >= thresholdNanos) {
+                record(dispatch);
+            }
+        }
+    }
+
+    /**
+     * Method: getNextEvent
+     * Purpose: Waits for the next event. While a modal dialog waits for input, the event that
+     * opened it is not busy, so its time is paused.
+     * Arguments: None
+     * Return: AWTEvent - the next event
+     */
+    @Override
+    public AWTEvent getNextEvent() throws InterruptedException {
+        Dispatch waiting = Thread.currentThread() == dispatchThread ? current : null;
+        if (waiting != null) {
+            waiting.pause(System.nanoTime());
+        }
+        try {
+            return super.getNextEvent();
+        } finally {
+            if (waiting != null) {
+                waiting.resume(System.nanoTime());
+            }
+        }
+    }
+
+    /**
+     * Method: watch
+     * Purpose: Body of the watch thread. Polls the event in progress several times per threshold,
+     * captures the stack trace of the Event Dispatch Thread once it has been busy too long and logs
+     * it then and each time the stall doubles in length, without waiting for the event to finish.
+     * Arguments: None
+     * Return: void
+     */
+    private void watch() {
+        long pollMillis = Math.max(1, thresholdNanos / 4_000_000);
+        while (true) {
+            try {
+                Thread.sleep(pollMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            Dispatch dispatch = current;
+            Thread thread = dispatchThread;
+            if (dispatch == null || thread == null || dispatch.paused) {
+                continue;
+            }
+            long busyNanos = dispatch.busyNanos(System.nanoTime());
+            if (busyNanos >= dispatch.nextReportNanos(thresholdNanos)) {
+                StackTraceElement[] stack = thread.getStackTrace();
+                // Only use it if the same event is still busy, not waiting in a modal dialog
+                if (current == dispatch && !dispatch.paused) {
+                    if (dispatch.stack == null) {
+                        dispatch.stack = stack;
+                    }
+                    dispatch.reportedNanos = busyNanos;
+                    StringBuilder log = new StringBuilder("[EDT] Busy for ").append(busyNanos / 1_000_000)
+                            .append(" ms and still running in ").append(describe(dispatch.event));
+                    appendFrames(log, stack);
+                    System.out.println(log);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method: record
+     * Purpose: Counts a finished stall in the histogram and the per-action figures, keeps it among
+     * the recent stalls and logs its duration, with its stack unless the watch thread logged it already.
+     * Arguments: Dispatch dispatch - the event that stalled the thread
+     * Return: void
+     */
+    private void record(Dispatch dispatch) {
+        long durationMs = dispatch.activeNanos / 1_000_000;
+        String action = describe(dispatch.event);
+        Stall stall = new Stall(System.currentTimeMillis(), action, durationMs, dispatch.stack);
+        synchronized (this) {
+            histogram[bucketOf(dispatch.activeNanos)]++;
+            actions.computeIfAbsent(action, ActionStats::new).add(durationMs);
+            recentStalls.addFirst(stall);
+            if (recentStalls.size() > MAX_RECENT_STALLS) {
+                recentStalls.removeLast();
+            }
+            stallCount++;
+            longestStallMs = Math.max(longestStallMs, durationMs);
+        }
+
+        StringBuilder log = new StringBuilder("[EDT] Stall of ").append(durationMs).append(" ms in ")
+                .append(action);
+        if (dispatch.reportedNanos == 0) {
+            appendFrames(log, stall.getStack());
+        }
+        System.out.println(log);
+    }
+
+    private static void appendFrames(StringBuilder log, StackTraceElement[] stack) {
+        int logged = 0;
+        for (StackTraceElement frame : stack) {
+            if (frame.getClassName().startsWith("WATSSwingApp.") && !frame.getClassName().startsWith("WATSSwingApp.EdtWatchdog")) {
+                log.append("\n      at ").append(frame);
+                if (++logged == LOGGED_FRAMES) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private int bucketOf(long nanos) {
+        int bucket = 0;
+        long upper = thresholdNanos * 2;
+        while (bucket < BUCKET_COUNT - 1 && nanos >= upper) {
+            bucket++;
+            upper *= 2;
+        }
+        return bucket;
+    }
+
+    /**
+     * Method: describe
+     * Purpose: Names the action an event belongs to: the text of the button or menu item it was
+     * sent to, or the kind of event and its target.
+     * Arguments: AWTEvent event - the event
+     * Return: String - the action name
+     */
+    private static String describe(AWTEvent event) {
+        Object source = event.getSource();
+        if (event instanceof InputEvent && source instanceof AbstractButton) {
+            String text = ((AbstractButton) source).getText();
+            if (text != null && !text.isEmpty()) {
+                return text;
+            }
+        }
+        if (event instanceof InvocationEvent) {
+            // paramString names the Runnable, e.g. runnable=WATSSwingApp.WATSMainFrame$$Lambda/0x...@1a2b
+            String params = event.paramString();
+            int start = params.indexOf("runnable=");
+            if (start >= 0) {
+                String runnable = params.substring(start + "runnable=".length());
+                int end = runnable.indexOf("$$Lambda");
+                if (end < 0) {
+                    end = runnable.indexOf(',');
+                }
+                if (end < 0) {
+                    end = runnable.indexOf('@');
+                }
+                return "invokeLater from " + (end >= 0 ? runnable.substring(0, end) : runnable);
+            }
+        }
+        String kind = event.getClass().getSimpleName();
+        return source instanceof Component ? kind + " on " + source.getClass().getSimpleName() : kind;
+    }
+
+    public long getThresholdMs() {
+        return thresholdNanos / 1_000_000;
+    }
+
+    /**
+     * Method: getBucketLabels
+     * Purpose: Returns the duration range of every histogram bucket, e.g. "200-400 ms".
+     * Arguments: None
+     * Return: List<String> - one label per bucket
+     */
+    public List<String> getBucketLabels() {
+        List<String> labels = new ArrayList<>(BUCKET_COUNT);
+        long lower = getThresholdMs();
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            labels.add(bucket < BUCKET_COUNT - 1 ? lower + "-" + lower * 2 + " ms" : lower + "+ ms");
+            lower *= 2;
+        }
+        return labels;
+    }
+
+    public synchronized long[] getHistogram() {
+        return histogram.clone();
+    }
+
+    public synchronized long getStallCount() {
+        return stallCount;
+    }
+
+    public synchronized long getLongestStallMs() {
+        return longestStallMs;
+    }
+
+    /**
+     * Method: getActionStats
+     * Purpose: Returns the stall figures per action, the action with the most stalled time first.
+     * Arguments: None
+     * Return: List<ActionStats> - copies of the figures
+     */
+    public synchronized List<ActionStats> getActionStats() {
+        List<ActionStats> stats = new ArrayList<>(actions.size());
+        for (ActionStats action : actions.values()) {
+            stats.add(action.copy());
+        }
+        stats.sort(Comparator.comparingLong(ActionStats::getTotalMs).reversed());
+        return stats;
+    }
+
+    /**
+     * Method: getRecentStalls
+     * Purpose: Returns the most recent stalls, newest first.
+     * Arguments: None
+     * Return: List<Stall> - up to 50 stalls
+     */
+    public synchronized List<Stall> getRecentStalls() {
+        return new ArrayList<>(recentStalls);
+    }
+
+    /**
+     * Method: reset
+     * Purpose: Clears all figures, e.g. before measuring a single action.
+     * Arguments: None
+     * Return: void
+     */
+    public synchronized void reset() {
+        Arrays.fill(histogram, 0);
+        actions.clear();
+        recentStalls.clear();
+        stallCount = 0;
+        longestStallMs = 0;
+    }
+
+    /**
+     * Class: Dispatch
+     * An event being dispatched and the time it has kept the thread busy so far. Written by the
+     * Event Dispatch Thread and read by the watch thread. The action is only named from the event
+     * when a stall is recorded, so the events that finish in time cost no more than this object.
+     */
+    private static final class Dispatch {
+        private final AWTEvent event;
+        private volatile long activeNanos = 0;
+        private volatile long resumedAt;
+        private volatile boolean paused = false;
+        private volatile StackTraceElement[] stack;
+        /**
+         * Busy time when the watch thread last logged the stall, 0 if it has not
+         */
+        private volatile long reportedNanos = 0;
+
+        Dispatch(AWTEvent event, long now) {
+            this.event = event;
+            this.resumedAt = now;
+        }
+
+        void pause(long now) {
+            if (!paused) {
+                activeNanos += now - resumedAt;
+                paused = true;
+            }
+        }
+
+        void resume(long now) {
+            if (paused) {
+                resumedAt = now;
+                paused = false;
+            }
+        }
+
+        long busyNanos(long now) {
+            return paused ? activeNanos : activeNanos + (now - resumedAt);
+        }
+
+        long nextReportNanos(long thresholdNanos) {
+            return reportedNanos == 0 ? thresholdNanos : reportedNanos * 2;
+        }
+    }
+
+    /**
+     * Class: Stall
+     * A finished stall: when it ended, the action, its duration and the captured stack trace.
+     */
+    public static final class Stall {
+        private final long endedAtMillis;
+        private final String action;
+        private final long durationMs;
+        private final StackTraceElement[] stack;
+
+        Stall(long endedAtMillis, String action, long durationMs, StackTraceElement[] stack) {
+            this.endedAtMillis = endedAtMillis;
+            this.action = action;
+            this.durationMs = durationMs;
+            this.stack = stack != null ? stack : new StackTraceElement[0];
+        }
+
+        public long getEndedAtMillis() { return endedAtMillis; }
+
+        public String getAction() { return action; }
+
+        public long getDurationMs() { return durationMs; }
+
+        /**
+         * Method: getStack
+         * Purpose: Returns the stack trace of the Event Dispatch Thread captured while it was stalled.
+         * Arguments: None
+         * Return: StackTraceElement[] - the frames, empty if the event ended before the watch thread looked
+         */
+        public StackTraceElement[] getStack() { return stack.clone(); }
+    }
+
+    /**
+     * Class: ActionStats
+     * The stalls of one action: how many, their total and the longest duration.
+     */
+    public static final class ActionStats {
+        private final String action;
+        private long count = 0;
+        private long totalMs = 0;
+        private long longestMs = 0;
+
+        ActionStats(String action) {
+            this.action = action;
+        }
+
+        void add(long durationMs) {
+            count++;
+            totalMs += durationMs;
+            longestMs = Math.max(longestMs, durationMs);
+        }
+
+        ActionStats copy() {
+            ActionStats copy = new ActionStats(action);
+            copy.count = count;
+            copy.totalMs = totalMs;
+            copy.longestMs = longestMs;
+            return copy;
+        }
+
+        public String getAction() { return action; }
+
+        public long getCount() { return count; }
+
+        public long getTotalMs() { return totalMs; }
+
+        public long getLongestMs() { return longestMs; }
+    }
+}
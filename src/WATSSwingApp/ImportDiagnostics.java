@@ -0,0 +1,391 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: ImportDiagnostics.java
+ *
+ * This class collects the outcome of a CSV import. Instead of keeping a message for every
+ * skipped line, it keeps a counter per rejection reason and a bounded sample of the offending
+ * lines with their line numbers. The complete list of rejected lines is written to a side file
+ * next to the imported file, so memory use stays flat no matter how bad the input is. A side file
+ * left by an earlier import is removed when the import starts, so a clean import leaves none.
+ */
+
+package WATSSwingApp;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+public class ImportDiagnostics implements Closeable {
+
+    /**
+     * Default number of rejected lines kept in memory for the report
+     */
+    public static final int DEFAULT_SAMPLE_LIMIT = 500;
+    /**
+     * Maximum number of file level errors kept in memory
+     */
+    private static final int MAX_ERRORS = 20;
+    /**
+     * Longest line text kept in a sample, longer lines are cut
+     */
+    private static final int MAX_SAMPLE_LINE_LENGTH = 200;
+
+    /**
+     * Enum: Reason
+     * Why a line of the imported file was rejected.
+     */
+    public enum Reason {
+        MISSING_FIELDS("Missing fields"),
+        DUPLICATE_ID("Duplicate Tag ID"),
+        INVALID_NUMBER("Invalid number format"),
+        NEGATIVE_AGE("Age must be non-negative"),
+        NON_POSITIVE_WEIGHT("Weight must be positive"),
+        NON_FINITE_WEIGHT("Weight must be a finite number"),
+        INVALID_HEALTH_STATUS("Invalid health status"),
+        AGE_OUT_OF_RANGE("Age above the allowed maximum"),
+        WEIGHT_OUT_OF_RANGE("Weight above the allowed maximum"),
+        SPECIES_WEIGHT_OUT_OF_RANGE("Weight outside the allowed range for the species"),
+        INVALID_GENDER("Invalid gender"),
+        UNKNOWN_TAG_ID("Unknown Tag ID"),
+        INVALID_COORDINATES("Coordinates out of range");
+
+        private final String description;
+
+        Reason(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() { return description; }
+    }
+
+    /**
+     * Class: Rejection
+     * A single rejected line kept in the bounded sample.
+     */
+    public static final class Rejection {
+        private final String entryName;
+        private final long lineNumber;
+        private final Reason reason;
+        private final String line;
+
+        Rejection(String entryName, long lineNumber, Reason reason, String line) {
+            this.entryName = entryName;
+            this.lineNumber = lineNumber;
+            this.reason = reason;
+            this.line = line;
+        }
+
+        public String getEntryName() { return entryName; }
+
+        public long getLineNumber() { return lineNumber; }
+
+        public Reason getReason() { return reason; }
+
+        public String getLine() { return line; }
+    }
+
+    private final long[] reasonCounts = new long[Reason.values().length];
+    private final List<Rejection> samples = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    /**
+     * Number of accepted lines per file or archive entry, in the order they were seen
+     */
+    private final Map<String, Long> acceptedByEntry = new LinkedHashMap<>();
+    private final int sampleLimit;
+    private final File rejectsFile;
+    /**
+     * What the imported lines describe, used in the summary messages
+     */
+    private final String recordNoun;
+    private BufferedWriter rejectsWriter;
+    private boolean spillFailed = false;
+    private long acceptedCount = 0;
+    private long updatedCount = 0;
+    private long unchangedCount = 0;
+    private long rejectedCount = 0;
+
+    /**
+     * Method: ImportDiagnostics (Constructor)
+     * Purpose: Creates a diagnostics sink with the default sample size.
+     * Arguments: File rejectsFile - where all rejected lines are written, or null to keep only the sample
+     * Return: None
+     */
+    public ImportDiagnostics(File rejectsFile) {
+        this(rejectsFile, DEFAULT_SAMPLE_LIMIT);
+    }
+
+    /**
+     * Method: ImportDiagnostics (Constructor)
+     * Purpose: Creates a diagnostics sink.
+     * Arguments: File rejectsFile - where all rejected lines are written, or null to keep only the sample,
+     * int sampleLimit - maximum number of rejected lines kept in memory
+     * Return: None
+     */
+    public ImportDiagnostics(File rejectsFile, int sampleLimit) {
+        this(rejectsFile, sampleLimit, "animals");
+    }
+
+    /**
+     * Method: ImportDiagnostics (Constructor)
+     * Purpose: Creates a diagnostics sink for lines describing something other than animals.
+     * The rejects side file of an earlier import is deleted.
+     * Arguments: File rejectsFile - where all rejected lines are written, or null to keep only the sample,
+     * int sampleLimit - maximum number of rejected lines kept in memory,
+     * String recordNoun - what the lines describe, such as "sightings"
+     * Return: None
+     */
+    public ImportDiagnostics(File rejectsFile, int sampleLimit, String recordNoun) {
+        this.rejectsFile = rejectsFile;
+        this.sampleLimit = sampleLimit;
+        this.recordNoun = recordNoun;
+        if (rejectsFile != null) {
+            try {
+                Files.deleteIfExists(rejectsFile.toPath());
+            } catch (IOException e) {
+                error("Could not delete old rejects file " + rejectsFile + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Method: rejectsFileFor
+     * Purpose: Returns the default side file used for the rejected lines of an imported file.
+     * Arguments: String filename - the imported file
+     * Return: File - the side file
+     */
+    public static File rejectsFileFor(String filename) {
+        return new File(filename + ".rejects.csv");
+    }
+
+    /**
+     * Method: rejectsFileFor
+     * Purpose: Returns the side file used for the rejected lines of an import of several files:
+     * the file's own side file for a single file, otherwise one shared side file in the folder
+     * of the first file. Each line of the side file names the file it came from.
+     * Arguments: List<String> filenames - the imported files
+     * Return: File - the side file
+     */
+    public static File rejectsFileFor(List<String> filenames) {
+        if (filenames.size() == 1) {
+            return rejectsFileFor(filenames.get(0));
+        }
+        return new File(new File(filenames.get(0)).getAbsoluteFile().getParentFile(), "import.rejects.csv");
+    }
+
+    /**
+     * Method: accept
+     * Purpose: Records an accepted line.
+     * Arguments: String entryName - file or archive entry the line came from
+     * Return: void
+     */
+    public void accept(String entryName) {
+        acceptedCount++;
+        acceptedByEntry.merge(entryName, 1L, Long::sum);
+    }
+
+    /**
+     * Method: updated
+     * Purpose: Records a line that overwrote an existing record.
+     * Arguments: String entryName - file or archive entry the line came from
+     * Return: void
+     */
+    public void updated(String entryName) {
+        updatedCount++;
+        acceptedByEntry.putIfAbsent(entryName, 0L);
+    }
+
+    /**
+     * Method: unchanged
+     * Purpose: Records a line equal to the existing record, which was therefore not written.
+     * Arguments: String entryName - file or archive entry the line came from
+     * Return: void
+     */
+    public void unchanged(String entryName) {
+        unchangedCount++;
+        acceptedByEntry.putIfAbsent(entryName, 0L);
+    }
+
+    /**
+     * Method: reject
+     * Purpose: Records a rejected line. The line is counted, added to the sample while there
+     * is room, and written to the rejects side file.
+     * Arguments: String entryName - file or archive entry, long lineNumber - 1-based line number,
+     * Reason reason - why the line was rejected, String line - the offending line
+     * Return: void
+     */
+    public void reject(String entryName, long lineNumber, Reason reason, String line) {
+        rejectedCount++;
+        reasonCounts[reason.ordinal()]++;
+        acceptedByEntry.putIfAbsent(entryName, 0L);
+        if (samples.size() < sampleLimit) {
+            String sampleLine = line.length() > MAX_SAMPLE_LINE_LENGTH
+                    ? line.substring(0, MAX_SAMPLE_LINE_LENGTH) + "..."
+                    : line;
+            samples.add(new Rejection(entryName, lineNumber, reason, sampleLine));
+        }
+        spill(entryName, lineNumber, reason, line);
+    }
+
+    /**
+     * Method: error
+     * Purpose: Records a file level error such as a missing or unreadable file.
+     * Arguments: String message - description of the error
+     * Return: void
+     */
+    public void error(String message) {
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(message);
+        }
+    }
+
+    /**
+     * Method: spill
+     * Purpose: Appends a rejected line to the rejects side file, opening it on first use. The entry
+     * and the line are quoted as CSV fields, since either may contain commas or quotes.
+     * If the side file cannot be written, spilling stops and an error is recorded.
+     * Arguments: String entryName, long lineNumber, Reason reason, String line - the rejected line
+     * Return: void
+     */
+    private void spill(String entryName, long lineNumber, Reason reason, String line) {
+        if (rejectsFile == null || spillFailed) {
+            return;
+        }
+        try {
+            if (rejectsWriter == null) {
+                rejectsWriter = new BufferedWriter(new OutputStreamWriter(
+                        new FileOutputStream(rejectsFile), StandardCharsets.UTF_8));
+                rejectsWriter.write("entry,line,reason,content");
+                rejectsWriter.newLine();
+            }
+            rejectsWriter.write(csvField(entryName));
+            rejectsWriter.write(',');
+            rejectsWriter.write(Long.toString(lineNumber));
+            rejectsWriter.write(',');
+            rejectsWriter.write(reason.name());
+            rejectsWriter.write(',');
+            rejectsWriter.write(csvField(line));
+            rejectsWriter.newLine();
+        } catch (IOException e) {
+            error("Could not write rejects file " + rejectsFile + ": " + e.getMessage());
+            spillFailed = true;
+            closeQuietly();
+        }
+    }
+
+    /**
+     * Method: csvField
+     * Purpose: Quotes a value as a CSV field if it holds a comma, quote or line break, doubling its quotes.
+     * Arguments: String value - the value
+     * Return: String - the field
+     */
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Method: close
+     * Purpose: Flushes and closes the rejects side file.
+     * Arguments: None
+     * Return: void
+     */
+    @Override
+    public void close() {
+        closeQuietly();
+    }
+
+    private void closeQuietly() {
+        if (rejectsWriter != null) {
+            try {
+                rejectsWriter.close();
+            } catch (IOException e) {
+                error("Could not close rejects file " + rejectsFile + ": " + e.getMessage());
+            }
+        }
+        rejectsWriter = null;
+    }
+
+    /**
+     * Getter methods
+     */
+    public long getAcceptedCount() { return acceptedCount; }
+
+    public long getUpdatedCount() { return updatedCount; }
+
+    public long getUnchangedCount() { return unchangedCount; }
+
+    public long getRejectedCount() { return rejectedCount; }
+
+    public long getCount(Reason reason) { return reasonCounts[reason.ordinal()]; }
+
+    public List<Rejection> getSamples() { return Collections.unmodifiableList(samples); }
+
+    public List<String> getErrors() { return Collections.unmodifiableList(errors); }
+
+    public Map<String, Long> getAcceptedByEntry() { return Collections.unmodifiableMap(acceptedByEntry); }
+
+    /**
+     * Method: getRejectsFile
+     * Purpose: Returns the side file holding every rejected line.
+     * Arguments: None
+     * Return: File - the side file, or null if nothing was written to it
+     */
+    public File getRejectsFile() {
+        return rejectedCount > 0 && rejectsFile != null && rejectsFile.exists() ? rejectsFile : null;
+    }
+
+    /**
+     * Method: hasProblems
+     * Purpose: Checks whether any line was rejected or any error occurred.
+     * Arguments: None
+     * Return: boolean - true if the report has something to show
+     */
+    public boolean hasProblems() {
+        return rejectedCount > 0 || !errors.isEmpty();
+    }
+
+    /**
+     * Method: toMessages
+     * Purpose: Summarizes the import as a short list of messages: file errors, one line per
+     * rejection reason, one line per archive entry, and the final success count.
+     * The size of the list does not depend on the number of rejected lines.
+     * Arguments: None
+     * Return: List<String> - summary messages
+     */
+    public List<String> toMessages() {
+        List<String> messages = new ArrayList<>();
+        for (String error : errors) {
+            messages.add("[ERROR] " + error);
+        }
+        for (Reason reason : Reason.values()) {
+            long count = reasonCounts[reason.ordinal()];
+            if (count > 0) {
+                messages.add("[WARNING] " + count + " lines skipped: " + reason.getDescription());
+            }
+        }
+        if (acceptedByEntry.size() > 1) {
+            for (Map.Entry<String, Long> entry : acceptedByEntry.entrySet()) {
+                messages.add("[INFO] " + entry.getValue() + " " + recordNoun + " uploaded from entry " + entry.getKey());
+            }
+        }
+        File spilled = getRejectsFile();
+        if (spilled != null) {
+            messages.add("[INFO] All rejected lines written to " + spilled.getAbsolutePath());
+        }
+        if (updatedCount > 0) {
+            messages.add("[INFO] " + updatedCount + " existing animals updated.");
+        }
+        if (unchangedCount > 0) {
+            messages.add("[INFO] " + unchangedCount + " existing animals unchanged.");
+        }
+        if (errors.isEmpty() || acceptedCount > 0) {
+            messages.add("[SUCCESS] " + acceptedCount + " " + recordNoun + " uploaded successfully.");
+        }
+        return messages;
+    }
+}
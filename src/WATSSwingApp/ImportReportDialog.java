@@ -0,0 +1,127 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: ImportReportDialog.java
+ *
+ * This is a modal dialog window that presents the result of a CSV import.
+ * It shows the summary counters of the ImportDiagnostics at the top and the sampled
+ * rejected lines in a table that is paged, so only one page of rows is handed to Swing at a time.
+ */
+
+package WATSSwingApp;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.util.List;
+
+public class ImportReportDialog extends JDialog {
+
+    /**
+     * Number of rejected lines shown per page
+     */
+    private static final int PAGE_SIZE = 50;
+
+    private final List<ImportDiagnostics.Rejection> samples;
+    private final RejectionPageModel pageModel = new RejectionPageModel();
+    private final JLabel lblPage = new JLabel();
+    private final JButton btnPrevious = new JButton("< Previous");
+    private final JButton btnNext = new JButton("Next >");
+    private int page = 0;
+
+    /**
+     * Method: ImportReportDialog Constructor
+     * Instantiated and displayed from the main application frame after an import
+     * that rejected lines or ran into errors.
+     */
+    public ImportReportDialog(JFrame parent, ImportDiagnostics diagnostics) {
+        super(parent, "Import Report", true);
+        this.samples = diagnostics.getSamples();
+
+        setSize(800, 500);
+        setLocationRelativeTo(parent);
+        setLayout(new BorderLayout());
+
+        // Summary panel
+        JTextArea summary = new JTextArea(String.join("\n", diagnostics.toMessages()));
+        summary.setEditable(false);
+        summary.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        summary.setBackground(getBackground());
+        add(summary, BorderLayout.NORTH);
+
+        // Rejected lines table
+        JTable table = new JTable(pageModel);
+        table.getColumnModel().getColumn(0).setPreferredWidth(120);
+        table.getColumnModel().getColumn(1).setPreferredWidth(60);
+        table.getColumnModel().getColumn(2).setPreferredWidth(160);
+        table.getColumnModel().getColumn(3).setPreferredWidth(460);
+        JScrollPane scrollPane = new JScrollPane(table);
+        scrollPane.setBorder(BorderFactory.createTitledBorder(
+                "Sample of rejected lines (" + samples.size() + " of " + diagnostics.getRejectedCount() + ")"));
+        add(scrollPane, BorderLayout.CENTER);
+
+        // Paging panel
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        JButton btnClose = new JButton("Close");
+        btnPrevious.addActionListener(e -> showPage(page - 1));
+        btnNext.addActionListener(e -> showPage(page + 1));
+        btnClose.addActionListener(e -> dispose());
+        buttonPanel.add(btnPrevious);
+        buttonPanel.add(lblPage);
+        buttonPanel.add(btnNext);
+        buttonPanel.add(btnClose);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        showPage(0);
+    }
+
+    /**
+     * Method: showPage
+     * Purpose: Switches the table to the given page and updates the paging controls.
+     * Arguments: int newPage - 0-based page number
+     * Return: void
+     */
+    private void showPage(int newPage) {
+        int pageCount = Math.max(1, (samples.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+        page = Math.max(0, Math.min(newPage, pageCount - 1));
+        lblPage.setText("Page " + (page + 1) + " of " + pageCount);
+        btnPrevious.setEnabled(page > 0);
+        btnNext.setEnabled(page < pageCount - 1);
+        pageModel.fireTableDataChanged();
+    }
+
+    /**
+     * Class: RejectionPageModel
+     * Read-only table model exposing the rejected lines of the current page.
+     */
+    private class RejectionPageModel extends AbstractTableModel {
+        private final String[] columnNames = { "Entry", "Line", "Reason", "Content" };
+
+        @Override
+        public int getRowCount() {
+            return Math.max(0, Math.min(PAGE_SIZE, samples.size() - page * PAGE_SIZE));
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columnNames.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columnNames[column];
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            ImportDiagnostics.Rejection rejection = samples.get(page * PAGE_SIZE + row);
+            switch (column) {
+                case 0: return rejection.getEntryName();
+                case 1: return rejection.getLineNumber();
+                case 2: return rejection.getReason().getDescription();
+                default: return rejection.getLine();
+            }
+        }
+    }
+}
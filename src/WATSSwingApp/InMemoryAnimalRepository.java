@@ -0,0 +1,109 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: InMemoryAnimalRepository.java
+ *
+ * This class is the default AnimalRepository. It keeps the WildAnimal objects on the heap
+ * in a list (insertion order) and a map from Tag ID to record. Returned records are the
+ * stored objects themselves.
+ */
+
+package WATSSwingApp;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+public class InMemoryAnimalRepository implements AnimalRepository {
+
+    /**
+     * List to store all animal records
+     */
+    private final List<WildAnimal> animals = new ArrayList<>();
+    /**
+     * Map from unique Tag ID to animal record, used for ID checks and lookups
+     */
+    private final Map<Integer, WildAnimal> animalsById = new HashMap<>();
+
+    @Override
+    public int size() {
+        return animals.size();
+    }
+
+    @Override
+    public boolean contains(int id) {
+        return animalsById.containsKey(id);
+    }
+
+    @Override
+    public WildAnimal findById(int id) {
+        return animalsById.get(id);
+    }
+
+    @Override
+    public void insert(WildAnimal animal) {
+        animals.add(animal);
+        animalsById.put(animal.getId(), animal);
+    }
+
+    /**
+     * Method: update
+     * Purpose: Copies the new values onto the stored object, keeping its identity.
+     * Nothing needs to be done when the stored object itself was changed.
+     * Arguments: WildAnimal animal - the new values
+     * Return: void
+     */
+    @Override
+    public void update(WildAnimal animal) {
+        WildAnimal stored = animalsById.get(animal.getId());
+        if (stored != null && stored != animal) {
+            stored.setSpecies(animal.getSpecies());
+            stored.setName(animal.getName());
+            stored.setAge(animal.getAge());
+            stored.setGender(animal.getGender());
+            stored.setWeight(animal.getWeight());
+            stored.setHealthStatus(animal.getHealthStatus());
+        }
+    }
+
+    @Override
+    public boolean delete(int id) {
+        WildAnimal animal = animalsById.remove(id);
+        if (animal == null) {
+            return false;
+        }
+        animals.remove(animal);
+        return true;
+    }
+
+    /**
+     * Method: deleteAll
+     * Purpose: Removes several records in a single compaction pass over the list, instead of
+     * shifting the list once per removed record.
+     * Arguments: Set<Integer> ids - the Tag IDs
+     * Return: int - number of records removed
+     */
+    @Override
+    public int deleteAll(Set<Integer> ids) {
+        int removed = 0;
+        for (int id : ids) {
+            if (animalsById.remove(id) != null) {
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            animals.removeIf(animal -> !animalsById.containsKey(animal.getId()));
+        }
+        return removed;
+    }
+
+    @Override
+    public void forEach(Consumer<WildAnimal> action) {
+        animals.forEach(action);
+    }
+
+    @Override
+    public List<WildAnimal> findAll() {
+        return new ArrayList<>(animals);
+    }
+}
@@ -0,0 +1,697 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: JdbcAnimalRepository.java
+ *
+ * This class is an AnimalRepository that keeps the records in a database through JDBC, so the
+ * data survives restarts. It is meant for an embedded engine storing a local file, such as H2
+ * (jdbc:h2:./wats-data) or SQLite (jdbc:sqlite:wats.db), and works fully offline; the driver jar
+ * only has to be on the class path. The table is created on first use with an index on species;
+ * the Tag ID is the primary key. Species are compared ignoring case, so each record also keeps
+ * its species in lower case in an indexed species_key column that those lookups use. Imports are
+ * written with batched prepared statements in one transaction, and species aggregates are
+ * computed by the database. Connections are taken from
+ * a small pool that also keeps the prepared statements of each connection. Returned records are copies, as the AnimalRepository contract allows.
+ *
+ * Database errors are reported as IllegalStateException, since the AnimalManager cannot recover from them.
+ */
+
+package WATSSwingApp;
+
+import java.io.Closeable;
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class JdbcAnimalRepository implements AnimalRepository, Closeable {
+
+    private static final String COLUMNS = "id, species, name, age, gender, weight, health_status";
+    /**
+     * Number of rows fetched from the database at a time while streaming all records
+     */
+    private static final int FETCH_SIZE = 1000;
+    /**
+     * Number of Tag IDs looked up per IN query
+     */
+    private static final int IN_CHUNK_SIZE = 500;
+    /**
+     * Seconds to wait for a free pooled connection
+     */
+    private static final int POOL_TIMEOUT_SECONDS = 30;
+
+    private final String url;
+    private final BlockingQueue<Connection> idleConnections;
+    private final List<Connection> allConnections = new ArrayList<>();
+    /**
+     * Prepared statements of every pooled connection by SQL text, reused for the single-record operations
+     */
+    private final Map<Connection, Map<String, PreparedStatement>> statementCache = new IdentityHashMap<>();
+    private final int poolSize;
+    /**
+     * Number of stored records, kept here so size() needs no query
+     */
+    private int count;
+    /**
+     * Next insertion sequence number; records are returned in insertion order
+     */
+    private long nextSeq;
+    private volatile boolean closed = false;
+
+    /**
+     * Method: JdbcAnimalRepository (Constructor)
+     * Purpose: Opens the database, creating the table and indexes if needed.
+     * Arguments: String url - the JDBC URL, int poolSize - maximum number of open connections
+     * Return: None
+     */
+    public JdbcAnimalRepository(String url, int poolSize) {
+        this.url = url;
+        this.poolSize = Math.max(1, poolSize);
+        this.idleConnections = new ArrayBlockingQueue<>(this.poolSize);
+
+        Connection connection = borrow();
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE IF NOT EXISTS animals ("
+                    + "id INTEGER PRIMARY KEY, "
+                    + "species VARCHAR(255) NOT NULL, "
+                    + "name VARCHAR(255) NOT NULL, "
+                    + "age INTEGER NOT NULL, "
+                    + "gender VARCHAR(64) NOT NULL, "
+                    + "weight DOUBLE PRECISION NOT NULL, "
+                    + "health_status VARCHAR(64) NOT NULL, "
+                    + "seq BIGINT NOT NULL, "
+                    + "species_key VARCHAR(255) NOT NULL)");
+            addSpeciesKey(connection);
+            statement.executeUpdate("CREATE INDEX IF NOT EXISTS idx_animals_species ON animals (species)");
+            statement.executeUpdate("CREATE INDEX IF NOT EXISTS idx_animals_species_key ON animals (species_key)");
+            statement.executeUpdate("CREATE INDEX IF NOT EXISTS idx_animals_seq ON animals (seq)");
+            try (ResultSet result = statement.executeQuery("SELECT COUNT(*), MAX(seq) FROM animals")) {
+                result.next();
+                count = result.getInt(1);
+                nextSeq = result.getLong(2) + 1;
+            }
+        } catch (SQLException e) {
+            throw failure("open " + url, e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    /**
+     * Method: addSpeciesKey
+     * Purpose: Adds the species_key column to a table created by an older version and fills it in.
+     * The keys are lowered in Java like the species of a filter, so both sides always agree.
+     * Arguments: Connection connection - a borrowed connection
+     * Return: void
+     */
+    private static void addSpeciesKey(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try {
+                statement.executeQuery("SELECT species_key FROM animals WHERE 1 = 0").close();
+                return;
+            } catch (SQLException e) {
+                statement.executeUpdate("ALTER TABLE animals ADD COLUMN species_key VARCHAR(255)");
+            }
+            List<String> species = new ArrayList<>();
+            try (ResultSet result = statement.executeQuery("SELECT DISTINCT species FROM animals")) {
+                while (result.next()) {
+                    species.add(result.getString(1));
+                }
+            }
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE animals SET species_key = ? WHERE species = ?")) {
+                for (String value : species) {
+                    update.setString(1, speciesKey(value));
+                    update.setString(2, value);
+                    update.executeUpdate();
+                }
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean contains(int id) {
+        Connection connection = borrow();
+        try {
+            PreparedStatement statement = prepare(connection, "SELECT 1 FROM animals WHERE id = ?");
+            statement.setInt(1, id);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next();
+            }
+        } catch (SQLException e) {
+            throw failure("look up Tag ID " + id, e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    @Override
+    public WildAnimal findById(int id) {
+        Connection connection = borrow();
+        try {
+            PreparedStatement statement = prepare(connection, "SELECT " + COLUMNS + " FROM animals WHERE id = ?");
+            statement.setInt(1, id);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() ? readAnimal(result) : null;
+            }
+        } catch (SQLException e) {
+            throw failure("read Tag ID " + id, e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    /**
+     * Method: findByIds
+     * Purpose: Reads the records with the given Tag IDs with one IN query per chunk of Tag IDs
+     * instead of one query per record.
+     * Arguments: Collection<Integer> ids - the Tag IDs, duplicates and unknown IDs allowed
+     * Return: Map<Integer, WildAnimal> - the records found by Tag ID
+     */
+    @Override
+    public Map<Integer, WildAnimal> findByIds(Collection<Integer> ids) {
+        Map<Integer, WildAnimal> found = new HashMap<>();
+        List<Integer> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinct.isEmpty()) {
+            return found;
+        }
+        Connection connection = borrow();
+        try {
+            for (int start = 0; start < distinct.size(); start += IN_CHUNK_SIZE) {
+                List<Integer> chunk = distinct.subList(start, Math.min(start + IN_CHUNK_SIZE, distinct.size()));
+                // Full chunks share one cached statement; only the last chunk of a call may need its own
+                StringBuilder sql = new StringBuilder("SELECT " + COLUMNS + " FROM animals WHERE id IN (");
+                for (int i = 0; i < chunk.size(); i++) {
+                    sql.append(i == 0 ? "?" : ", ?");
+                }
+                sql.append(')');
+                PreparedStatement statement = chunk.size() == IN_CHUNK_SIZE
+                        ? prepare(connection, sql.toString()) : connection.prepareStatement(sql.toString());
+                try {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setInt(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet result = statement.executeQuery()) {
+                        while (result.next()) {
+                            WildAnimal animal = readAnimal(result);
+                            found.put(animal.getId(), animal);
+                        }
+                    }
+                } finally {
+                    if (chunk.size() != IN_CHUNK_SIZE) {
+                        statement.close();
+                    }
+                }
+            }
+            return found;
+        } catch (SQLException e) {
+            throw failure("read " + distinct.size() + " records", e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    @Override
+    public void insert(WildAnimal animal) {
+        insertAll(Collections.singletonList(animal));
+    }
+
+    /**
+     * Method: insertAll
+     * Purpose: Inserts the records with one batched prepared statement in a single transaction.
+     * Either all records are stored or, on an error, none.
+     * Arguments: List<WildAnimal> animals - the records to store
+     * Return: void
+     */
+    @Override
+    public void insertAll(List<WildAnimal> animals) {
+        if (animals.isEmpty()) {
+            return;
+        }
+        Connection connection = borrow();
+        try {
+            connection.setAutoCommit(false);
+            long seq = nextSeq;
+            try {
+                PreparedStatement statement = prepare(connection,
+                        "INSERT INTO animals (" + COLUMNS + ", species_key, seq) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+                for (WildAnimal animal : animals) {
+                    bindFields(statement, animal);
+                    statement.setString(8, speciesKey(animal.getSpecies()));
+                    statement.setLong(9, seq++);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+            nextSeq = seq;
+            count += animals.size();
+        } catch (SQLException e) {
+            throw failure("insert " + animals.size() + " records", e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    @Override
+    public void update(WildAnimal animal) {
+        Connection connection = borrow();
+        try {
+            PreparedStatement statement = prepare(connection,
+                    "UPDATE animals SET id = ?, species = ?, name = ?, age = ?, gender = ?, weight = ?, health_status = ?, "
+                            + "species_key = ? WHERE id = ?");
+            bindFields(statement, animal);
+            statement.setString(8, speciesKey(animal.getSpecies()));
+            statement.setInt(9, animal.getId());
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw failure("update Tag ID " + animal.getId(), e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    /**
+     * Method: updateFields
+     * Purpose: Writes only the changed columns of a record. One statement is prepared per
+     * combination of fields, so at most 63 statements are cached per connection.
+     * Arguments: WildAnimal animal - the record with its new values, Set<AnimalPatch.Field> fields - the changed fields
+     * Return: void
+     */
+    @Override
+    public void updateFields(WildAnimal animal, Set<AnimalPatch.Field> fields) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        Connection connection = borrow();
+        try {
+            PreparedStatement statement = prepare(connection, updateSql(fields));
+            bindChangedFields(statement, animal, fields);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw failure("update Tag ID " + animal.getId(), e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    /**
+     * Method: updateAllFields
+     * Purpose: Writes the same columns of several records as one batch in a single transaction.
+     * Arguments: List<WildAnimal> animals - the records with their new values,
+     * Set<AnimalPatch.Field> fields - the fields to write
+     * Return: void
+     */
+    @Override
+    public void updateAllFields(List<WildAnimal> animals, Set<AnimalPatch.Field> fields) {
+        if (animals.isEmpty() || fields.isEmpty()) {
+            return;
+        }
+        Connection connection = borrow();
+        try {
+            connection.setAutoCommit(false);
+            try {
+                PreparedStatement statement = prepare(connection, updateSql(fields));
+                for (WildAnimal animal : animals) {
+                    bindChangedFields(statement, animal, fields);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw failure("update " + animals.size() + " records", e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    /**
+     * Method: deleteAll
+     * Purpose: Deletes several records as one batch in a single transaction.
+     * Arguments: Set<Integer> ids - the Tag IDs
+     * Return: int - number of records removed
+     */
+    @Override
+    public int deleteAll(Set<Integer> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Connection connection = borrow();
+        try {
+            connection.setAutoCommit(false);
+            int removed = 0;
+            try {
+                PreparedStatement statement = prepare(connection, "DELETE FROM animals WHERE id = ?");
+                for (int id : ids) {
+                    statement.setInt(1, id);
+                    statement.addBatch();
+                }
+                for (int rows : statement.executeBatch()) {
+                    // Drivers that report no counts only get Tag IDs the AnimalManager found stored
+                    removed += rows == Statement.SUCCESS_NO_INFO ? 1 : rows;
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+            count -= removed;
+            return removed;
+        } catch (SQLException e) {
+            throw failure("delete " + ids.size() + " records", e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    private static String updateSql(Set<AnimalPatch.Field> fields) {
+        StringBuilder sql = new StringBuilder("UPDATE animals SET ");
+        for (AnimalPatch.Field field : fields) {
+            if (sql.charAt(sql.length() - 1) == '?') {
+                sql.append(", ");
+            }
+            sql.append(columnOf(field)).append(" = ?");
+            if (field == AnimalPatch.Field.SPECIES) {
+                sql.append(", species_key = ?");
+            }
+        }
+        return sql.append(" WHERE id = ?").toString();
+    }
+
+    private static void bindChangedFields(PreparedStatement statement, WildAnimal animal, Set<AnimalPatch.Field> fields)
+            throws SQLException {
+        int parameter = 1;
+        for (AnimalPatch.Field field : fields) {
+            switch (field) {
+                case SPECIES:
+                    statement.setString(parameter++, animal.getSpecies());
+                    statement.setString(parameter++, speciesKey(animal.getSpecies()));
+                    break;
+                case NAME: statement.setString(parameter++, animal.getName()); break;
+                case AGE: statement.setInt(parameter++, animal.getAge()); break;
+                case GENDER: statement.setString(parameter++, animal.getGender()); break;
+                case WEIGHT: statement.setDouble(parameter++, animal.getWeight()); break;
+                default: statement.setString(parameter++, animal.getHealthStatus()); break;
+            }
+        }
+        statement.setInt(parameter, animal.getId());
+    }
+
+    private static String columnOf(AnimalPatch.Field field) {
+        switch (field) {
+            case SPECIES: return "species";
+            case NAME: return "name";
+            case AGE: return "age";
+            case GENDER: return "gender";
+            case WEIGHT: return "weight";
+            default: return "health_status";
+        }
+    }
+
+    @Override
+    public boolean delete(int id) {
+        Connection connection = borrow();
+        try {
+            PreparedStatement statement = prepare(connection, "DELETE FROM animals WHERE id = ?");
+            statement.setInt(1, id);
+            boolean deleted = statement.executeUpdate() > 0;
+            if (deleted) {
+                count--;
+            }
+            return deleted;
+        } catch (SQLException e) {
+            throw failure("delete Tag ID " + id, e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    /**
+     * Method: forEach
+     * Purpose: Streams every record in insertion order through a forward-only cursor, so the
+     * records are never all held in memory.
+     * Arguments: Consumer<WildAnimal> action - called once per record
+     * Return: void
+     */
+    @Override
+    public void forEach(Consumer<WildAnimal> action) {
+        Connection connection = borrow();
+        try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(FETCH_SIZE);
+            try (ResultSet result = statement.executeQuery("SELECT " + COLUMNS + " FROM animals ORDER BY seq")) {
+                while (result.next()) {
+                    action.accept(readAnimal(result));
+                }
+            }
+        } catch (SQLException e) {
+            throw failure("read the records", e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    @Override
+    public List<WildAnimal> findAll() {
+        List<WildAnimal> animals = new ArrayList<>(count);
+        forEach(animals::add);
+        return animals;
+    }
+
+    /**
+     * Method: summarizeBySpecies
+     * Purpose: Counts the records and sums their weights per species with one GROUP BY query.
+     * Arguments: None
+     * Return: List<SpeciesSummary> - one summary per species, ordered by species
+     */
+    @Override
+    public List<SpeciesSummary> summarizeBySpecies() {
+        Connection connection = borrow();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(
+                     "SELECT species, COUNT(*), SUM(weight) FROM animals GROUP BY species ORDER BY species")) {
+            List<SpeciesSummary> summaries = new ArrayList<>();
+            while (result.next()) {
+                summaries.add(new SpeciesSummary(result.getString(1), result.getLong(2), result.getDouble(3)));
+            }
+            return summaries;
+        } catch (SQLException e) {
+            throw failure("summarize the species", e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    /**
+     * Method: summarizeSpecies
+     * Purpose: Counts the records of one species (ignoring case) and sums their weights in the database,
+     * looking the species up through the species_key index.
+     * Arguments: String species - the species
+     * Return: SpeciesSummary - the figures, with a count of 0 if there is no such record
+     */
+    @Override
+    public SpeciesSummary summarizeSpecies(String species) {
+        Connection connection = borrow();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT COUNT(*), SUM(weight) FROM animals WHERE species_key = ?")) {
+            statement.setString(1, speciesKey(species));
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+                return new SpeciesSummary(species, result.getLong(1), result.getDouble(2));
+            }
+        } catch (SQLException e) {
+            throw failure("summarize species " + species, e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    /**
+     * Method: findMatching
+     * Purpose: Runs the filter as one query in the database. When the filter requires certain species
+     * they are added as an IN condition on species_key, which the species_key index serves.
+     * Arguments: AnimalFilter filter - the compiled filter
+     * Return: List<WildAnimal> - the matching records, in insertion order
+     */
+    @Override
+    public List<WildAnimal> findMatching(AnimalFilter filter) {
+        Connection connection = borrow();
+        try {
+            StringBuilder sql = new StringBuilder("SELECT " + COLUMNS + " FROM animals WHERE ");
+            List<Object> parameters = new ArrayList<>();
+            if (filter.getSpeciesCandidates() != null) {
+                Set<String> candidates = filter.getSpeciesCandidates();
+                if (candidates.isEmpty()) {
+                    return new ArrayList<>();
+                }
+                sql.append("species_key IN (");
+                for (int i = 0; i < candidates.size(); i++) {
+                    sql.append(i == 0 ? "?" : ", ?");
+                }
+                sql.append(") AND ");
+                parameters.addAll(candidates);
+            }
+            filter.appendSql(sql, parameters);
+            sql.append(" ORDER BY seq");
+
+            try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                statement.setFetchSize(FETCH_SIZE);
+                List<WildAnimal> matches = new ArrayList<>();
+                try (ResultSet result = statement.executeQuery()) {
+                    while (result.next()) {
+                        matches.add(readAnimal(result));
+                    }
+                }
+                return matches;
+            }
+        } catch (SQLException e) {
+            throw failure("run the filter " + filter, e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    /**
+     * Method: close
+     * Purpose: Closes every pooled connection. Embedded engines write their file on close.
+     * Arguments: None
+     * Return: void
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        for (Connection connection : allConnections) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                System.out.println("[WARNING] Could not close database connection: " + e.getMessage());
+            }
+        }
+        allConnections.clear();
+        statementCache.clear();
+        idleConnections.clear();
+    }
+
+    /**
+     * Method: borrow
+     * Purpose: Takes an idle connection from the pool, opening a new one while the pool is not full
+     * and waiting for a returned one otherwise. Broken connections are replaced.
+     * Arguments: None
+     * Return: Connection - a connection to give back with release()
+     */
+    private Connection borrow() {
+        if (closed) {
+            throw new IllegalStateException("The database repository is closed");
+        }
+        try {
+            Connection connection = idleConnections.poll();
+            if (connection == null) {
+                connection = openIfPoolNotFull();
+            }
+            if (connection == null) {
+                connection = idleConnections.poll(POOL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                if (connection == null) {
+                    throw new IllegalStateException("No database connection became free within "
+                            + POOL_TIMEOUT_SECONDS + " seconds");
+                }
+            }
+            if (connection.isClosed()) {
+                discard(connection);
+                return borrow();
+            }
+            return connection;
+        } catch (SQLException e) {
+            throw failure("connect to " + url, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    private synchronized Connection openIfPoolNotFull() throws SQLException {
+        if (allConnections.size() >= poolSize) {
+            return null;
+        }
+        Connection connection = DriverManager.getConnection(url);
+        allConnections.add(connection);
+        return connection;
+    }
+
+    private synchronized void discard(Connection connection) {
+        allConnections.remove(connection);
+        statementCache.remove(connection);
+    }
+
+    /**
+     * Method: prepare
+     * Purpose: Returns the cached prepared statement of a connection for the given SQL, preparing
+     * it on first use. The statements stay open until the connection is closed.
+     * Arguments: Connection connection - a borrowed connection, String sql - the statement text
+     * Return: PreparedStatement - the statement
+     */
+    private PreparedStatement prepare(Connection connection, String sql) throws SQLException {
+        Map<String, PreparedStatement> statements;
+        synchronized (this) {
+            statements = statementCache.computeIfAbsent(connection, k -> new HashMap<>());
+        }
+        // Only the thread that borrowed the connection uses its statements
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        }
+        return statement;
+    }
+
+    private void release(Connection connection) {
+        if (!closed) {
+            idleConnections.offer(connection);
+        }
+    }
+
+    private static void bindFields(PreparedStatement statement, WildAnimal animal) throws SQLException {
+        statement.setInt(1, animal.getId());
+        statement.setString(2, animal.getSpecies());
+        statement.setString(3, animal.getName());
+        statement.setInt(4, animal.getAge());
+        statement.setString(5, animal.getGender());
+        statement.setDouble(6, animal.getWeight());
+        statement.setString(7, animal.getHealthStatus());
+    }
+
+    private static String speciesKey(String species) {
+        return species.toLowerCase(Locale.ROOT);
+    }
+
+    private static WildAnimal readAnimal(ResultSet result) throws SQLException {
+        return new WildAnimal(result.getInt(1), result.getString(2), result.getString(3), result.getInt(4),
+                result.getString(5), result.getDouble(6), result.getString(7));
+    }
+
+    private static IllegalStateException failure(String action, SQLException e) {
+        return new IllegalStateException("Database error: could not " + action + ": " + e.getMessage(), e);
+    }
+}
@@ -0,0 +1,322 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: JsonSupport.java
+ *
+ * This class holds the small amount of JSON handling the HTTP API needs, so no JSON library has
+ * to be shipped: writing animal records, summaries and strings, and parsing a flat JSON object
+ * whose values are strings, numbers, booleans or null. Nested objects and arrays are rejected.
+ */
+
+package WATSSwingApp;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class JsonSupport {
+
+    private JsonSupport() {
+    }
+
+    /**
+     * Method: appendAnimal
+     * Purpose: Appends a record as a JSON object.
+     * Arguments: StringBuilder out - the target, WildAnimal animal - the record
+     * Return: void
+     */
+    static void appendAnimal(StringBuilder out, WildAnimal animal) {
+        out.append("{\"id\":").append(animal.getId());
+        out.append(",\"species\":");
+        appendString(out, animal.getSpecies());
+        out.append(",\"name\":");
+        appendString(out, animal.getName());
+        out.append(",\"age\":").append(animal.getAge());
+        out.append(",\"gender\":");
+        appendString(out, animal.getGender());
+        out.append(",\"weight\":").append(animal.getWeight());
+        out.append(",\"healthStatus\":");
+        appendString(out, animal.getHealthStatus());
+        out.append('}');
+    }
+
+    /**
+     * Method: appendSummary
+     * Purpose: Appends a species summary and its weight percentiles as a JSON object.
+     * Arguments: StringBuilder out - the target, SpeciesSummary summary - the summary,
+     * double[] weightQuantiles - estimated 5th, 50th and 95th percentile weights
+     * Return: void
+     */
+    static void appendSummary(StringBuilder out, SpeciesSummary summary, double[] weightQuantiles) {
+        out.append("{\"species\":");
+        appendString(out, summary.getSpecies());
+        out.append(",\"count\":").append(summary.getCount());
+        out.append(",\"totalWeight\":").append(summary.getTotalWeight());
+        out.append(",\"averageWeight\":").append(summary.getAverageWeight());
+        out.append(",\"weightP5\":");
+        appendNumber(out, weightQuantiles[0]);
+        out.append(",\"medianWeight\":");
+        appendNumber(out, weightQuantiles[1]);
+        out.append(",\"weightP95\":");
+        appendNumber(out, weightQuantiles[2]);
+        out.append('}');
+    }
+
+    /**
+     * Method: appendNumber
+     * Purpose: Appends a number, or null for NaN, which JSON cannot represent.
+     * Arguments: StringBuilder out - the target, double value - the number
+     * Return: void
+     */
+    static void appendNumber(StringBuilder out, double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            out.append("null");
+        } else {
+            out.append(value);
+        }
+    }
+
+    /**
+     * Method: appendString
+     * Purpose: Appends a JSON string literal, escaping quotes, backslashes and control characters.
+     * Arguments: StringBuilder out - the target, String value - the string, or null
+     * Return: void
+     */
+    static void appendString(StringBuilder out, String value) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': out.append("\\\""); break;
+                case '\\': out.append("\\\\"); break;
+                case '\n': out.append("\\n"); break;
+                case '\r': out.append("\\r"); break;
+                case '\t': out.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Method: parseObject
+     * Purpose: Parses a flat JSON object. Numbers are returned as Double, strings as String,
+     * booleans as Boolean and null as null.
+     * Arguments: String json - the JSON text
+     * Return: Map<String, Object> - the members in document order
+     */
+    static Map<String, Object> parseObject(String json) {
+        Parser parser = new Parser(json);
+        Map<String, Object> members = parser.parseObject();
+        parser.skipWhitespace();
+        if (parser.position != json.length()) {
+            throw parser.error("Unexpected content after the object");
+        }
+        return members;
+    }
+
+    /**
+     * Method: toAnimal
+     * Purpose: Builds a record from a parsed JSON object with the fields written by appendAnimal.
+     * Arguments: Map<String, Object> members - the parsed object, int id - the Tag ID to use
+     * Return: WildAnimal - the record
+     */
+    static WildAnimal toAnimal(Map<String, Object> members, int id) {
+        return new WildAnimal(id, stringMember(members, "species"), stringMember(members, "name"),
+                intMember(members, "age"), stringMember(members, "gender"),
+                numberMember(members, "weight"), stringMember(members, "healthStatus"));
+    }
+
+    /**
+     * Method: toPatch
+     * Purpose: Builds a patch from a parsed JSON object holding only the fields to change.
+     * An "id" member is ignored, since the Tag ID comes from the path.
+     * Arguments: Map<String, Object> members - the parsed object
+     * Return: AnimalPatch - the patch, with one dirty field per member
+     */
+    static AnimalPatch toPatch(Map<String, Object> members) {
+        AnimalPatch patch = new AnimalPatch();
+        for (String name : members.keySet()) {
+            switch (name) {
+                case "id": break;
+                case "species": patch.setSpecies(stringMember(members, name)); break;
+                case "name": patch.setName(stringMember(members, name)); break;
+                case "age": patch.setAge(intMember(members, name)); break;
+                case "gender": patch.setGender(stringMember(members, name)); break;
+                case "weight": patch.setWeight(numberMember(members, name)); break;
+                case "healthStatus": patch.setHealthStatus(stringMember(members, name)); break;
+                default: throw new IllegalArgumentException("Unknown field '" + name + "'");
+            }
+        }
+        return patch;
+    }
+
+    static int intMember(Map<String, Object> members, String name) {
+        double value = numberMember(members, name);
+        if (value != Math.rint(value) || value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Field '" + name + "' must be a whole number");
+        }
+        return (int) value;
+    }
+
+    static String stringMember(Map<String, Object> members, String name) {
+        Object value = members.get(name);
+        if (!(value instanceof String)) {
+            throw new IllegalArgumentException("Field '" + name + "' must be a string");
+        }
+        return ((String) value).trim();
+    }
+
+    static double numberMember(Map<String, Object> members, String name) {
+        Object value = members.get(name);
+        if (!(value instanceof Double)) {
+            throw new IllegalArgumentException("Field '" + name + "' must be a number");
+        }
+        return (Double) value;
+    }
+
+    /**
+     * Class: Parser
+     * Recursive-descent parser for a single flat object.
+     */
+    private static final class Parser {
+        private final String text;
+        private int position = 0;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        Map<String, Object> parseObject() {
+            Map<String, Object> members = new LinkedHashMap<>();
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                position++;
+                return members;
+            }
+            while (true) {
+                skipWhitespace();
+                String name = parseString();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                members.put(name, parseValue());
+                skipWhitespace();
+                char c = next();
+                if (c == '}') {
+                    return members;
+                }
+                if (c != ',') {
+                    throw error("Expected ',' or '}'");
+                }
+            }
+        }
+
+        Object parseValue() {
+            char c = peek();
+            if (c == '"') {
+                return parseString();
+            }
+            if (c == '-' || (c >= '0' && c <= '9')) {
+                int start = position;
+                while (position < text.length() && "+-0123456789.eE".indexOf(text.charAt(position)) >= 0) {
+                    position++;
+                }
+                try {
+                    return Double.parseDouble(text.substring(start, position));
+                } catch (NumberFormatException e) {
+                    throw error("Invalid number");
+                }
+            }
+            if (text.startsWith("true", position)) {
+                position += 4;
+                return Boolean.TRUE;
+            }
+            if (text.startsWith("false", position)) {
+                position += 5;
+                return Boolean.FALSE;
+            }
+            if (text.startsWith("null", position)) {
+                position += 4;
+                return null;
+            }
+            throw error("Only strings, numbers, booleans and null are supported as values");
+        }
+
+        String parseString() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (true) {
+                char c = next();
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                char escaped = next();
+                switch (escaped) {
+                    case '"': case '\\': case '/': value.append(escaped); break;
+                    case 'b': value.append('\b'); break;
+                    case 'f': value.append('\f'); break;
+                    case 'n': value.append('\n'); break;
+                    case 'r': value.append('\r'); break;
+                    case 't': value.append('\t'); break;
+                    case 'u':
+                        if (position + 4 > text.length()) {
+                            throw error("Invalid unicode escape");
+                        }
+                        try {
+                            value.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw error("Invalid unicode escape");
+                        }
+                        position += 4;
+                        break;
+                    default:
+                        throw error("Invalid escape");
+                }
+            }
+        }
+
+        void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private char peek() {
+            if (position >= text.length()) {
+                throw error("Unexpected end of JSON");
+            }
+            return text.charAt(position);
+        }
+
+        private char next() {
+            char c = peek();
+            position++;
+            return c;
+        }
+
+        private void expect(char expected) {
+            if (next() != expected) {
+                throw error("Expected '" + expected + "'");
+            }
+        }
+
+        IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Invalid JSON at position " + position + ": " + message);
+        }
+    }
+}
@@ -0,0 +1,435 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: OffHeapAnimalRepository.java
+ *
+ * This class is an AnimalRepository that keeps the records outside the garbage collected heap,
+ * in direct ByteBuffers. Each record occupies a fixed-width slot holding the Tag ID, age, weight,
+ * dictionary codes for species, gender and health status, and a reference to the name, which is
+ * kept in a separate off-heap string area. The Tag ID to slot index is an off-heap open addressing
+ * hash table, and freed slots are reused through a free list. Names are stored in blocks whose
+ * capacity is a power of two; the block of a deleted record, or of a name that outgrew it, is put
+ * on a free list per capacity that is threaded through the freed blocks themselves, so the string
+ * area does not grow under update and delete churn. The heap only holds the small
+ * dictionaries and a handful of buffer objects, whatever the number of records, so large data
+ * sets do not cause long garbage collection pauses. WildAnimal objects are created on demand
+ * when a record is read.
+ *
+ * Direct memory is limited by -XX:MaxDirectMemorySize, which defaults to the maximum heap size.
+ */
+
+package WATSSwingApp;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Consumer;
+
+public class OffHeapAnimalRepository implements AnimalRepository {
+
+    // Slot layout
+    private static final int ID_OFFSET = 0;
+    private static final int AGE_OFFSET = 4;
+    private static final int WEIGHT_OFFSET = 8;
+    private static final int SPECIES_OFFSET = 16;
+    private static final int GENDER_OFFSET = 20;
+    private static final int HEALTH_OFFSET = 22;
+    private static final int NAME_LENGTH_OFFSET = 24;
+    private static final int NAME_CAPACITY_OFFSET = 28;
+    private static final int NAME_POSITION_OFFSET = 32;
+    private static final int SLOT_SIZE = 40;
+    /**
+     * Code stored in the species field of a free slot
+     */
+    private static final int FREE_SLOT = -1;
+
+    private static final int SLOTS_PER_CHUNK = 64 * 1024;
+    private static final int STRING_CHUNK_SIZE = 4 * 1024 * 1024;
+    /**
+     * Smallest name block; large enough to hold the free list link of a freed block
+     */
+    private static final int MIN_NAME_CAPACITY = 8;
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+
+    /**
+     * Fixed-width record slots, SLOTS_PER_CHUNK per buffer
+     */
+    private final List<ByteBuffer> slotChunks = new ArrayList<>();
+    /**
+     * Off-heap string area holding the UTF-8 encoded names
+     */
+    private final List<ByteBuffer> stringChunks = new ArrayList<>();
+    private final StringDictionary speciesCodes = new StringDictionary(Integer.MAX_VALUE);
+    private final StringDictionary genderCodes = new StringDictionary(Short.MAX_VALUE);
+    private final StringDictionary healthCodes = new StringDictionary(Short.MAX_VALUE);
+    /**
+     * Per block capacity 2^k: position of the first free name block, or -1. Each free block
+     * holds the position of the next one in its first eight bytes.
+     */
+    private final long[] freeNameBlocks = new long[Integer.numberOfTrailingZeros(STRING_CHUNK_SIZE) + 1];
+
+    /**
+     * Stack of freed slot indexes, reused before new slots are taken
+     */
+    private int[] freeSlots = new int[64];
+    private int freeCount = 0;
+    /**
+     * Number of slots ever handed out; slots at and above this index are unused
+     */
+    private int slotHighWater = 0;
+    private int size = 0;
+
+    /**
+     * Tag ID index: open addressing table of (id int, slot + 1 int) pairs, 0 marks an empty bucket
+     */
+    private ByteBuffer index = ByteBuffer.allocateDirect(INITIAL_INDEX_CAPACITY * 8);
+    private int indexCapacity = INITIAL_INDEX_CAPACITY;
+
+    public OffHeapAnimalRepository() {
+        Arrays.fill(freeNameBlocks, -1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(int id) {
+        return findSlot(id) >= 0;
+    }
+
+    @Override
+    public WildAnimal findById(int id) {
+        int slot = findSlot(id);
+        return slot < 0 ? null : readSlot(slot);
+    }
+
+    @Override
+    public void insert(WildAnimal animal) {
+        int slot = freeCount > 0 ? freeSlots[--freeCount] : newSlot();
+        try {
+            writeSlot(slot, animal, false);
+        } catch (RuntimeException e) {
+            releaseSlot(slot);
+            throw e;
+        }
+        indexPut(animal.getId(), slot);
+        size++;
+    }
+
+    @Override
+    public void update(WildAnimal animal) {
+        int slot = findSlot(animal.getId());
+        if (slot >= 0) {
+            writeSlot(slot, animal, true);
+        }
+    }
+
+    @Override
+    public boolean delete(int id) {
+        int slot = findSlot(id);
+        if (slot < 0) {
+            return false;
+        }
+        indexRemove(id);
+        ByteBuffer chunk = chunk(slot);
+        int base = offset(slot);
+        freeName(chunk.getLong(base + NAME_POSITION_OFFSET), chunk.getInt(base + NAME_CAPACITY_OFFSET));
+        releaseSlot(slot);
+        size--;
+        return true;
+    }
+
+    /**
+     * Method: releaseSlot
+     * Purpose: Marks a slot as free and puts it on the free list.
+     * Arguments: int slot - the slot
+     * Return: void
+     */
+    private void releaseSlot(int slot) {
+        chunk(slot).putInt(offset(slot) + SPECIES_OFFSET, FREE_SLOT);
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    @Override
+    public void forEach(Consumer<WildAnimal> action) {
+        for (int slot = 0; slot < slotHighWater; slot++) {
+            if (chunk(slot).getInt(offset(slot) + SPECIES_OFFSET) != FREE_SLOT) {
+                action.accept(readSlot(slot));
+            }
+        }
+    }
+
+    @Override
+    public List<WildAnimal> findAll() {
+        List<WildAnimal> animals = new ArrayList<>(size);
+        forEach(animals::add);
+        return animals;
+    }
+
+    private ByteBuffer chunk(int slot) {
+        return slotChunks.get(slot / SLOTS_PER_CHUNK);
+    }
+
+    private static int offset(int slot) {
+        return (slot % SLOTS_PER_CHUNK) * SLOT_SIZE;
+    }
+
+    /**
+     * Method: newSlot
+     * Purpose: Takes the next never used slot, allocating a new chunk when needed.
+     * Arguments: None
+     * Return: int - the slot index
+     */
+    private int newSlot() {
+        if (slotHighWater == slotChunks.size() * SLOTS_PER_CHUNK) {
+            slotChunks.add(ByteBuffer.allocateDirect(SLOTS_PER_CHUNK * SLOT_SIZE));
+        }
+        return slotHighWater++;
+    }
+
+    /**
+     * Method: writeSlot
+     * Purpose: Encodes a record into a slot. When updating, a name that still fits the block of
+     * the previous name is written in place; otherwise that block is freed and a larger one taken.
+     * Arguments: int slot - the slot, WildAnimal animal - the values, boolean reuseName - true on update
+     * Return: void
+     */
+    private void writeSlot(int slot, WildAnimal animal, boolean reuseName) {
+        // Encode everything that can be rejected before the slot is touched
+        int species = speciesCodes.encode(animal.getSpecies());
+        int gender = genderCodes.encode(animal.getGender());
+        int health = healthCodes.encode(animal.getHealthStatus());
+        byte[] name = (animal.getName() == null ? "" : animal.getName()).getBytes(StandardCharsets.UTF_8);
+        int needed = nameCapacity(name.length);
+
+        ByteBuffer chunk = chunk(slot);
+        int base = offset(slot);
+        long position;
+        int capacity;
+        if (reuseName && name.length <= chunk.getInt(base + NAME_CAPACITY_OFFSET)) {
+            position = chunk.getLong(base + NAME_POSITION_OFFSET);
+            capacity = chunk.getInt(base + NAME_CAPACITY_OFFSET);
+        } else {
+            if (reuseName) {
+                freeName(chunk.getLong(base + NAME_POSITION_OFFSET), chunk.getInt(base + NAME_CAPACITY_OFFSET));
+            }
+            capacity = needed;
+            position = allocateName(capacity);
+        }
+        putBytes(position, name);
+        chunk.putInt(base + ID_OFFSET, animal.getId());
+        chunk.putInt(base + AGE_OFFSET, animal.getAge());
+        chunk.putDouble(base + WEIGHT_OFFSET, animal.getWeight());
+        chunk.putInt(base + SPECIES_OFFSET, species);
+        chunk.putShort(base + GENDER_OFFSET, (short) gender);
+        chunk.putShort(base + HEALTH_OFFSET, (short) health);
+        chunk.putInt(base + NAME_LENGTH_OFFSET, name.length);
+        chunk.putInt(base + NAME_CAPACITY_OFFSET, capacity);
+        chunk.putLong(base + NAME_POSITION_OFFSET, position);
+    }
+
+    private WildAnimal readSlot(int slot) {
+        ByteBuffer chunk = chunk(slot);
+        int base = offset(slot);
+        byte[] name = new byte[chunk.getInt(base + NAME_LENGTH_OFFSET)];
+        getBytes(chunk.getLong(base + NAME_POSITION_OFFSET), name);
+        return new WildAnimal(
+                chunk.getInt(base + ID_OFFSET),
+                speciesCodes.decode(chunk.getInt(base + SPECIES_OFFSET)),
+                new String(name, StandardCharsets.UTF_8),
+                chunk.getInt(base + AGE_OFFSET),
+                genderCodes.decode(chunk.getShort(base + GENDER_OFFSET)),
+                chunk.getDouble(base + WEIGHT_OFFSET),
+                healthCodes.decode(chunk.getShort(base + HEALTH_OFFSET)));
+    }
+
+    /**
+     * Method: nameCapacity
+     * Purpose: Returns the block capacity for a name: the next power of two, at least MIN_NAME_CAPACITY.
+     * Arguments: int length - the encoded length of the name
+     * Return: int - the capacity
+     */
+    private static int nameCapacity(int length) {
+        if (length > STRING_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Name is too long");
+        }
+        return Math.max(MIN_NAME_CAPACITY, Integer.highestOneBit(Math.max(1, length - 1)) << 1);
+    }
+
+    /**
+     * Method: allocateName
+     * Purpose: Takes a name block from the free list of its capacity, or appends a new one to the
+     * string area. A block never spans two chunks.
+     * Arguments: int capacity - the block capacity, a power of two
+     * Return: long - position of the block in the string area
+     */
+    private long allocateName(int capacity) {
+        int sizeClass = Integer.numberOfTrailingZeros(capacity);
+        long position = freeNameBlocks[sizeClass];
+        if (position >= 0) {
+            freeNameBlocks[sizeClass] = stringChunk(position).getLong(stringOffset(position));
+            return position;
+        }
+        ByteBuffer last = stringChunks.isEmpty() ? null : stringChunks.get(stringChunks.size() - 1);
+        if (last == null || last.remaining() < capacity) {
+            last = ByteBuffer.allocateDirect(STRING_CHUNK_SIZE);
+            stringChunks.add(last);
+        }
+        position = (long) (stringChunks.size() - 1) * STRING_CHUNK_SIZE + last.position();
+        last.position(last.position() + capacity);
+        return position;
+    }
+
+    /**
+     * Method: freeName
+     * Purpose: Puts a name block on the free list of its capacity.
+     * Arguments: long position - position of the block, int capacity - its capacity
+     * Return: void
+     */
+    private void freeName(long position, int capacity) {
+        int sizeClass = Integer.numberOfTrailingZeros(capacity);
+        stringChunk(position).putLong(stringOffset(position), freeNameBlocks[sizeClass]);
+        freeNameBlocks[sizeClass] = position;
+    }
+
+    private ByteBuffer stringChunk(long position) {
+        return stringChunks.get((int) (position / STRING_CHUNK_SIZE));
+    }
+
+    private static int stringOffset(long position) {
+        return (int) (position % STRING_CHUNK_SIZE);
+    }
+
+    private void putBytes(long position, byte[] bytes) {
+        stringChunk(position).put(stringOffset(position), bytes);
+    }
+
+    private void getBytes(long position, byte[] bytes) {
+        stringChunk(position).get(stringOffset(position), bytes);
+    }
+
+    /**
+     * Method: findSlot
+     * Purpose: Looks up the slot of a Tag ID in the off-heap index.
+     * Arguments: int id - the Tag ID
+     * Return: int - the slot index, or -1 if the Tag ID is not stored
+     */
+    private int findSlot(int id) {
+        int mask = indexCapacity - 1;
+        for (int bucket = hash(id) & mask; ; bucket = (bucket + 1) & mask) {
+            int value = index.getInt(bucket * 8 + 4);
+            if (value == 0) {
+                return -1;
+            }
+            if (index.getInt(bucket * 8) == id) {
+                return value - 1;
+            }
+        }
+    }
+
+    private void indexPut(int id, int slot) {
+        if ((size + 1) * 4L > indexCapacity * 3L) {
+            resizeIndex();
+        }
+        int mask = indexCapacity - 1;
+        int bucket = hash(id) & mask;
+        while (index.getInt(bucket * 8 + 4) != 0 && index.getInt(bucket * 8) != id) {
+            bucket = (bucket + 1) & mask;
+        }
+        index.putInt(bucket * 8, id);
+        index.putInt(bucket * 8 + 4, slot + 1);
+    }
+
+    /**
+     * Method: indexRemove
+     * Purpose: Removes a Tag ID from the index using backward shift deletion, so that
+     * no tombstones are left behind and lookups stay short.
+     * Arguments: int id - the Tag ID
+     * Return: void
+     */
+    private void indexRemove(int id) {
+        int mask = indexCapacity - 1;
+        int bucket = hash(id) & mask;
+        while (index.getInt(bucket * 8) != id || index.getInt(bucket * 8 + 4) == 0) {
+            bucket = (bucket + 1) & mask;
+        }
+        int hole = bucket;
+        for (int next = (hole + 1) & mask; index.getInt(next * 8 + 4) != 0; next = (next + 1) & mask) {
+            int home = hash(index.getInt(next * 8)) & mask;
+            // Move the entry back if its home bucket is not between the hole and its position
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                index.putInt(hole * 8, index.getInt(next * 8));
+                index.putInt(hole * 8 + 4, index.getInt(next * 8 + 4));
+                hole = next;
+            }
+        }
+        index.putInt(hole * 8, 0);
+        index.putInt(hole * 8 + 4, 0);
+    }
+
+    private void resizeIndex() {
+        ByteBuffer oldIndex = index;
+        int oldCapacity = indexCapacity;
+        indexCapacity = oldCapacity * 2;
+        index = ByteBuffer.allocateDirect(indexCapacity * 8);
+        int mask = indexCapacity - 1;
+        for (int i = 0; i < oldCapacity; i++) {
+            int value = oldIndex.getInt(i * 8 + 4);
+            if (value != 0) {
+                int id = oldIndex.getInt(i * 8);
+                int bucket = hash(id) & mask;
+                while (index.getInt(bucket * 8 + 4) != 0) {
+                    bucket = (bucket + 1) & mask;
+                }
+                index.putInt(bucket * 8, id);
+                index.putInt(bucket * 8 + 4, value);
+            }
+        }
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Class: StringDictionary
+     * Maps the few distinct values of a low-cardinality field to small integer codes.
+     * Code 0 stands for null.
+     */
+    private static final class StringDictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>(Collections.singletonList(null));
+        private final int maxCode;
+
+        StringDictionary(int maxCode) {
+            this.maxCode = maxCode;
+        }
+
+        int encode(String value) {
+            if (value == null) {
+                return 0;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                if (values.size() > maxCode) {
+                    throw new IllegalArgumentException("Too many distinct values in a dictionary field");
+                }
+                code = values.size();
+                values.add(value);
+                codes.put(value, code);
+            }
+            return code;
+        }
+
+        String decode(int code) {
+            return values.get(code);
+        }
+    }
+}
@@ -0,0 +1,485 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: PagedAnimalArchive.java
+ *
+ * This class gives read access to an archive of animal records that is too large for the heap.
+ * Records are kept in a file of fixed-width binary records that is memory-mapped, and are
+ * materialized as WildAnimal objects one page at a time. Materialized pages are kept in an LRU
+ * cache of configurable size, so the heap used does not depend on the size of the archive.
+ * Archives are created by streaming a CSV file or an existing list of records into the file.
+ *
+ * String fields are stored inline when their UTF-8 form fits the fixed width. Longer values are
+ * written to a string area after the records and the field keeps a reference to them, so every
+ * value is kept intact whatever its length. Archives of the first version, which cut long values,
+ * can still be read.
+ */
+
+package WATSSwingApp;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+public class PagedAnimalArchive implements Closeable {
+
+    /**
+     * Number of records materialized together as one page
+     */
+    public static final int PAGE_RECORDS = 1024;
+    /**
+     * Default number of pages kept in the LRU cache, overridable with -Dwats.archive.cachePages
+     */
+    public static final int DEFAULT_CACHE_PAGES = Integer.getInteger("wats.archive.cachePages", 64);
+
+    private static final int MAGIC = 0x57415441; // "WATA"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 24;
+    private static final int VERSION_1_HEADER_SIZE = 16;
+    /**
+     * Length byte marking a string field that holds a reference into the string area
+     */
+    private static final int OVERFLOW_MARKER = 0xff;
+
+    // Fixed-width record layout
+    private static final int SPECIES_BYTES = 40;
+    private static final int NAME_BYTES = 40;
+    private static final int GENDER_BYTES = 12;
+    private static final int HEALTH_BYTES = 12;
+    private static final int RECORD_SIZE = 4 + 4 + 8 + SPECIES_BYTES + NAME_BYTES + GENDER_BYTES + HEALTH_BYTES;
+    /**
+     * Records per mapped segment; a whole number of pages, and small enough for a single mapping
+     */
+    private static final int SEGMENT_RECORDS = PAGE_RECORDS * 8192;
+
+    private final FileChannel channel;
+    private final int recordCount;
+    private final int headerSize;
+    /**
+     * File position of the string area holding the values too long to be stored inline
+     */
+    private final long stringAreaOffset;
+    private final MappedByteBuffer[] segments;
+    private final Map<Integer, WildAnimal[]> pageCache;
+    private long cacheHits = 0;
+    private long cacheMisses = 0;
+
+    /**
+     * Method: PagedAnimalArchive (Constructor)
+     * Purpose: Opens an archive file for reading with the default cache size.
+     * Arguments: Path file - the archive file
+     * Return: None
+     */
+    public PagedAnimalArchive(Path file) throws IOException {
+        this(file, DEFAULT_CACHE_PAGES);
+    }
+
+    /**
+     * Method: PagedAnimalArchive (Constructor)
+     * Purpose: Opens an archive file for reading. Segments of the file are mapped on first access.
+     * Arguments: Path file - the archive file, int cachePages - maximum number of materialized pages kept
+     * Return: None
+     */
+    public PagedAnimalArchive(Path file, int cachePages) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        header.flip();
+        if (header.remaining() < VERSION_1_HEADER_SIZE || header.getInt() != MAGIC) {
+            channel.close();
+            throw new IOException("Not a WATS archive: " + file);
+        }
+        int version = header.getInt();
+        long count = header.getLong();
+        this.headerSize = version == 1 ? VERSION_1_HEADER_SIZE : HEADER_SIZE;
+        this.stringAreaOffset = version == 1 ? channel.size() : header.getLong();
+        if ((version != 1 && version != VERSION) || count < 0 || count > Integer.MAX_VALUE
+                || headerSize + count * RECORD_SIZE > stringAreaOffset || stringAreaOffset > channel.size()) {
+            channel.close();
+            throw new IOException("Unsupported or damaged WATS archive: " + file);
+        }
+        this.recordCount = (int) count;
+        this.segments = new MappedByteBuffer[(recordCount + SEGMENT_RECORDS - 1) / SEGMENT_RECORDS];
+
+        int maxPages = Math.max(1, cachePages);
+        this.pageCache = new LinkedHashMap<>(maxPages * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, WildAnimal[]> eldest) {
+                return size() > maxPages;
+            }
+        };
+    }
+
+    /**
+     * Method: size
+     * Purpose: Returns the number of records in the archive.
+     * Arguments: None
+     * Return: int - number of records
+     */
+    public int size() {
+        return recordCount;
+    }
+
+    /**
+     * Method: get
+     * Purpose: Returns the record at the given position, materializing its page if needed.
+     * Arguments: int index - 0-based record position
+     * Return: WildAnimal - the record
+     */
+    public synchronized WildAnimal get(int index) {
+        if (index < 0 || index >= recordCount) {
+            throw new IndexOutOfBoundsException("Record " + index + " of " + recordCount);
+        }
+        int pageNumber = index / PAGE_RECORDS;
+        WildAnimal[] page = pageCache.get(pageNumber);
+        if (page == null) {
+            cacheMisses++;
+            page = loadPage(pageNumber);
+            pageCache.put(pageNumber, page);
+        } else {
+            cacheHits++;
+        }
+        return page[index % PAGE_RECORDS];
+    }
+
+    /**
+     * Method: keepsFullValues
+     * Purpose: Tells whether every string value is stored in full. Archives of the first version
+     * cut values longer than their field, so they cannot be trusted to hold the exact records.
+     * Arguments: None
+     * Return: boolean - false for an archive of the first version
+     */
+    public boolean keepsFullValues() {
+        return headerSize == HEADER_SIZE;
+    }
+
+    /**
+     * Method: getCacheStatistics
+     * Purpose: Describes the page cache usage, for display in the archive browser.
+     * Arguments: None
+     * Return: String - cached pages, hits and misses
+     */
+    public synchronized String getCacheStatistics() {
+        return String.format("%d pages cached, %d hits, %d misses", pageCache.size(), cacheHits, cacheMisses);
+    }
+
+    /**
+     * Method: close
+     * Purpose: Releases the file and the page cache.
+     * Arguments: None
+     * Return: void
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        pageCache.clear();
+        channel.close();
+    }
+
+    /**
+     * Method: loadPage
+     * Purpose: Decodes all records of one page from the mapped file.
+     * Arguments: int pageNumber - the page to decode
+     * Return: WildAnimal[] - the records of the page
+     */
+    private WildAnimal[] loadPage(int pageNumber) {
+        int first = pageNumber * PAGE_RECORDS;
+        int count = Math.min(PAGE_RECORDS, recordCount - first);
+        WildAnimal[] page = new WildAnimal[count];
+        ByteBuffer segment = segmentFor(first);
+        int position = (first % SEGMENT_RECORDS) * RECORD_SIZE;
+        for (int i = 0; i < count; i++) {
+            page[i] = readRecord(segment, position);
+            position += RECORD_SIZE;
+        }
+        return page;
+    }
+
+    /**
+     * Method: segmentFor
+     * Purpose: Returns the mapped segment holding a record, mapping it on first use.
+     * Arguments: int index - record position
+     * Return: ByteBuffer - the mapped segment
+     */
+    private ByteBuffer segmentFor(int index) {
+        int segmentNumber = index / SEGMENT_RECORDS;
+        MappedByteBuffer segment = segments[segmentNumber];
+        if (segment == null) {
+            long firstRecord = (long) segmentNumber * SEGMENT_RECORDS;
+            long records = Math.min(SEGMENT_RECORDS, recordCount - firstRecord);
+            try {
+                segment = channel.map(FileChannel.MapMode.READ_ONLY,
+                        headerSize + firstRecord * RECORD_SIZE, records * RECORD_SIZE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not map archive segment " + segmentNumber, e);
+            }
+            segment.order(ByteOrder.BIG_ENDIAN);
+            segments[segmentNumber] = segment;
+        }
+        return segment;
+    }
+
+    private WildAnimal readRecord(ByteBuffer buffer, int position) {
+        int id = buffer.getInt(position);
+        int age = buffer.getInt(position + 4);
+        double weight = buffer.getDouble(position + 8);
+        int offset = position + 16;
+        String species = readString(buffer, offset, SPECIES_BYTES);
+        offset += SPECIES_BYTES;
+        String name = readString(buffer, offset, NAME_BYTES);
+        offset += NAME_BYTES;
+        String gender = readString(buffer, offset, GENDER_BYTES);
+        offset += GENDER_BYTES;
+        String health = readString(buffer, offset, HEALTH_BYTES);
+        return new WildAnimal(id, species, name, age, gender, weight, health);
+    }
+
+    /**
+     * Method: readString
+     * Purpose: Decodes a fixed-width string field: one length byte followed by UTF-8 bytes, or the
+     * overflow marker followed by the position of the value in the string area.
+     * Arguments: ByteBuffer buffer, int position - start of the field, int width - field width
+     * Return: String - the decoded value
+     */
+    private String readString(ByteBuffer buffer, int position, int width) {
+        int length = buffer.get(position) & 0xff;
+        if (length == OVERFLOW_MARKER) {
+            return readOverflowString(buffer.getLong(position + 1));
+        }
+        byte[] bytes = new byte[Math.min(length, width - 1)];
+        buffer.get(position + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Method: readOverflowString
+     * Purpose: Reads a value from the string area: a 4-byte length followed by UTF-8 bytes.
+     * Arguments: long offset - position of the value within the string area
+     * Return: String - the decoded value
+     */
+    private String readOverflowString(long offset) {
+        try {
+            ByteBuffer length = ByteBuffer.allocate(4);
+            readFully(length, stringAreaOffset + offset);
+            ByteBuffer bytes = ByteBuffer.allocate(length.getInt(0));
+            readFully(bytes, stringAreaOffset + offset + 4);
+            return new String(bytes.array(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the archive string area", e);
+        }
+    }
+
+    private void readFully(ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target, position + target.position()) < 0) {
+                throw new EOFException("Archive string area is truncated");
+            }
+        }
+    }
+
+    /**
+     * Method: convertCsv
+     * Purpose: Streams a CSV, .gz or .zip file of animal records into a new archive file without
+     * holding the records in memory. Lines are parsed and validated with the manager's import rules;
+     * Tag IDs are not checked for uniqueness since the archive holds history.
+     * Arguments: AnimalManager rules - supplies the parsing rules, String csvFile - the source file,
+     * Path archiveFile - the archive to create
+     * Return: ImportDiagnostics - the outcome of the conversion
+     */
+    public static ImportDiagnostics convertCsv(AnimalManager rules, String csvFile, Path archiveFile) throws IOException {
+        return convertCsv(rules, csvFile, archiveFile, new HashSet<>());
+    }
+
+    /**
+     * Method: convertCsv
+     * Purpose: Converts a CSV file like convertCsv above and also collects the Tag IDs of the rejected
+     * lines, so a sync can tell which animals are missing from the archive only because their lines
+     * were rejected. A rejected line whose Tag ID cannot be read adds null.
+     * Arguments: AnimalManager rules - supplies the parsing rules, String csvFile - the source file,
+     * Path archiveFile - the archive to create, Set<Integer> rejectedIds - receives the rejected Tag IDs
+     * Return: ImportDiagnostics - the outcome of the conversion
+     */
+    public static ImportDiagnostics convertCsv(AnimalManager rules, String csvFile, Path archiveFile,
+                                               Set<Integer> rejectedIds) throws IOException {
+        ImportDiagnostics diagnostics = new ImportDiagnostics(ImportDiagnostics.rejectsFileFor(csvFile));
+        try (Writer writer = new Writer(archiveFile);
+             PipelinedCsvReader reader = new PipelinedCsvReader(csvFile)) {
+            PipelinedCsvReader.LineBatch batch;
+            while ((batch = reader.nextBatch()) != null) {
+                ValidationEngine.Batch parsed = rules.parseAnimalLines(batch.getLines());
+                int row = 0;
+                for (String line : batch.getLines()) {
+                    ImportDiagnostics.Reason reason = parsed.getReason(row);
+                    if (reason != null) {
+                        diagnostics.reject(batch.getEntryName(), batch.getFirstLineNumber() + row, reason, line);
+                        rejectedIds.add(tagIdOf(line));
+                    } else {
+                        writer.append(parsed.toAnimal(row));
+                        diagnostics.accept(batch.getEntryName());
+                    }
+                    row++;
+                }
+            }
+        } finally {
+            diagnostics.close();
+        }
+        return diagnostics;
+    }
+
+    private static Integer tagIdOf(String line) {
+        int end = line.indexOf(',');
+        try {
+            return Integer.valueOf((end < 0 ? line : line.substring(0, end)).trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method: write
+     * Purpose: Writes a list of records to a new archive file.
+     * Arguments: Path archiveFile - the archive to create, Iterable<WildAnimal> animals - the records
+     * Return: void
+     */
+    public static void write(Path archiveFile, Iterable<WildAnimal> animals) throws IOException {
+        try (Writer writer = new Writer(archiveFile)) {
+            for (WildAnimal animal : animals) {
+                writer.append(animal);
+            }
+        }
+    }
+
+    /**
+     * Method: write
+     * Purpose: Writes the records of a manager to a new archive file. Only the Tag IDs are read up
+     * front; the records are copied under the manager lock a chunk at a time and written without it,
+     * so the manager stays usable and no record is written half-changed.
+     * Arguments: Path archiveFile - the archive to create, AnimalManager manager - the records
+     * Return: long - number of records written
+     */
+    public static long write(Path archiveFile, AnimalManager manager) throws IOException {
+        int[] ids = manager.findAnimalIds(null);
+        try (Writer writer = new Writer(archiveFile)) {
+            for (int start = 0; start < ids.length; start += PAGE_RECORDS) {
+                for (WildAnimal animal : manager.copyAnimals(ids, start, Math.min(start + PAGE_RECORDS, ids.length))) {
+                    writer.append(animal);
+                }
+            }
+            return writer.count;
+        }
+    }
+
+    /**
+     * Class: Writer
+     * Appends fixed-width records to a new archive file through a reusable buffer and
+     * writes the record count into the header when closed.
+     */
+    static final class Writer implements Closeable {
+        private final FileChannel out;
+        private final ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * PAGE_RECORDS);
+        private long count = 0;
+        /**
+         * Values too long to be stored inline, collected in a temporary file and appended after the records
+         */
+        private final FileChannel stringArea;
+
+        Writer(Path file) throws IOException {
+            out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            out.position(HEADER_SIZE);
+            try {
+                Path directory = file.toAbsolutePath().getParent();
+                Path stringAreaFile = java.nio.file.Files.createTempFile(directory, "wats-strings", ".tmp");
+                stringArea = FileChannel.open(stringAreaFile, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+            } catch (IOException e) {
+                out.close();
+                throw e;
+            }
+        }
+
+        void append(WildAnimal animal) throws IOException {
+            if (count == Integer.MAX_VALUE) {
+                throw new IOException("Archive is limited to " + Integer.MAX_VALUE + " records");
+            }
+            if (buffer.remaining() < RECORD_SIZE) {
+                flush();
+            }
+            buffer.putInt(animal.getId());
+            buffer.putInt(animal.getAge());
+            buffer.putDouble(animal.getWeight());
+            writeString(animal.getSpecies(), SPECIES_BYTES);
+            writeString(animal.getName(), NAME_BYTES);
+            writeString(animal.getGender(), GENDER_BYTES);
+            writeString(animal.getHealthStatus(), HEALTH_BYTES);
+            count++;
+        }
+
+        /**
+         * Method: writeString
+         * Purpose: Encodes a fixed-width string field. A value that does not fit is written to the
+         * string area and the field holds the overflow marker and the value's position there.
+         * Arguments: String value - the value, int width - field width including the length byte
+         * Return: void
+         */
+        private void writeString(String value, int width) throws IOException {
+            byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+            int used;
+            if (bytes.length < width) {
+                buffer.put((byte) bytes.length);
+                buffer.put(bytes);
+                used = 1 + bytes.length;
+            } else {
+                buffer.put((byte) OVERFLOW_MARKER);
+                buffer.putLong(stringArea.position());
+                ByteBuffer entry = ByteBuffer.allocate(4 + bytes.length);
+                entry.putInt(bytes.length).put(bytes).flip();
+                while (entry.hasRemaining()) {
+                    stringArea.write(entry);
+                }
+                used = 1 + 8;
+            }
+            for (int i = used; i < width; i++) {
+                buffer.put((byte) 0);
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+                long stringAreaOffset = HEADER_SIZE + count * RECORD_SIZE;
+                long length = stringArea.size();
+                for (long copied = 0; copied < length; ) {
+                    copied += stringArea.transferTo(copied, length - copied, out);
+                }
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(VERSION).putLong(count).putLong(stringAreaOffset).flip();
+                out.write(header, 0);
+            } finally {
+                try {
+                    stringArea.close();
+                } finally {
+                    out.close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: PipelinedCsvReader.java
+ *
+ * This class reads the lines of an animal data file on a background thread and hands them
+ * to the caller in batches through a bounded buffer, so reading/decompression and parsing overlap.
+ * Plain text files, gzip files (.gz) and zip archives (.zip) are supported. Zip archives are
+ * streamed entry by entry directly from the archive, nothing is extracted to disk.
+ */
+
+package WATSSwingApp;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+public class PipelinedCsvReader implements Closeable {
+
+    /**
+     * Number of lines handed over to the parser at a time
+     */
+    private static final int BATCH_SIZE = 1024;
+    /**
+     * Maximum number of batches waiting in the buffer, bounds the memory used by the read-ahead
+     */
+    private static final int QUEUE_CAPACITY = 16;
+    /**
+     * Size of the byte buffers used for file and decompression streams
+     */
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    /**
+     * Marker batch placed in the queue once the producer has finished
+     */
+    private static final LineBatch END_OF_INPUT = new LineBatch(null, 0, new ArrayList<>());
+
+    /**
+     * Bounded buffer between the reader thread and the parser
+     */
+    private final BlockingQueue<LineBatch> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final String filename;
+    private final Thread readerThread;
+    private volatile boolean closed = false;
+    /**
+     * What ended the reader thread early: an IOException or a RuntimeException, rethrown by nextBatch
+     */
+    private volatile Exception failure;
+    private boolean finished = false;
+
+    /**
+     * Class: LineBatch
+     * A group of consecutive lines from one file or archive entry.
+     * entryName is the zip entry the lines came from (the file name for plain and gzip input)
+     * and firstLineNumber is the 1-based line number of the first line within that entry.
+     */
+    public static final class LineBatch {
+        private final String entryName;
+        private final long firstLineNumber;
+        private final List<String> lines;
+
+        LineBatch(String entryName, long firstLineNumber, List<String> lines) {
+            this.entryName = entryName;
+            this.firstLineNumber = firstLineNumber;
+            this.lines = lines;
+        }
+
+        public String getEntryName() { return entryName; }
+
+        public long getFirstLineNumber() { return firstLineNumber; }
+
+        public List<String> getLines() { return lines; }
+    }
+
+    /**
+     * Method: PipelinedCsvReader (Constructor)
+     * Purpose: Opens the given file and starts the background reader thread.
+     * Arguments: String filename - the file to read (.csv, .gz or .zip)
+     * Return: None
+     */
+    public PipelinedCsvReader(String filename) {
+        this.filename = filename;
+        this.readerThread = new Thread(this::readAll, "csv-reader-" + new File(filename).getName());
+        this.readerThread.setDaemon(true);
+        this.readerThread.start();
+    }
+
+    /**
+     * Method: isGzip
+     * Purpose: Checks whether the file name denotes gzip-compressed input.
+     * Arguments: String filename - the file name to check
+     * Return: boolean - true if the file is gzip-compressed
+     */
+    public static boolean isGzip(String filename) {
+        String lower = filename.toLowerCase();
+        return lower.endsWith(".gz") || lower.endsWith(".gzip");
+    }
+
+    /**
+     * Method: isZip
+     * Purpose: Checks whether the file name denotes a zip archive.
+     * Arguments: String filename - the file name to check
+     * Return: boolean - true if the file is a zip archive
+     */
+    public static boolean isZip(String filename) {
+        return filename.toLowerCase().endsWith(".zip");
+    }
+
+    /**
+     * Method: isDataFile
+     * Purpose: Checks whether a file name denotes importable animal data (.csv, .gz or .zip),
+     * leaving out the rejects side files written by earlier imports.
+     * Arguments: String filename - the file name to check
+     * Return: boolean - true if the file can be imported
+     */
+    public static boolean isDataFile(String filename) {
+        String lower = filename.toLowerCase();
+        if (lower.endsWith(".rejects.csv")) {
+            return false;
+        }
+        return lower.endsWith(".csv") || isGzip(lower) || isZip(lower);
+    }
+
+    /**
+     * Method: listDataFiles
+     * Purpose: Lists the importable files directly inside a folder, sorted by name so that
+     * importing the folder is repeatable.
+     * Arguments: File folder - the folder
+     * Return: List<String> - absolute paths of the data files
+     */
+    public static List<String> listDataFiles(File folder) throws IOException {
+        File[] files = folder.listFiles(file -> file.isFile() && isDataFile(file.getName()));
+        if (files == null) {
+            throw new IOException("Cannot list folder " + folder);
+        }
+        Arrays.sort(files, Comparator.comparing(File::getName));
+        List<String> paths = new ArrayList<>(files.length);
+        for (File file : files) {
+            paths.add(file.getAbsolutePath());
+        }
+        return paths;
+    }
+
+    /**
+     * Method: nextBatch
+     * Purpose: Returns the next batch of lines, waiting for the reader thread if necessary. If the
+     * reader thread failed, its exception is thrown here once the lines read before it are used up.
+     * Arguments: None
+     * Return: LineBatch - the next batch, or null once all input has been read
+     */
+    public LineBatch nextBatch() throws IOException {
+        if (finished) {
+            return null;
+        }
+        LineBatch batch;
+        try {
+            batch = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading " + filename);
+        }
+        if (batch == END_OF_INPUT) {
+            finished = true;
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+            return null;
+        }
+        return batch;
+    }
+
+    /**
+     * Method: close
+     * Purpose: Stops the reader thread and releases the buffered batches.
+     * Arguments: None
+     * Return: void
+     */
+    @Override
+    public void close() {
+        closed = true;
+        readerThread.interrupt();
+        queue.clear();
+    }
+
+    /**
+     * Method: readAll
+     * Purpose: Body of the reader thread. Opens the file with the right decompression
+     * and feeds its lines, entry by entry, into the bounded queue.
+     * Arguments: None
+     * Return: void
+     */
+    private void readAll() {
+        try (InputStream fileIn = new BufferedInputStream(new FileInputStream(filename), STREAM_BUFFER_SIZE)) {
+            String plainName = new File(filename).getName();
+            if (isZip(filename)) {
+                ZipInputStream zipIn = new ZipInputStream(fileIn, StandardCharsets.UTF_8);
+                ZipEntry entry;
+                while (!closed && (entry = zipIn.getNextEntry()) != null) {
+                    if (!entry.isDirectory()) {
+                        // The reader is not closed here, closing it would close the whole archive
+                        readLines(new BufferedReader(new InputStreamReader(zipIn, StandardCharsets.UTF_8)), entry.getName());
+                    }
+                    zipIn.closeEntry();
+                }
+            } else if (isGzip(filename)) {
+                InputStream gzipIn = new GZIPInputStream(fileIn, STREAM_BUFFER_SIZE);
+                readLines(new BufferedReader(new InputStreamReader(gzipIn, StandardCharsets.UTF_8)), plainName);
+            } else {
+                readLines(new BufferedReader(new InputStreamReader(fileIn, StandardCharsets.UTF_8)), plainName);
+            }
+        } catch (InterruptedIOException e) {
+            // close() was called, nobody is waiting for the remaining input
+        } catch (IOException | RuntimeException e) {
+            // e.g. an IllegalArgumentException for a malformed zip entry name; the input did not end normally
+            failure = e;
+        } finally {
+            publish(END_OF_INPUT);
+        }
+    }
+
+    /**
+     * Method: readLines
+     * Purpose: Reads all lines of a single file or archive entry and publishes them in batches.
+     * Arguments: BufferedReader reader - source of the lines, String entryName - name reported with the lines
+     * Return: void
+     */
+    private void readLines(BufferedReader reader, String entryName) throws IOException {
+        List<String> lines = new ArrayList<>(BATCH_SIZE);
+        long lineNumber = 0;
+        long firstLineNumber = 1;
+        String line;
+        while (!closed && (line = reader.readLine()) != null) {
+            lineNumber++;
+            lines.add(line);
+            if (lines.size() == BATCH_SIZE) {
+                if (!publish(new LineBatch(entryName, firstLineNumber, lines))) {
+                    return;
+                }
+                lines = new ArrayList<>(BATCH_SIZE);
+                firstLineNumber = lineNumber + 1;
+            }
+        }
+        if (!lines.isEmpty()) {
+            publish(new LineBatch(entryName, firstLineNumber, lines));
+        }
+    }
+
+    /**
+     * Method: publish
+     * Purpose: Places a batch in the bounded queue, blocking while the parser is behind.
+     * Gives up once the reader has been closed.
+     * Arguments: LineBatch batch - the batch to hand over
+     * Return: boolean - true if the batch was queued, false if the reader was closed
+     */
+    private boolean publish(LineBatch batch) {
+        while (!closed) {
+            try {
+                if (queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                // Only close() interrupts this thread, the loop condition takes care of it
+            }
+        }
+        return false;
+    }
+}
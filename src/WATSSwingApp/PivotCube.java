@@ -0,0 +1,285 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: PivotCube.java
+ *
+ * This class keeps a materialized aggregate of the animal records: the number of animals and
+ * their total weight per species, age bracket and health status. The AnimalManager adds and
+ * removes every record as it is stored, changed or deleted, each in constant time, so a pivot
+ * of any two dimensions is built from the cube's cells without reading the records at all.
+ * The cube is not thread-safe; the AnimalManager guards it with its lock.
+ */
+
+package WATSSwingApp;
+
+import java.util.*;
+
+public class PivotCube {
+
+    /**
+     * Enum: Dimension
+     * The attributes the cube is broken down by.
+     */
+    public enum Dimension {
+        SPECIES("Species"), AGE_BRACKET("Age Bracket"), HEALTH("Health Status");
+
+        private final String label;
+
+        Dimension(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    /**
+     * Labels of the age brackets, matching the lower bounds in AGE_BRACKET_STARTS
+     */
+    private static final String[] AGE_BRACKETS = { "0-1", "2-4", "5-9", "10-14", "15-19", "20+" };
+    private static final int[] AGE_BRACKET_STARTS = { 0, 2, 5, 10, 15, 20 };
+
+    /**
+     * Cells per species key (see WildAnimal.speciesKey) and health status, one per age bracket:
+     * [bracket] = {count, total weight}
+     */
+    private final Map<String, SpeciesCells> cells = new HashMap<>();
+    private long totalCount = 0;
+
+    /**
+     * Method: add
+     * Purpose: Counts a record into its cell.
+     * Arguments: WildAnimal animal - the record
+     * Return: void
+     */
+    public void add(WildAnimal animal) {
+        SpeciesCells species = cells.computeIfAbsent(WildAnimal.speciesKey(animal.getSpecies()), k -> new SpeciesCells());
+        if (species.count == 0) {
+            species.label = animal.getSpecies().trim();
+        }
+        species.count++;
+        double[] cell = cellOf(species, animal, true);
+        cell[0]++;
+        cell[1] += animal.getWeight();
+        totalCount++;
+    }
+
+    /**
+     * Method: remove
+     * Purpose: Takes a record, with the field values it was added with, out of its cell.
+     * Arguments: WildAnimal animal - the record
+     * Return: void
+     */
+    public void remove(WildAnimal animal) {
+        SpeciesCells species = cells.get(WildAnimal.speciesKey(animal.getSpecies()));
+        double[] cell = species == null ? null : cellOf(species, animal, false);
+        if (cell == null || cell[0] == 0) {
+            return;
+        }
+        species.count--;
+        cell[0]--;
+        // An empty cell starts again from exactly zero instead of keeping rounding residue
+        cell[1] = cell[0] == 0 ? 0 : cell[1] - animal.getWeight();
+        totalCount--;
+    }
+
+    /**
+     * Method: size
+     * Purpose: Returns the number of records counted in the cube.
+     * Arguments: None
+     * Return: long - number of records
+     */
+    public long size() {
+        return totalCount;
+    }
+
+    private static double[] cellOf(SpeciesCells species, WildAnimal animal, boolean create) {
+        Map<String, double[][]> byHealth = species.byHealth;
+        double[][] byBracket = byHealth.get(animal.getHealthStatus());
+        if (byBracket == null) {
+            if (!create) {
+                return null;
+            }
+            byBracket = new double[AGE_BRACKETS.length][2];
+            byHealth.put(animal.getHealthStatus(), byBracket);
+        }
+        return byBracket[ageBracket(animal.getAge())];
+    }
+
+    /**
+     * Method: ageBracket
+     * Purpose: Returns the index of the age bracket of an age.
+     * Arguments: int age - age in years
+     * Return: int - index into the age bracket labels
+     */
+    private static int ageBracket(int age) {
+        int bracket = 0;
+        while (bracket + 1 < AGE_BRACKET_STARTS.length && age >= AGE_BRACKET_STARTS[bracket + 1]) {
+            bracket++;
+        }
+        return bracket;
+    }
+
+    /**
+     * Method: pivot
+     * Purpose: Aggregates the cells into a two-dimensional table, optionally restricted to given
+     * values of some dimensions (for drill-down). Costs one pass over the non-empty cells.
+     * Arguments: Dimension rows - dimension of the rows, Dimension columns - dimension of the columns,
+     * Map<Dimension, String> filter - required value per dimension, may be empty
+     * Return: Pivot - the table
+     */
+    public Pivot pivot(Dimension rows, Dimension columns, Map<Dimension, String> filter) {
+        if (rows == columns) {
+            throw new IllegalArgumentException("Rows and columns must use different dimensions");
+        }
+        // Per row value, per column value: {count, total weight}
+        Map<String, Map<String, double[]>> table = new HashMap<>();
+        Set<String> columnValues = new HashSet<>();
+        String[] values = new String[Dimension.values().length];
+
+        for (SpeciesCells species : cells.values()) {
+            if (species.count == 0) {
+                continue;
+            }
+            values[Dimension.SPECIES.ordinal()] = species.label;
+            for (Map.Entry<String, double[][]> healthEntry : species.byHealth.entrySet()) {
+                values[Dimension.HEALTH.ordinal()] = healthEntry.getKey();
+                double[][] byBracket = healthEntry.getValue();
+                for (int bracket = 0; bracket < byBracket.length; bracket++) {
+                    if (byBracket[bracket][0] == 0) {
+                        continue;
+                    }
+                    values[Dimension.AGE_BRACKET.ordinal()] = AGE_BRACKETS[bracket];
+                    if (!matches(values, filter)) {
+                        continue;
+                    }
+                    String columnValue = values[columns.ordinal()];
+                    double[] total = table.computeIfAbsent(values[rows.ordinal()], k -> new HashMap<>())
+                            .computeIfAbsent(columnValue, k -> new double[2]);
+                    total[0] += byBracket[bracket][0];
+                    total[1] += byBracket[bracket][1];
+                    columnValues.add(columnValue);
+                }
+            }
+        }
+
+        List<String> rowLabels = sortedValues(rows, table.keySet());
+        List<String> columnLabels = sortedValues(columns, columnValues);
+        long[][] counts = new long[rowLabels.size()][columnLabels.size()];
+        double[][] weights = new double[rowLabels.size()][columnLabels.size()];
+        for (int row = 0; row < rowLabels.size(); row++) {
+            Map<String, double[]> rowTotals = table.get(rowLabels.get(row));
+            for (int column = 0; column < columnLabels.size(); column++) {
+                double[] total = rowTotals.get(columnLabels.get(column));
+                if (total != null) {
+                    counts[row][column] = (long) total[0];
+                    weights[row][column] = total[1];
+                }
+            }
+        }
+        return new Pivot(rows, columns, rowLabels, columnLabels, counts, weights);
+    }
+
+    private static boolean matches(String[] values, Map<Dimension, String> filter) {
+        for (Map.Entry<Dimension, String> required : filter.entrySet()) {
+            String value = values[required.getKey().ordinal()];
+            boolean match = required.getKey() == Dimension.SPECIES
+                    ? WildAnimal.speciesKey(required.getValue()).equals(WildAnimal.speciesKey(value))
+                    : required.getValue().equals(value);
+            if (!match) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Class: SpeciesCells
+     * The cells of one species. The species is shown as spelled by the first record counted into it.
+     */
+    private static final class SpeciesCells {
+        private final Map<String, double[][]> byHealth = new HashMap<>();
+        private String label;
+        private long count = 0;
+    }
+
+    /**
+     * Method: sortedValues
+     * Purpose: Orders the values of a dimension: age brackets from young to old, others alphabetically.
+     * Arguments: Dimension dimension - the dimension, Collection<String> values - its values
+     * Return: List<String> - the ordered values
+     */
+    private static List<String> sortedValues(Dimension dimension, Collection<String> values) {
+        List<String> sorted = new ArrayList<>(values);
+        if (dimension == Dimension.AGE_BRACKET) {
+            List<String> order = Arrays.asList(AGE_BRACKETS);
+            sorted.sort(Comparator.comparingInt(order::indexOf));
+        } else {
+            sorted.sort(String.CASE_INSENSITIVE_ORDER);
+        }
+        return sorted;
+    }
+
+    /**
+     * Class: Pivot
+     * A two-dimensional view of the cube: animal count and total weight per row and column value.
+     */
+    public static final class Pivot {
+        private final Dimension rowDimension;
+        private final Dimension columnDimension;
+        private final List<String> rowLabels;
+        private final List<String> columnLabels;
+        private final long[][] counts;
+        private final double[][] weights;
+
+        Pivot(Dimension rowDimension, Dimension columnDimension, List<String> rowLabels, List<String> columnLabels,
+              long[][] counts, double[][] weights) {
+            this.rowDimension = rowDimension;
+            this.columnDimension = columnDimension;
+            this.rowLabels = Collections.unmodifiableList(rowLabels);
+            this.columnLabels = Collections.unmodifiableList(columnLabels);
+            this.counts = counts;
+            this.weights = weights;
+        }
+
+        public Dimension getRowDimension() { return rowDimension; }
+
+        public Dimension getColumnDimension() { return columnDimension; }
+
+        public List<String> getRowLabels() { return rowLabels; }
+
+        public List<String> getColumnLabels() { return columnLabels; }
+
+        public long getCount(int row, int column) { return counts[row][column]; }
+
+        /**
+         * Method: getMeanWeight
+         * Purpose: Returns the mean weight of a cell.
+         * Arguments: int row, int column - the cell
+         * Return: double - the mean weight, NaN if the cell is empty
+         */
+        public double getMeanWeight(int row, int column) {
+            return counts[row][column] > 0 ? weights[row][column] / counts[row][column] : Double.NaN;
+        }
+
+        public long getRowCount(int row) {
+            long count = 0;
+            for (long cell : counts[row]) {
+                count += cell;
+            }
+            return count;
+        }
+
+        public double getRowMeanWeight(int row) {
+            double weight = 0;
+            for (double cell : weights[row]) {
+                weight += cell;
+            }
+            long count = getRowCount(row);
+            return count > 0 ? weight / count : Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: PivotTableDialog.java
+ *
+ * This is a non-modal dialog window showing the animal count or mean weight broken down by two of
+ * species, age bracket and health status. The figures come from the AnimalManager's aggregate cube,
+ * so opening, pivoting and drilling down never read the records themselves. Double-clicking a cell
+ * drills down into it; the table follows changes to the records while it is open.
+ */
+
+package WATSSwingApp;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class PivotTableDialog extends JDialog {
+
+    private static final String MEASURE_COUNT = "Count";
+    private static final String MEASURE_MEAN_WEIGHT = "Mean Weight (kg)";
+
+    private final AnimalManager animalManager;
+    private final JComboBox<PivotCube.Dimension> cmbRows = new JComboBox<>(PivotCube.Dimension.values());
+    private final JComboBox<PivotCube.Dimension> cmbColumns = new JComboBox<>(PivotCube.Dimension.values());
+    private final JComboBox<String> cmbMeasure = new JComboBox<>(new String[] { MEASURE_COUNT, MEASURE_MEAN_WEIGHT });
+    private final JLabel lblDrillDown = new JLabel();
+    private final DefaultTableModel tableModel = new DefaultTableModel() {
+        @Override
+        public boolean isCellEditable(int row, int column) {
+            return false;
+        }
+    };
+    /**
+     * Values the shown cells are restricted to, in the order they were drilled into
+     */
+    private final Map<PivotCube.Dimension, String> drillDown = new LinkedHashMap<>();
+    /**
+     * Set while a refresh is queued on the Event Dispatch Thread
+     */
+    private final AtomicBoolean refreshPending = new AtomicBoolean(false);
+    private final AnimalChangeListener changeListener = new AnimalChangeListener() {
+        @Override
+        public void animalsChanged() {
+            scheduleRefresh();
+        }
+
+        @Override
+        public void animalUpdated(int id, Set<AnimalPatch.Field> fields) {
+            // Names and genders are not part of the cube
+            if (!EnumSet.of(AnimalPatch.Field.NAME, AnimalPatch.Field.GENDER).containsAll(fields)) {
+                scheduleRefresh();
+            }
+        }
+    };
+    private PivotCube.Pivot pivot;
+    /**
+     * Set while the combo boxes are changed by a drill-down, so they do not reset it
+     */
+    private boolean adjusting = false;
+
+    /**
+     * Method: PivotTableDialog Constructor
+     * Instantiated and displayed from the main application frame.
+     */
+    public PivotTableDialog(JFrame parent, AnimalManager animalManager) {
+        super(parent, "Pivot Table", false);
+        this.animalManager = animalManager;
+
+        setSize(800, 450);
+        setLocationRelativeTo(parent);
+        setLayout(new BorderLayout());
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        cmbRows.setSelectedItem(PivotCube.Dimension.SPECIES);
+        cmbColumns.setSelectedItem(PivotCube.Dimension.HEALTH);
+        JButton btnReset = new JButton("Reset Drill-Down");
+
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        controls.add(new JLabel("Rows:"));
+        controls.add(cmbRows);
+        controls.add(new JLabel("Columns:"));
+        controls.add(cmbColumns);
+        controls.add(new JLabel("Show:"));
+        controls.add(cmbMeasure);
+        controls.add(btnReset);
+        add(controls, BorderLayout.NORTH);
+
+        JTable table = new JTable(tableModel);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+        lblDrillDown.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
+        add(lblDrillDown, BorderLayout.SOUTH);
+
+        cmbRows.addActionListener(e -> dimensionsChanged());
+        cmbColumns.addActionListener(e -> dimensionsChanged());
+        cmbMeasure.addActionListener(e -> refresh());
+        btnReset.addActionListener(e -> {
+            drillDown.clear();
+            refresh();
+        });
+        table.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2 && table.getSelectedRow() >= 0) {
+                    drillInto(table.getSelectedRow(), table.columnAtPoint(e.getPoint()));
+                }
+            }
+        });
+
+        animalManager.addChangeListener(changeListener);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                animalManager.removeChangeListener(changeListener);
+            }
+        });
+        refresh();
+    }
+
+    /**
+     * Method: dimensionsChanged
+     * Purpose: Starts a new pivot when the user picks other dimensions.
+     * Arguments: none
+     * Return: void
+     */
+    private void dimensionsChanged() {
+        if (adjusting) {
+            return;
+        }
+        drillDown.clear();
+        refresh();
+    }
+
+    /**
+     * Method: drillInto
+     * Purpose: Restricts the pivot to the double-clicked row (and column, unless it is the label or
+     * total column) and breaks the selection down by a dimension not fixed yet.
+     * Arguments: int row - table row, int column - table column
+     * Return: void
+     */
+    private void drillInto(int row, int column) {
+        Map<PivotCube.Dimension, String> next = new LinkedHashMap<>(drillDown);
+        next.put(pivot.getRowDimension(), pivot.getRowLabels().get(row));
+        int dataColumn = column - 1;
+        if (dataColumn >= 0 && dataColumn < pivot.getColumnLabels().size()) {
+            next.put(pivot.getColumnDimension(), pivot.getColumnLabels().get(dataColumn));
+        }
+
+        List<PivotCube.Dimension> open = new ArrayList<>();
+        for (PivotCube.Dimension dimension : PivotCube.Dimension.values()) {
+            if (!next.containsKey(dimension)) {
+                open.add(dimension);
+            }
+        }
+        if (open.isEmpty()) {
+            Toolkit.getDefaultToolkit().beep();
+            return;
+        }
+
+        PivotCube.Dimension rows = open.get(0);
+        PivotCube.Dimension columns = open.size() > 1 ? open.get(1) : pivot.getColumnDimension();
+        if (columns == rows) {
+            columns = pivot.getRowDimension();
+        }
+        drillDown.clear();
+        drillDown.putAll(next);
+        adjusting = true;
+        cmbRows.setSelectedItem(rows);
+        cmbColumns.setSelectedItem(columns);
+        adjusting = false;
+        refresh();
+    }
+
+    private void scheduleRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(() -> {
+                refreshPending.set(false);
+                if (isDisplayable()) {
+                    refresh();
+                }
+            });
+        }
+    }
+
+    /**
+     * Method: refresh
+     * Purpose: Reads the pivot for the selected dimensions from the cube and shows it.
+     * Arguments: none
+     * Return: void
+     */
+    private void refresh() {
+        PivotCube.Dimension rows = (PivotCube.Dimension) cmbRows.getSelectedItem();
+        PivotCube.Dimension columns = (PivotCube.Dimension) cmbColumns.getSelectedItem();
+        if (rows == columns) {
+            tableModel.setDataVector(new Object[0][0], new Object[] { "Choose different dimensions for rows and columns" });
+            return;
+        }
+        pivot = animalManager.getPivot(rows, columns, drillDown);
+        boolean showCount = MEASURE_COUNT.equals(cmbMeasure.getSelectedItem());
+
+        List<String> columnLabels = pivot.getColumnLabels();
+        Object[] header = new Object[columnLabels.size() + 2];
+        header[0] = rows + " \\ " + columns;
+        for (int column = 0; column < columnLabels.size(); column++) {
+            header[column + 1] = columnLabels.get(column);
+        }
+        header[header.length - 1] = "Total";
+
+        Object[][] data = new Object[pivot.getRowLabels().size()][header.length];
+        for (int row = 0; row < data.length; row++) {
+            data[row][0] = pivot.getRowLabels().get(row);
+            for (int column = 0; column < columnLabels.size(); column++) {
+                data[row][column + 1] = showCount
+                        ? (Object) pivot.getCount(row, column)
+                        : formatWeight(pivot.getMeanWeight(row, column));
+            }
+            data[row][header.length - 1] = showCount
+                    ? (Object) pivot.getRowCount(row)
+                    : formatWeight(pivot.getRowMeanWeight(row));
+        }
+        tableModel.setDataVector(data, header);
+
+        if (drillDown.isEmpty()) {
+            lblDrillDown.setText("All animals. Double-click a cell to drill down.");
+        } else {
+            StringBuilder text = new StringBuilder("Drill-down: ");
+            for (Map.Entry<PivotCube.Dimension, String> entry : drillDown.entrySet()) {
+                if (text.length() > "Drill-down: ".length()) {
+                    text.append(", ");
+                }
+                text.append(entry.getKey()).append(" = ").append(entry.getValue());
+            }
+            lblDrillDown.setText(text.toString());
+        }
+    }
+
+    private static String formatWeight(double weight) {
+        return Double.isNaN(weight) ? "" : String.format("%.2f", weight);
+    }
+}
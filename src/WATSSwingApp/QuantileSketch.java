@@ -0,0 +1,226 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: QuantileSketch.java
+ *
+ * This class estimates quantiles (median, p5, p95, ...) of a stream of positive values without
+ * keeping the values. Each value is counted in a logarithmic bucket (gamma^(k-1), gamma^k] with
+ * gamma = (1 + a) / (1 - a), where a is the relative accuracy. Because only bucket counts are
+ * kept, values can be removed again exactly, and two sketches merge by adding their counts.
+ *
+ * Error bound: for any quantile q, the estimate v differs from the exact q-quantile x of the values
+ * currently counted by at most a * x (|v - x| <= a * x). With the default accuracy of 1%, a weight
+ * of 200 kg is reported within 2 kg. Memory grows with the logarithm of the value range, about
+ * 800 buckets for values between 1 g and 10 t, independent of the number of values.
+ * Values above 10^12 share the last bucket; NaN and infinite values are rejected.
+ * A sketch is not thread-safe.
+ */
+
+package WATSSwingApp;
+
+import java.util.Arrays;
+
+public class QuantileSketch {
+
+    /**
+     * Default relative accuracy of the estimates
+     */
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+    /**
+     * Values below this are counted together as the smallest value seen
+     */
+    private static final double MIN_INDEXABLE_VALUE = 1e-9;
+    /**
+     * Values above this are counted in the bucket of this value, which bounds the bucket array
+     */
+    private static final double MAX_INDEXABLE_VALUE = 1e12;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    /**
+     * Bucket counts; counts[i] belongs to bucket index offset + i
+     */
+    private long[] counts = new long[0];
+    private int offset = 0;
+    /**
+     * Values too small to be indexed
+     */
+    private long zeroCount = 0;
+    private long totalCount = 0;
+
+    /**
+     * Method: QuantileSketch (Constructor)
+     * Purpose: Creates an empty sketch with the default relative accuracy.
+     * Arguments: None
+     * Return: None
+     */
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    /**
+     * Method: QuantileSketch (Constructor)
+     * Purpose: Creates an empty sketch.
+     * Arguments: double relativeAccuracy - the relative error bound, between 0 and 1 (exclusive)
+     * Return: None
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    /**
+     * Method: add
+     * Purpose: Counts a value.
+     * Arguments: double value - the value, positive and finite
+     * Return: void
+     */
+    public void add(double value) {
+        checkFinite(value);
+        if (value < MIN_INDEXABLE_VALUE) {
+            zeroCount++;
+        } else {
+            int index = bucketIndex(value);
+            ensureCapacity(index);
+            counts[index - offset]++;
+        }
+        totalCount++;
+    }
+
+    /**
+     * Method: remove
+     * Purpose: Takes a previously added value out of the sketch.
+     * Arguments: double value - the value, as it was added
+     * Return: boolean - false if no such value was counted
+     */
+    public boolean remove(double value) {
+        checkFinite(value);
+        if (value < MIN_INDEXABLE_VALUE) {
+            if (zeroCount == 0) {
+                return false;
+            }
+            zeroCount--;
+        } else {
+            int position = bucketIndex(value) - offset;
+            if (position < 0 || position >= counts.length || counts[position] == 0) {
+                return false;
+            }
+            counts[position]--;
+        }
+        totalCount--;
+        return true;
+    }
+
+    /**
+     * Method: merge
+     * Purpose: Adds the counts of another sketch with the same accuracy, e.g. one filled by
+     * another import worker.
+     * Arguments: QuantileSketch other - the sketch to add
+     * Return: void
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Only sketches with the same accuracy can be merged");
+        }
+        if (other.counts.length > 0) {
+            ensureCapacity(other.offset);
+            ensureCapacity(other.offset + other.counts.length - 1);
+            for (int i = 0; i < other.counts.length; i++) {
+                counts[other.offset + i - offset] += other.counts[i];
+            }
+        }
+        zeroCount += other.zeroCount;
+        totalCount += other.totalCount;
+    }
+
+    /**
+     * Method: copy
+     * Purpose: Returns an independent copy of this sketch.
+     * Arguments: None
+     * Return: QuantileSketch - the copy
+     */
+    public QuantileSketch copy() {
+        QuantileSketch copy = new QuantileSketch(relativeAccuracy);
+        copy.counts = counts.clone();
+        copy.offset = offset;
+        copy.zeroCount = zeroCount;
+        copy.totalCount = totalCount;
+        return copy;
+    }
+
+    /**
+     * Method: getQuantile
+     * Purpose: Estimates a quantile of the counted values, within the relative accuracy.
+     * Arguments: double quantile - between 0 (minimum) and 1 (maximum), e.g. 0.5 for the median
+     * Return: double - the estimate, NaN if the sketch is empty
+     */
+    public double getQuantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        if (totalCount == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) (quantile * (totalCount - 1));
+        if (rank < zeroCount) {
+            return 0;
+        }
+        long seen = zeroCount;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                // Midpoint of the bucket in relative terms
+                return 2 * Math.pow(gamma, offset + i) / (gamma + 1);
+            }
+        }
+        return 2 * Math.pow(gamma, offset + counts.length - 1) / (gamma + 1);
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    private int bucketIndex(double value) {
+        return (int) Math.ceil(Math.log(Math.min(value, MAX_INDEXABLE_VALUE)) / logGamma);
+    }
+
+    private static void checkFinite(double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("Cannot count the non-finite value " + value);
+        }
+    }
+
+    /**
+     * Method: ensureCapacity
+     * Purpose: Grows the bucket array so that it covers the given bucket index.
+     * Arguments: int index - the bucket index
+     * Return: void
+     */
+    private void ensureCapacity(int index) {
+        if (counts.length == 0) {
+            counts = new long[16];
+            offset = index - 8;
+            return;
+        }
+        if (index < offset) {
+            int grow = Math.max(offset - index, counts.length / 2);
+            long[] larger = new long[counts.length + grow];
+            System.arraycopy(counts, 0, larger, grow, counts.length);
+            counts = larger;
+            offset -= grow;
+        } else if (index >= offset + counts.length) {
+            int grow = Math.max(index - offset - counts.length + 1, counts.length / 2);
+            counts = Arrays.copyOf(counts, counts.length + grow);
+        }
+    }
+}
@@ -0,0 +1,515 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: ShardedAnimalManager.java
+ *
+ * This class spreads the animal records over several independent AnimalManager shards, each
+ * with its own repository, indexes and lock, so writers working on different shards do not wait
+ * for each other. A record's shard is chosen by hashing its Tag ID; since a Tag ID always maps to
+ * the same shard, the uniqueness check of that shard keeps Tag IDs unique across all shards.
+ * Imports parse each batch once, store the rows of every shard in parallel and report the result
+ * in line order. Aggregations run on every shard in parallel and their results are merged.
+ */
+
+package WATSSwingApp;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public class ShardedAnimalManager implements Closeable {
+
+    private final AnimalManager[] shards;
+    /**
+     * Worker threads, one per shard, used for imports and aggregations
+     */
+    private final ExecutorService pool;
+    /**
+     * Listeners notified when animal records change
+     */
+    private final List<AnimalChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Method: ShardedAnimalManager (Constructor)
+     * Purpose: Creates a manager with one in-memory shard per available processor and the default rules.
+     * Arguments: None
+     * Return: None
+     */
+    public ShardedAnimalManager() {
+        this(Runtime.getRuntime().availableProcessors(), new ValidationRules());
+    }
+
+    /**
+     * Method: ShardedAnimalManager (Constructor)
+     * Purpose: Creates a manager with the given number of in-memory shards.
+     * Arguments: int shardCount - number of shards, ValidationRules rules - the validation rules of every shard
+     * Return: None
+     */
+    public ShardedAnimalManager(int shardCount, ValidationRules rules) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = new AnimalManager[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new AnimalManager(new InMemoryAnimalRepository(), rules);
+        }
+        this.pool = Executors.newFixedThreadPool(shardCount, task -> {
+            Thread thread = new Thread(task, "wats-shard-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Method: getShardCount
+     * Purpose: Returns the number of shards.
+     * Arguments: None
+     * Return: int - number of shards
+     */
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Method: shardOf
+     * Purpose: Returns the shard index of a Tag ID. The ID is mixed first so that IDs assigned in
+     * steps, such as all multiples of the shard count, still spread evenly.
+     * Arguments: int id - the Tag ID
+     * Return: int - the shard index
+     */
+    int shardOf(int id) {
+        int hash = id * 0x9E3779B9;
+        return Math.floorMod(hash ^ (hash >>> 16), shards.length);
+    }
+
+    public void addChangeListener(AnimalChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    public void removeChangeListener(AnimalChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    private void fireAnimalsChanged() {
+        for (AnimalChangeListener listener : changeListeners) {
+            listener.animalsChanged();
+        }
+    }
+
+    private void fireAnimalUpdated(int id, Set<AnimalPatch.Field> fields) {
+        Set<AnimalPatch.Field> changed = Collections.unmodifiableSet(fields);
+        for (AnimalChangeListener listener : changeListeners) {
+            listener.animalUpdated(id, changed);
+        }
+    }
+
+    /**
+     * Method: addAnimal
+     * Purpose: Adds a new animal record to its shard.
+     * Arguments: WildAnimal animal - the animal record to be added
+     * Return: boolean - true if success
+     */
+    public boolean addAnimal(WildAnimal animal) {
+        // A rejected record throws before any listener is notified
+        boolean returnVal = shards[shardOf(animal.getId())].addAnimal(animal);
+        if (returnVal) {
+            fireAnimalsChanged();
+        }
+        return returnVal;
+    }
+
+    /**
+     * Method: updateAnimal
+     * Purpose: Updates an existing animal's details by Tag ID.
+     * Arguments: int id - Tag ID, WildAnimal updatedAnimal - the new values
+     * Return: boolean - true if success
+     */
+    public boolean updateAnimal(int id, WildAnimal updatedAnimal) {
+        Set<AnimalPatch.Field> changed = shards[shardOf(id)].updateAnimalLocked(id, updatedAnimal);
+        if (!changed.isEmpty()) {
+            fireAnimalUpdated(id, changed);
+        }
+        return true;
+    }
+
+    /**
+     * Method: patchAnimal
+     * Purpose: Changes only the fields set on a patch; a patch that changes nothing notifies no listener.
+     * Arguments: int id - Tag ID, AnimalPatch patch - the fields to change
+     * Return: boolean - true if the record changed
+     */
+    public boolean patchAnimal(int id, AnimalPatch patch) {
+        Set<AnimalPatch.Field> changed = shards[shardOf(id)].patchAnimalLocked(id, patch);
+        if (changed.isEmpty()) {
+            return false;
+        }
+        fireAnimalUpdated(id, changed);
+        return true;
+    }
+
+    /**
+     * Method: deleteAnimal
+     * Purpose: Deletes an animal by Tag ID.
+     * Arguments: int id - the Tag ID
+     * Return: boolean - true if success
+     */
+    public boolean deleteAnimal(int id) {
+        // An unknown Tag ID throws before any listener is notified
+        boolean returnVal = shards[shardOf(id)].deleteAnimal(id);
+        if (returnVal) {
+            fireAnimalsChanged();
+        }
+        return returnVal;
+    }
+
+    /**
+     * Method: deleteAnimals
+     * Purpose: Deletes every animal matching a condition, on all shards in parallel.
+     * Listeners are notified once.
+     * Arguments: Predicate<WildAnimal> condition - selects the records to delete
+     * Return: int - number of records deleted
+     */
+    public int deleteAnimals(Predicate<WildAnimal> condition) {
+        int removed = 0;
+        for (int shardRemoved : onEveryShard(shard -> shard.deleteAnimals(condition))) {
+            removed += shardRemoved;
+        }
+        if (removed > 0) {
+            fireAnimalsChanged();
+        }
+        return removed;
+    }
+
+    /**
+     * Method: updateAnimals
+     * Purpose: Applies the same patch to every animal matching a condition, on all shards in parallel.
+     * Each shard validates its records before changing any of them; a record rejected on one shard
+     * does not undo the changes made on the others. Listeners are notified once.
+     * Arguments: Predicate<WildAnimal> condition - selects the records, AnimalPatch patch - the fields to set
+     * Return: int - number of records changed
+     */
+    public int updateAnimals(Predicate<WildAnimal> condition, AnimalPatch patch) {
+        List<Future<Integer>> tasks = new ArrayList<>(shards.length);
+        for (AnimalManager shard : shards) {
+            tasks.add(pool.submit(() -> shard.updateAnimals(condition, patch)));
+        }
+        int changed = 0;
+        RuntimeException failure = null;
+        for (Future<Integer> task : tasks) {
+            try {
+                changed += await(task);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+        if (changed > 0) {
+            fireAnimalsChanged();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return changed;
+    }
+
+    /**
+     * Method: findAnimalById
+     * Purpose: Finds an animal by its Tag ID.
+     * Arguments: int id - the Tag ID
+     * Return: WildAnimal - the record, or null if there is none
+     */
+    public WildAnimal findAnimalById(int id) {
+        return shards[shardOf(id)].findAnimalById(id);
+    }
+
+    /**
+     * Method: importAnimalsFromFile
+     * Purpose: Uploads animals from a CSV, .gz or .zip file. While the rows of one batch are
+     * stored by the shards, the next batch is parsed, and batches are stored in file order so a
+     * later row of a Tag ID still wins over an earlier one.
+     * Arguments: String filename - the file to load, ConflictPolicy policy - handling of existing Tag IDs
+     * Return: ImportDiagnostics - the outcome of the import
+     */
+    public ImportDiagnostics importAnimalsFromFile(String filename, ConflictPolicy policy) {
+        ImportDiagnostics diagnostics = new ImportDiagnostics(ImportDiagnostics.rejectsFileFor(filename));
+        boolean changed = false;
+
+        try (PipelinedCsvReader reader = new PipelinedCsvReader(filename)) {
+            PendingBatch previous = null;
+            PipelinedCsvReader.LineBatch lines;
+            while ((lines = reader.nextBatch()) != null) {
+                ValidationEngine.Batch parsed = shards[0].parseAnimalLines(lines.getLines());
+                if (previous != null) {
+                    changed |= previous.finish(diagnostics);
+                }
+                previous = dispatch(parsed, lines.getLines(), lines.getEntryName(), lines.getFirstLineNumber(), policy);
+            }
+            if (previous != null) {
+                changed |= previous.finish(diagnostics);
+            }
+        } catch (IOException e) {
+            diagnostics.error("File error: " + e.getMessage());
+        } finally {
+            diagnostics.close();
+        }
+
+        if (changed) {
+            fireAnimalsChanged();
+        }
+        return diagnostics;
+    }
+
+    /**
+     * Method: importAnimalLines
+     * Purpose: Imports a batch of CSV lines that did not come from a whole file.
+     * Arguments: List<String> lines - the CSV lines, String entryName - source reported in the diagnostics,
+     * long firstLineNumber - line number of the first line, ConflictPolicy policy - handling of existing
+     * Tag IDs, ImportDiagnostics diagnostics - result sink
+     * Return: void
+     */
+    public void importAnimalLines(List<String> lines, String entryName, long firstLineNumber,
+                                  ConflictPolicy policy, ImportDiagnostics diagnostics) {
+        ValidationEngine.Batch parsed = shards[0].parseAnimalLines(lines);
+        if (dispatch(parsed, lines, entryName, firstLineNumber, policy).finish(diagnostics)) {
+            fireAnimalsChanged();
+        }
+    }
+
+    /**
+     * Method: dispatch
+     * Purpose: Groups the valid rows of a parsed batch by shard and starts storing every group
+     * on the worker threads.
+     * Arguments: ValidationEngine.Batch batch - the validated rows, List<String> lines - the source lines,
+     * String entryName, long firstLineNumber, ConflictPolicy policy - see importAnimalLines
+     * Return: PendingBatch - the running batch
+     */
+    private PendingBatch dispatch(ValidationEngine.Batch batch, List<String> lines, String entryName,
+                                  long firstLineNumber, ConflictPolicy policy) {
+        int[][] rowsByShard = new int[shards.length][];
+        int[] counts = new int[shards.length];
+        for (int row = 0; row < batch.size(); row++) {
+            if (batch.getReason(row) == null) {
+                counts[shardOf(batch.getId(row))]++;
+            }
+        }
+        for (int shard = 0; shard < shards.length; shard++) {
+            rowsByShard[shard] = new int[counts[shard]];
+            counts[shard] = 0;
+        }
+        for (int row = 0; row < batch.size(); row++) {
+            if (batch.getReason(row) == null) {
+                int shard = shardOf(batch.getId(row));
+                rowsByShard[shard][counts[shard]++] = row;
+            }
+        }
+
+        // Each shard writes the outcomes of its own rows only
+        AnimalManager.RowOutcome[] outcomes = new AnimalManager.RowOutcome[batch.size()];
+        List<Future<?>> tasks = new ArrayList<>(shards.length);
+        for (int shard = 0; shard < shards.length; shard++) {
+            if (counts[shard] > 0) {
+                AnimalManager target = shards[shard];
+                int[] rows = rowsByShard[shard];
+                tasks.add(pool.submit(() -> target.storeRows(batch, rows, rows.length, policy, outcomes)));
+            }
+        }
+        return new PendingBatch(batch, lines, entryName, firstLineNumber, outcomes, tasks);
+    }
+
+    /**
+     * Class: PendingBatch
+     * An import batch whose rows are being stored by the shards.
+     */
+    private static final class PendingBatch {
+        private final ValidationEngine.Batch batch;
+        private final List<String> lines;
+        private final String entryName;
+        private final long firstLineNumber;
+        private final AnimalManager.RowOutcome[] outcomes;
+        private final List<Future<?>> tasks;
+
+        PendingBatch(ValidationEngine.Batch batch, List<String> lines, String entryName, long firstLineNumber,
+                     AnimalManager.RowOutcome[] outcomes, List<Future<?>> tasks) {
+            this.batch = batch;
+            this.lines = lines;
+            this.entryName = entryName;
+            this.firstLineNumber = firstLineNumber;
+            this.outcomes = outcomes;
+            this.tasks = tasks;
+        }
+
+        /**
+         * Method: finish
+         * Purpose: Waits until every shard stored its rows, then reports the batch in line order.
+         * Arguments: ImportDiagnostics diagnostics - result sink
+         * Return: boolean - true if any record was added or updated
+         */
+        boolean finish(ImportDiagnostics diagnostics) {
+            awaitAll(tasks);
+            return AnimalManager.reportRows(batch, lines, entryName, firstLineNumber, outcomes, diagnostics);
+        }
+    }
+
+    /**
+     * Method: summarizeBySpecies
+     * Purpose: Summarizes every shard in parallel and merges the counts and weights per species,
+     * keyed by WildAnimal.speciesKey so "Lion" on one shard and "lion" on another form one row.
+     * Arguments: None
+     * Return: List<SpeciesSummary> - one summary per species, named as first seen
+     */
+    public List<SpeciesSummary> summarizeBySpecies() {
+        // Per species key: [0] count, [1] total weight
+        Map<String, double[]> totals = new LinkedHashMap<>();
+        Map<String, String> names = new HashMap<>();
+        for (List<SpeciesSummary> shardSummaries : onEveryShard(AnimalManager::summarizeBySpecies)) {
+            for (SpeciesSummary summary : shardSummaries) {
+                String key = WildAnimal.speciesKey(summary.getSpecies());
+                names.putIfAbsent(key, summary.getSpecies());
+                double[] speciesTotals = totals.computeIfAbsent(key, k -> new double[2]);
+                speciesTotals[0] += summary.getCount();
+                speciesTotals[1] += summary.getTotalWeight();
+            }
+        }
+
+        List<SpeciesSummary> summaries = new ArrayList<>(totals.size());
+        for (Map.Entry<String, double[]> entry : totals.entrySet()) {
+            summaries.add(new SpeciesSummary(names.get(entry.getKey()), (long) entry.getValue()[0], entry.getValue()[1]));
+        }
+        return summaries;
+    }
+
+    /**
+     * Method: calculateAverageWeightBySpecies
+     * Purpose: Calculates the average weight of one species (ignoring case) over all shards.
+     * Arguments: String species - the species
+     * Return: double - the average weight, 0 if there is no such animal
+     */
+    public double calculateAverageWeightBySpecies(String species) {
+        long count = 0;
+        double totalWeight = 0;
+        for (SpeciesSummary summary : onEveryShard(shard -> shard.summarizeSpecies(species))) {
+            count += summary.getCount();
+            totalWeight += summary.getTotalWeight();
+        }
+        return count > 0 ? totalWeight / count : 0;
+    }
+
+    /**
+     * Method: getWeightQuantiles
+     * Purpose: Estimates quantiles of the weights of one species by merging the sketches of all shards.
+     * Arguments: String species - the species, double... quantiles - e.g. 0.05, 0.5, 0.95
+     * Return: double[] - one estimate per quantile, NaN if there is no animal of the species
+     */
+    public double[] getWeightQuantiles(String species, double... quantiles) {
+        QuantileSketch merged = new QuantileSketch();
+        for (QuantileSketch sketch : onEveryShard(shard -> shard.getWeightSketch(species))) {
+            merged.merge(sketch);
+        }
+        double[] estimates = new double[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++) {
+            estimates[i] = merged.getQuantile(quantiles[i]);
+        }
+        return estimates;
+    }
+
+    /**
+     * Method: findAnimals
+     * Purpose: Returns the animals matching a filter expression, filtering every shard in parallel.
+     * Arguments: String expression - the filter, see AnimalFilter
+     * Return: List<WildAnimal> - the matching animals, shard after shard
+     */
+    public List<WildAnimal> findAnimals(String expression) {
+        AnimalFilter filter = AnimalFilter.compile(expression);
+        List<WildAnimal> matches = new ArrayList<>();
+        for (List<WildAnimal> shardMatches : onEveryShard(shard -> shard.findAnimals(filter))) {
+            matches.addAll(shardMatches);
+        }
+        return matches;
+    }
+
+    /**
+     * Method: size
+     * Purpose: Returns the number of records over all shards.
+     * Arguments: None
+     * Return: int - number of records
+     */
+    public int size() {
+        int size = 0;
+        for (int shardSize : onEveryShard(AnimalManager::getAnimalCount)) {
+            size += shardSize;
+        }
+        return size;
+    }
+
+    /**
+     * Method: getAllAnimals
+     * Purpose: Returns the records of every shard, shard after shard.
+     * Arguments: None
+     * Return: List<WildAnimal> - the records
+     */
+    public List<WildAnimal> getAllAnimals() {
+        List<WildAnimal> animals = new ArrayList<>();
+        for (List<WildAnimal> shardAnimals : onEveryShard(AnimalManager::getAllAnimals)) {
+            animals.addAll(shardAnimals);
+        }
+        return animals;
+    }
+
+    /**
+     * Method: onEveryShard
+     * Purpose: Runs a query on every shard in parallel.
+     * Arguments: Function<AnimalManager, T> query - the query
+     * Return: List<T> - the result of every shard, in shard order
+     */
+    private <T> List<T> onEveryShard(Function<AnimalManager, T> query) {
+        List<Future<T>> tasks = new ArrayList<>(shards.length);
+        for (AnimalManager shard : shards) {
+            tasks.add(pool.submit(() -> query.apply(shard)));
+        }
+        List<T> results = new ArrayList<>(shards.length);
+        for (Future<T> task : tasks) {
+            results.add(await(task));
+        }
+        return results;
+    }
+
+    private static void awaitAll(List<Future<?>> tasks) {
+        for (Future<?> task : tasks) {
+            await(task);
+        }
+    }
+
+    /**
+     * Method: await
+     * Purpose: Waits for a shard task, passing on the exception it failed with.
+     * Arguments: Future<T> task - the task
+     * Return: T - the result of the task
+     */
+    private static <T> T await(Future<T> task) {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Shard task failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shard", e);
+        }
+    }
+
+    /**
+     * Method: close
+     * Purpose: Stops the worker threads. The manager cannot be used afterwards.
+     * Arguments: None
+     * Return: void
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,306 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: SightingLog.java
+ *
+ * This class stores the location sightings (Tag ID, time, latitude, longitude) of the animals.
+ * Sightings are kept in primitive columns, 20 bytes per sighting with no object per sighting.
+ * A uniform grid over latitude/longitude indexes the sightings: every cell keeps the row numbers
+ * of its sightings ordered by time, so a bounding box and time window query only visits the
+ * overlapping cells and binary searches the window inside each of them. The latest sighting of
+ * every animal is tracked as sightings arrive, so last known positions are a single lookup.
+ * Coordinates are stored as floats; cells and box tests both use the stored float values.
+ *
+ * The class is not thread-safe; the AnimalManager calls it while holding its lock.
+ */
+
+package WATSSwingApp;
+
+import java.util.*;
+
+public class SightingLog {
+
+    /**
+     * Size of a grid cell in degrees
+     */
+    private static final double CELL_DEGREES = 0.25;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Columns
+    private int[] tagIds = new int[INITIAL_CAPACITY];
+    private long[] times = new long[INITIAL_CAPACITY];
+    private float[] latitudes = new float[INITIAL_CAPACITY];
+    private float[] longitudes = new float[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Grid index: cell key to the rows of the sightings inside the cell
+     */
+    private final Map<Long, Cell> cells = new HashMap<>();
+    /**
+     * Row of the latest sighting of every animal
+     */
+    private final Map<Integer, Integer> latestRowByTag = new HashMap<>();
+    /**
+     * Tombstones of forgotten animals: the rows of a Tag ID below this row belong to a deleted animal
+     */
+    private final Map<Integer, Integer> firstLiveRowByTag = new HashMap<>();
+
+    /**
+     * Class: Sighting
+     * A single sighting returned by the queries.
+     */
+    public static final class Sighting {
+        private final int tagId;
+        private final long timeMillis;
+        private final double latitude;
+        private final double longitude;
+
+        Sighting(int tagId, long timeMillis, double latitude, double longitude) {
+            this.tagId = tagId;
+            this.timeMillis = timeMillis;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+
+        public int getTagId() { return tagId; }
+
+        public long getTimeMillis() { return timeMillis; }
+
+        public double getLatitude() { return latitude; }
+
+        public double getLongitude() { return longitude; }
+    }
+
+    /**
+     * Class: Cell
+     * Rows of the sightings inside one grid cell. Rows are appended as sightings arrive and are
+     * re-sorted by time before the next query if a sighting arrived out of order.
+     */
+    private final class Cell {
+        private int[] rows = new int[8];
+        private int count = 0;
+        private boolean sorted = true;
+
+        void add(int row) {
+            if (count == rows.length) {
+                rows = Arrays.copyOf(rows, count * 2);
+            }
+            if (count > 0 && times[rows[count - 1]] > times[row]) {
+                sorted = false;
+            }
+            rows[count++] = row;
+        }
+
+        void sortByTime() {
+            if (sorted) {
+                return;
+            }
+            // Sort (time, row) pairs packed into longs: time relative to the oldest sighting of the cell
+            long oldest = Long.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                oldest = Math.min(oldest, times[rows[i]]);
+            }
+            long[] keys = new long[count];
+            for (int i = 0; i < count; i++) {
+                long relativeSeconds = (times[rows[i]] - oldest) / 1000;
+                keys[i] = (Math.min(relativeSeconds, 0x7fffffffL) << 32) | rows[i];
+            }
+            Arrays.sort(keys);
+            for (int i = 0; i < count; i++) {
+                rows[i] = (int) keys[i];
+            }
+            // Rows sharing a second may still be out of millisecond order; finish with an insertion pass
+            for (int i = 1; i < count; i++) {
+                int row = rows[i];
+                int j = i - 1;
+                while (j >= 0 && times[rows[j]] > times[row]) {
+                    rows[j + 1] = rows[j];
+                    j--;
+                }
+                rows[j + 1] = row;
+            }
+            sorted = true;
+        }
+
+        int firstAtOrAfter(long timeMillis) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (times[rows[middle]] < timeMillis) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Method: add
+     * Purpose: Appends a sighting and indexes it.
+     * Arguments: int tagId - the animal, long timeMillis - when it was seen,
+     * double latitude - degrees in [-90, 90], double longitude - degrees in [-180, 180]
+     * Return: void
+     */
+    public void add(int tagId, long timeMillis, double latitude, double longitude) {
+        if (size == tagIds.length) {
+            int capacity = size * 2;
+            tagIds = Arrays.copyOf(tagIds, capacity);
+            times = Arrays.copyOf(times, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+        }
+        int row = size++;
+        tagIds[row] = tagId;
+        times[row] = timeMillis;
+        latitudes[row] = (float) latitude;
+        longitudes[row] = (float) longitude;
+
+        // The cell comes from the stored value, so rounding to float cannot move a sighting out of its cell
+        cells.computeIfAbsent(cellKey(cellOf(latitudes[row]), cellOf(longitudes[row])), k -> new Cell()).add(row);
+        Integer latest = latestRowByTag.get(tagId);
+        if (latest == null || times[latest] <= timeMillis) {
+            latestRowByTag.put(tagId, row);
+        }
+    }
+
+    /**
+     * Method: size
+     * Purpose: Returns the number of stored sightings.
+     * Arguments: None
+     * Return: int - number of sightings
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Method: forget
+     * Purpose: Stops reporting an animal, for example after it was deleted: its last known position
+     * is dropped and its past sightings are tombstoned, so an animal later added under the same
+     * Tag ID does not inherit them. The rows stay in the log.
+     * Arguments: int tagId - the animal
+     * Return: void
+     */
+    public void forget(int tagId) {
+        latestRowByTag.remove(tagId);
+        firstLiveRowByTag.put(tagId, size);
+    }
+
+    /**
+     * Method: lastKnownPosition
+     * Purpose: Returns the latest sighting of an animal.
+     * Arguments: int tagId - the animal
+     * Return: Sighting - the latest sighting, or null if the animal was never seen
+     */
+    public Sighting lastKnownPosition(int tagId) {
+        Integer row = latestRowByTag.get(tagId);
+        return row == null ? null : sightingAt(row);
+    }
+
+    /**
+     * Method: lastKnownPositions
+     * Purpose: Returns the latest sighting of every animal that was seen.
+     * Arguments: None
+     * Return: List<Sighting> - one sighting per animal
+     */
+    public List<Sighting> lastKnownPositions() {
+        List<Sighting> positions = new ArrayList<>(latestRowByTag.size());
+        for (int row : latestRowByTag.values()) {
+            positions.add(sightingAt(row));
+        }
+        return positions;
+    }
+
+    /**
+     * Method: findTagsInBox
+     * Purpose: Finds the animals seen inside a bounding box during a time window. Only the grid
+     * cells overlapping the box are visited, and inside each cell only the rows within the window.
+     * Arguments: double minLatitude, double maxLatitude, double minLongitude, double maxLongitude - the box,
+     * long fromMillis, long toMillis - the window, both inclusive
+     * Return: int[] - the distinct Tag IDs, in ascending order
+     */
+    public int[] findTagsInBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude,
+                               long fromMillis, long toMillis) {
+        Set<Integer> found = new HashSet<>();
+        // Compared with the stored floats, so the bounds are rounded the same way
+        float minLat = (float) minLatitude;
+        float maxLat = (float) maxLatitude;
+        float minLon = (float) minLongitude;
+        float maxLon = (float) maxLongitude;
+        int minLatCell = cellOf(minLat);
+        int maxLatCell = cellOf(maxLat);
+        int minLonCell = cellOf(minLon);
+        int maxLonCell = cellOf(maxLon);
+        long boxCells = (long) (maxLatCell - minLatCell + 1) * (maxLonCell - minLonCell + 1);
+
+        if (boxCells <= cells.size()) {
+            for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                    Cell cell = cells.get(cellKey(latCell, lonCell));
+                    if (cell != null) {
+                        scanCell(cell, minLat, maxLat, minLon, maxLon, fromMillis, toMillis, found);
+                    }
+                }
+            }
+        } else {
+            // A huge box: walking the occupied cells is cheaper than walking the box
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                int latCell = (int) (entry.getKey() >> 32);
+                int lonCell = (int) (long) entry.getKey();
+                if (latCell >= minLatCell && latCell <= maxLatCell && lonCell >= minLonCell && lonCell <= maxLonCell) {
+                    scanCell(entry.getValue(), minLat, maxLat, minLon, maxLon, fromMillis, toMillis, found);
+                }
+            }
+        }
+
+        int[] result = new int[found.size()];
+        int i = 0;
+        for (int tagId : found) {
+            result[i++] = tagId;
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private void scanCell(Cell cell, float minLatitude, float maxLatitude, float minLongitude, float maxLongitude,
+                          long fromMillis, long toMillis, Set<Integer> found) {
+        cell.sortByTime();
+        for (int i = cell.firstAtOrAfter(fromMillis); i < cell.count; i++) {
+            int row = cell.rows[i];
+            if (times[row] > toMillis) {
+                break;
+            }
+            float latitude = latitudes[row];
+            float longitude = longitudes[row];
+            if (latitude >= minLatitude && latitude <= maxLatitude
+                    && longitude >= minLongitude && longitude <= maxLongitude && isLive(row)) {
+                found.add(tagIds[row]);
+            }
+        }
+    }
+
+    private boolean isLive(int row) {
+        if (firstLiveRowByTag.isEmpty()) {
+            return true;
+        }
+        Integer firstLiveRow = firstLiveRowByTag.get(tagIds[row]);
+        return firstLiveRow == null || row >= firstLiveRow;
+    }
+
+    private Sighting sightingAt(int row) {
+        return new Sighting(tagIds[row], times[row], latitudes[row], longitudes[row]);
+    }
+
+    private static int cellOf(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: SpeciesChartReportGenerator.java
+ *
+ * This class renders a weight-distribution and an age-distribution chart for every species
+ * to PNG and SVG files, for the weekly reports. The histograms are collected once and the
+ * charts are then rendered offscreen on a pool of worker threads. No Swing component is used,
+ * so the generator also runs on servers without a display:
+ *
+ *   java -Djava.awt.headless=true -cp WATSSwingApp.jar WATSSwingApp.SpeciesChartReportGenerator animals.csv reports/ [threads]
+ */
+
+package WATSSwingApp;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartUtilities;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.graphics2d.svg.SVGGraphics2D;
+import org.jfree.graphics2d.svg.SVGUtils;
+
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.*;
+
+public class SpeciesChartReportGenerator {
+
+    private static final int CHART_WIDTH = 800;
+    private static final int CHART_HEIGHT = 500;
+    private static final int WEIGHT_BINS = 20;
+
+    private final AnimalManager animalManager;
+    private final int threads;
+
+    /**
+     * Method: SpeciesChartReportGenerator (Constructor)
+     * Purpose: Creates a generator over the records of the given manager.
+     * Arguments: AnimalManager manager - source of the records, int threads - size of the worker pool
+     * Return: None
+     */
+    public SpeciesChartReportGenerator(AnimalManager manager, int threads) {
+        this.animalManager = manager;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Method: generate
+     * Purpose: Writes <species>-weight.png/.svg and <species>-age.png/.svg for every species into
+     * the output folder. File names are in lower case, so they behave the same on case-insensitive
+     * file systems; a species whose name is already taken, such as "lion" after "Lion", gets a
+     * numbered name. One task per species is run on the worker pool; a failure for one species
+     * is reported without stopping the others.
+     * Arguments: File outputDir - the folder receiving the charts
+     * Return: List<String> - one message per species plus a final summary
+     */
+    public List<String> generate(File outputDir) throws IOException, InterruptedException {
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("Could not create folder " + outputDir);
+        }
+
+        List<SpeciesDistribution> distributions = SpeciesDistribution.collect(animalManager, WEIGHT_BINS);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<String>> results = new ArrayList<>(distributions.size());
+        try {
+            Set<String> usedNames = new HashSet<>();
+            for (SpeciesDistribution distribution : distributions) {
+                String base = fileNameFor(distribution.getSpecies());
+                String name = base;
+                for (int n = 2; !usedNames.add(name); n++) {
+                    name = base + "-" + n;
+                }
+                String baseName = name;
+                results.add(pool.submit(() -> renderSpecies(distribution, baseName, outputDir)));
+            }
+
+            List<String> messages = new ArrayList<>(results.size() + 1);
+            int failures = 0;
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    messages.add(results.get(i).get());
+                } catch (ExecutionException e) {
+                    failures++;
+                    messages.add("[ERROR] " + distributions.get(i).getSpecies() + ": " + e.getCause().getMessage());
+                }
+            }
+            messages.add("[SUCCESS] Charts written for " + (distributions.size() - failures) + " of "
+                    + distributions.size() + " species to " + outputDir.getAbsolutePath());
+            return messages;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Method: renderSpecies
+     * Purpose: Builds and writes both charts of one species in PNG and SVG format.
+     * Arguments: SpeciesDistribution distribution - the histograms, String baseName - file name base
+     * of the species, File outputDir - target folder
+     * Return: String - message naming the files written
+     */
+    private String renderSpecies(SpeciesDistribution distribution, String baseName, File outputDir) throws IOException {
+
+        DefaultCategoryDataset weightData = new DefaultCategoryDataset();
+        for (int bin = 0; bin < distribution.getWeightBinCount(); bin++) {
+            weightData.addValue(distribution.getWeightCount(bin), "Animals", distribution.getWeightBinLabel(bin));
+        }
+        JFreeChart weightChart = ChartFactory.createBarChart(
+                "Weight Distribution - " + distribution.getSpecies(), "Weight (kg)", "Animals",
+                weightData, PlotOrientation.VERTICAL, false, false, false);
+
+        DefaultCategoryDataset ageData = new DefaultCategoryDataset();
+        for (int bin = 0; bin < distribution.getAgeBinCount(); bin++) {
+            ageData.addValue(distribution.getAgeCount(bin), "Animals", distribution.getAgeBinLabel(bin));
+        }
+        JFreeChart ageChart = ChartFactory.createBarChart(
+                "Age Distribution - " + distribution.getSpecies(), "Age (years)", "Animals",
+                ageData, PlotOrientation.VERTICAL, false, false, false);
+
+        writeChart(weightChart, new File(outputDir, baseName + "-weight"));
+        writeChart(ageChart, new File(outputDir, baseName + "-age"));
+        return "[INFO] " + distribution.getSpecies() + ": " + baseName + "-weight and " + baseName + "-age (.png, .svg)";
+    }
+
+    /**
+     * Method: writeChart
+     * Purpose: Renders a chart offscreen to <base>.png and <base>.svg.
+     * Arguments: JFreeChart chart - the chart, File base - output path without extension
+     * Return: void
+     */
+    private static void writeChart(JFreeChart chart, File base) throws IOException {
+        ChartUtilities.saveChartAsPNG(new File(base.getPath() + ".png"), chart, CHART_WIDTH, CHART_HEIGHT);
+
+        SVGGraphics2D svg = new SVGGraphics2D(CHART_WIDTH, CHART_HEIGHT);
+        chart.draw(svg, new Rectangle(CHART_WIDTH, CHART_HEIGHT));
+        SVGUtils.writeToSVG(new File(base.getPath() + ".svg"), svg.getSVGElement());
+    }
+
+    /**
+     * Method: fileNameFor
+     * Purpose: Turns a species name into a safe, lower-case file name. A hash of the original name
+     * is appended when characters had to be replaced, so "Grey Wolf" and "Grey_Wolf" differ.
+     * Arguments: String species - the species name
+     * Return: String - the file name base
+     */
+    static String fileNameFor(String species) {
+        String safe = species.replaceAll("[^A-Za-z0-9_-]", "_");
+        if (safe.isEmpty() || !safe.equals(species)) {
+            safe = safe + "_" + Integer.toHexString(species.hashCode());
+        }
+        return safe.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Method: main
+     * Purpose: Command line entry point. Loads a CSV, .gz or .zip file and writes the charts of
+     * every species into the output folder. Runs headless.
+     * Arguments: String[] args - input file, output folder, optional number of threads
+     * Return: void
+     */
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        if (args.length < 2) {
+            System.out.println("Usage: SpeciesChartReportGenerator <animals.csv> <output folder> [threads]");
+            System.exit(1);
+        }
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        AnimalManager manager = new AnimalManager();
+        manager.uploadAnimalsFromFile(args[0]).forEach(System.out::println);
+        new SpeciesChartReportGenerator(manager, threads).generate(new File(args[1])).forEach(System.out::println);
+    }
+}
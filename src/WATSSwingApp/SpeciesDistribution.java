@@ -0,0 +1,121 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: SpeciesDistribution.java
+ *
+ * This class holds the weight and age histograms of one species. The histograms of all species
+ * are collected together in two passes over the AnimalManager records: the first finds the value
+ * ranges, the second counts the animals per bin. Only the bin counts are kept, never the raw values.
+ */
+
+package WATSSwingApp;
+
+import java.util.*;
+
+public class SpeciesDistribution {
+
+    /**
+     * Largest number of age bins; older ages are spread over wider bins
+     */
+    private static final int MAX_AGE_BINS = 30;
+    /**
+     * Most decimal places shown in a weight bin label
+     */
+    private static final int MAX_WEIGHT_DECIMALS = 15;
+
+    private final String species;
+    private final double minWeight;
+    private final double weightBinWidth;
+    private final long[] weightCounts;
+    private final int ageBinWidth;
+    private final long[] ageCounts;
+
+    private SpeciesDistribution(String species, double minWeight, double maxWeight, int weightBins, int maxAge) {
+        this.species = species;
+        this.minWeight = minWeight;
+        this.weightBinWidth = maxWeight > minWeight ? (maxWeight - minWeight) / weightBins : 1;
+        this.weightCounts = new long[maxWeight > minWeight ? weightBins : 1];
+        this.ageBinWidth = Math.max(1, (maxAge + MAX_AGE_BINS) / MAX_AGE_BINS);
+        this.ageCounts = new long[maxAge / ageBinWidth + 1];
+    }
+
+    /**
+     * Method: collect
+     * Purpose: Builds the weight and age histograms of every species.
+     * Arguments: AnimalManager manager - source of the records, int weightBins - number of weight bins
+     * Return: List<SpeciesDistribution> - one distribution per species, ordered by species name
+     */
+    public static List<SpeciesDistribution> collect(AnimalManager manager, int weightBins) {
+        // Pass 1: per species [0] min weight, [1] max weight, [2] max age
+        Map<String, double[]> ranges = new HashMap<>();
+        manager.forEachAnimal(animal -> {
+            double[] range = ranges.computeIfAbsent(animal.getSpecies(),
+                    k -> new double[] { Double.MAX_VALUE, -Double.MAX_VALUE, 0 });
+            range[0] = Math.min(range[0], animal.getWeight());
+            range[1] = Math.max(range[1], animal.getWeight());
+            range[2] = Math.max(range[2], animal.getAge());
+        });
+
+        Map<String, SpeciesDistribution> distributions = new TreeMap<>();
+        for (Map.Entry<String, double[]> entry : ranges.entrySet()) {
+            double[] range = entry.getValue();
+            distributions.put(entry.getKey(),
+                    new SpeciesDistribution(entry.getKey(), range[0], range[1], weightBins, (int) range[2]));
+        }
+
+        // Pass 2: count the animals per bin. Records changed between the passes are clamped into range.
+        manager.forEachAnimal(animal -> {
+            SpeciesDistribution distribution = distributions.get(animal.getSpecies());
+            if (distribution != null) {
+                distribution.add(animal.getWeight(), animal.getAge());
+            }
+        });
+        return new ArrayList<>(distributions.values());
+    }
+
+    private void add(double weight, int age) {
+        int weightBin = (int) ((weight - minWeight) / weightBinWidth);
+        weightCounts[Math.max(0, Math.min(weightCounts.length - 1, weightBin))]++;
+        int ageBin = age / ageBinWidth;
+        ageCounts[Math.max(0, Math.min(ageCounts.length - 1, ageBin))]++;
+    }
+
+    /**
+     * Getter methods
+     */
+    public String getSpecies() { return species; }
+
+    public int getWeightBinCount() { return weightCounts.length; }
+
+    public long getWeightCount(int bin) { return weightCounts[bin]; }
+
+    public int getAgeBinCount() { return ageCounts.length; }
+
+    public long getAgeCount(int bin) { return ageCounts[bin]; }
+
+    /**
+     * Method: getWeightBinLabel
+     * Purpose: Returns the label of a weight bin, such as "120.0-130.0". Narrow bins get one decimal
+     * place more than the bin width needs, so rounding never gives two bins the same label.
+     * Arguments: int bin - the bin
+     * Return: String - the label
+     */
+    public String getWeightBinLabel(int bin) {
+        double low = minWeight + bin * weightBinWidth;
+        int decimals = Math.max(1, Math.min(MAX_WEIGHT_DECIMALS, (int) Math.ceil(-Math.log10(weightBinWidth)) + 1));
+        // Locale.ROOT keeps the decimal point a dot, whatever the default locale
+        return String.format(Locale.ROOT, "%." + decimals + "f-%." + decimals + "f", low, low + weightBinWidth);
+    }
+
+    /**
+     * Method: getAgeBinLabel
+     * Purpose: Returns the label of an age bin, such as "4" or "4-5".
+     * Arguments: int bin - the bin
+     * Return: String - the label
+     */
+    public String getAgeBinLabel(int bin) {
+        int low = bin * ageBinWidth;
+        return ageBinWidth == 1 ? Integer.toString(low) : low + "-" + (low + ageBinWidth - 1);
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: SpeciesSummary.java
+ *
+ * This class holds the aggregated figures of one species: the number of animals and their
+ * total weight. Summaries are produced by the AnimalManager in a single pass over the records
+ * and are shared by the charts and reports instead of each of them collecting raw weights.
+ */
+
+package WATSSwingApp;
+
+public class SpeciesSummary {
+
+    private final String species;
+    private final long count;
+    private final double totalWeight;
+
+    /**
+     * Method: SpeciesSummary (Constructor)
+     * Purpose: Initializes a summary with the given figures.
+     * Arguments: String species, long count - number of animals, double totalWeight - sum of their weights
+     * Return: None
+     */
+    public SpeciesSummary(String species, long count, double totalWeight) {
+        this.species = species;
+        this.count = count;
+        this.totalWeight = totalWeight;
+    }
+
+    /**
+     * Getter methods
+     */
+    public String getSpecies() { return species; }
+
+    public long getCount() { return count; }
+
+    public double getTotalWeight() { return totalWeight; }
+
+    /**
+     * Method: getAverageWeight
+     * Purpose: Returns the average weight of the species.
+     * Arguments: None
+     * Return: double - the average weight, 0 if there are no animals
+     */
+    public double getAverageWeight() {
+        return count > 0 ? totalWeight / count : 0;
+    }
+
+    /** Method: toString
+     * Purpose: Returns a formatted string representation of the summary
+     * Arguments: None
+     * Return: String
+     */
+    @Override
+    public String toString() {
+        return String.format("Species: %s | Count: %d | Average Weight: %.2f", species, count, getAverageWeight());
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: TopKIndex.java
+ *
+ * This class keeps the Tag IDs of the animals with the highest value of one field (such as weight
+ * or age) per species, so leaderboards are answered in O(K) instead of by scanning and sorting.
+ * Each species holds a bounded sorted set of at most CAPACITY entries plus its total number of
+ * animals. Adding an animal costs O(log CAPACITY). Removing one of the top entries may leave the
+ * set shorter than a later query needs while lower-ranked animals exist outside it; such a species
+ * is reported as needing repair, and the AnimalManager rebuilds it from the records of that species.
+ * The index is not thread-safe; the AnimalManager guards it with its lock.
+ */
+
+package WATSSwingApp;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+
+public class TopKIndex {
+
+    /**
+     * Largest K a query can ask for
+     */
+    public static final int MAX_K = 50;
+    /**
+     * Entries kept per species; the slack above MAX_K absorbs removals before a repair is needed
+     */
+    private static final int CAPACITY = 2 * MAX_K;
+
+    private static final Comparator<Entry> HIGHEST_FIRST = Comparator.comparingDouble((Entry entry) -> entry.value)
+            .reversed().thenComparingInt(entry -> entry.id);
+
+    private final ToDoubleFunction<WildAnimal> field;
+    /**
+     * Per species (lower case): the top entries and the number of animals of the species
+     */
+    private final Map<String, SpeciesTop> species = new HashMap<>();
+
+    /**
+     * Method: TopKIndex (Constructor)
+     * Purpose: Creates an empty index ranking animals by the given field.
+     * Arguments: ToDoubleFunction<WildAnimal> field - the ranked field, e.g. WildAnimal::getWeight
+     * Return: None
+     */
+    public TopKIndex(ToDoubleFunction<WildAnimal> field) {
+        this.field = field;
+    }
+
+    /**
+     * Method: add
+     * Purpose: Counts an animal and keeps it if it ranks among the top entries of its species.
+     * Arguments: WildAnimal animal - the record
+     * Return: void
+     */
+    public void add(WildAnimal animal) {
+        SpeciesTop top = species.computeIfAbsent(keyOf(animal.getSpecies()), k -> new SpeciesTop());
+        top.count++;
+        Entry entry = new Entry(field.applyAsDouble(animal), animal.getId());
+        // The kept entries are always the highest ranked animals of the species. A new animal joins
+        // them if every animal is kept, or if it ranks above the lowest kept one.
+        boolean complete = top.entries.size() == top.count - 1;
+        if (complete || (!top.entries.isEmpty() && HIGHEST_FIRST.compare(entry, top.entries.last()) < 0)) {
+            top.entries.add(entry);
+            if (top.entries.size() > CAPACITY) {
+                top.entries.pollLast();
+            }
+        }
+    }
+
+    /**
+     * Method: remove
+     * Purpose: Uncounts an animal, with the values it was added with.
+     * Arguments: WildAnimal animal - the record
+     * Return: void
+     */
+    public void remove(WildAnimal animal) {
+        String key = keyOf(animal.getSpecies());
+        SpeciesTop top = species.get(key);
+        if (top == null) {
+            return;
+        }
+        top.entries.remove(new Entry(field.applyAsDouble(animal), animal.getId()));
+        top.count--;
+        if (top.count <= 0) {
+            species.remove(key);
+        }
+    }
+
+    /**
+     * Method: needsRepair
+     * Purpose: Checks whether the kept entries of a species are too few to answer a query for k
+     * animals while more animals of the species exist.
+     * Arguments: String speciesName - the species (ignoring case), int k - number of animals wanted
+     * Return: boolean - true if the species must be rebuilt first
+     */
+    public boolean needsRepair(String speciesName, int k) {
+        SpeciesTop top = species.get(keyOf(speciesName));
+        return top != null && top.entries.size() < Math.min(k, top.count);
+    }
+
+    /**
+     * Method: rebuild
+     * Purpose: Replaces the kept entries of a species with the top entries of its animals.
+     * Arguments: String speciesName - the species (ignoring case), List<WildAnimal> animals - every animal of the species
+     * Return: void
+     */
+    public void rebuild(String speciesName, List<WildAnimal> animals) {
+        String key = keyOf(speciesName);
+        species.remove(key);
+        if (animals.isEmpty()) {
+            return;
+        }
+        SpeciesTop top = new SpeciesTop();
+        species.put(key, top);
+        top.count = animals.size();
+        for (WildAnimal animal : animals) {
+            top.entries.add(new Entry(field.applyAsDouble(animal), animal.getId()));
+            if (top.entries.size() > CAPACITY) {
+                top.entries.pollLast();
+            }
+        }
+    }
+
+    /**
+     * Method: top
+     * Purpose: Returns the Tag IDs of the k highest ranked animals of a species, highest first.
+     * Call needsRepair first; without a repair fewer IDs may be returned.
+     * Arguments: String speciesName - the species (ignoring case), int k - number of animals, at most MAX_K
+     * Return: int[] - up to k Tag IDs
+     */
+    public int[] top(String speciesName, int k) {
+        if (k < 1 || k > MAX_K) {
+            throw new IllegalArgumentException("K must be between 1 and " + MAX_K);
+        }
+        SpeciesTop top = species.get(keyOf(speciesName));
+        if (top == null) {
+            return new int[0];
+        }
+        int[] ids = new int[Math.min(k, top.entries.size())];
+        Iterator<Entry> entries = top.entries.iterator();
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = entries.next().id;
+        }
+        return ids;
+    }
+
+    private static String keyOf(String speciesName) {
+        return WildAnimal.speciesKey(speciesName);
+    }
+
+    /**
+     * Class: SpeciesTop
+     * The kept entries and animal count of one species.
+     */
+    private static final class SpeciesTop {
+        private final TreeSet<Entry> entries = new TreeSet<>(HIGHEST_FIRST);
+        private long count = 0;
+    }
+
+    /**
+     * Class: Entry
+     * A ranked value and the Tag ID it belongs to.
+     */
+    private static final class Entry {
+        private final double value;
+        private final int id;
+
+        Entry(double value, int id) {
+            this.value = value;
+            this.id = id;
+        }
+    }
+}
@@ -8,7 +8,8 @@
  * in the Wildlife Animal Tracking System (WATS). It retrieves the animal data using the
  * provided tag ID and populates the form fields for editing.
  * Input filters are applied to ensure numeric and decimal validation.Upon submission,
- * the updated data is validated and sent to the AnimalManager for persistence.
+ * only the fields the user changed are validated and sent to the AnimalManager as a patch,
+ * so an unchanged form saves nothing and edits made elsewhere to other fields are kept.
  */
 
 package WATSSwingApp;
@@ -30,6 +31,10 @@ public class UpdateAnimalDialog extends JDialog {
 
     private final AnimalManager manager;
     private final int tagId;
+    /**
+     * The values shown when the dialog opened, compared with the form to find the edited fields
+     */
+    private WildAnimal original;
 
     /**
      * Method: UpdateAnimalDialog Constructor
@@ -51,6 +56,8 @@ public class UpdateAnimalDialog extends JDialog {
             dispose();
             return;
         }
+        original = new WildAnimal(tagId, animal.getSpecies(), animal.getName(), animal.getAge(), animal.getGender(),
+                animal.getWeight(), animal.getHealthStatus());
 
         JPanel formPanel = new JPanel(new GridLayout(6, 2, 10, 10));
         formPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
@@ -71,7 +78,7 @@ public class UpdateAnimalDialog extends JDialog {
         formPanel.add(txtAge);
 
         formPanel.add(new JLabel("Gender:"));
-        cmbGender = new JComboBox<>(new String[] { "Male", "Female", "Unknown" });
+        cmbGender = new JComboBox<>(manager.getValidator().getGenderChoices().toArray(new String[0]));
         cmbGender.setSelectedItem(animal.getGender());
         formPanel.add(cmbGender);
 
@@ -83,9 +90,7 @@ public class UpdateAnimalDialog extends JDialog {
         formPanel.add(txtWeight);
 
         formPanel.add(new JLabel("Health Status:"));
-        cmbHealthStatus = new JComboBox<>(new String[] {
-                "Healthy", "Injured", "Sick", "Recovering"
-        });
+        cmbHealthStatus = new JComboBox<>(manager.getValidator().getHealthStatuses().toArray(new String[0]));
 
         cmbHealthStatus.setSelectedItem(animal.getHealthStatus());
         formPanel.add(cmbHealthStatus);
@@ -105,12 +110,13 @@ public class UpdateAnimalDialog extends JDialog {
                 String healthStatus = (String) cmbHealthStatus.getSelectedItem();
 
                 WildAnimal updatedAnimal = new WildAnimal(tagId, species, name, age, gender, weight, healthStatus);
-                boolean success = manager.updateAnimal(tagId, updatedAnimal);
-
-                if (success) {
+                AnimalPatch patch = AnimalPatch.between(original, updatedAnimal);
+                if (patch.isEmpty() || !manager.patchAnimal(tagId, patch)) {
+                    JOptionPane.showMessageDialog(this, "No changes to save.");
+                } else {
                     JOptionPane.showMessageDialog(this, "Animal updated successfully!");
-                    dispose();
                 }
+                dispose();
             } catch (Exception ex) {
                 JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage(), "Validation Error", JOptionPane.ERROR_MESSAGE);
             }
@@ -0,0 +1,236 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: ValidationEngine.java
+ *
+ * This class validates animal records against a compiled ValidationRules set. Only the rules
+ * that are actually configured are compiled into the engine, each as a small predicate that
+ * returns the reason of the violation (or null). Single records are checked by the add and update
+ * paths; imports validate a whole columnar Batch rule by rule, recording a reason per row instead
+ * of throwing an exception per bad row. The engine is immutable and may be shared between threads.
+ */
+
+package WATSSwingApp;
+
+import java.util.*;
+
+public class ValidationEngine {
+
+    /**
+     * Interface: Rule
+     * One compiled check of a record's fields.
+     */
+    private interface Rule {
+        ImportDiagnostics.Reason test(String species, int age, String gender, double weight, String health);
+    }
+
+    private final Rule[] rules;
+    private final List<String> healthStatuses;
+    private final List<String> genders;
+
+    /**
+     * Method: ValidationEngine (Constructor)
+     * Purpose: Compiles a rule set. Use ValidationRules.compile().
+     * Arguments: ValidationRules config - the rule set
+     * Return: None
+     */
+    ValidationEngine(ValidationRules config) {
+        this.healthStatuses = config.getHealthStatuses();
+        this.genders = config.getGenders();
+        List<Rule> compiled = new ArrayList<>();
+
+        compiled.add((species, age, gender, weight, health) ->
+                age < 0 ? ImportDiagnostics.Reason.NEGATIVE_AGE : null);
+        compiled.add((species, age, gender, weight, health) ->
+                Double.isFinite(weight) ? null : ImportDiagnostics.Reason.NON_FINITE_WEIGHT);
+        compiled.add((species, age, gender, weight, health) ->
+                weight > 0 ? null : ImportDiagnostics.Reason.NON_POSITIVE_WEIGHT);
+        Set<String> allowedHealth = new HashSet<>(healthStatuses);
+        compiled.add((species, age, gender, weight, health) ->
+                allowedHealth.contains(health) ? null : ImportDiagnostics.Reason.INVALID_HEALTH_STATUS);
+
+        int maxAge = config.getMaxAge();
+        if (maxAge != Integer.MAX_VALUE) {
+            compiled.add((species, age, gender, weight, health) ->
+                    age > maxAge ? ImportDiagnostics.Reason.AGE_OUT_OF_RANGE : null);
+        }
+        double maxWeight = config.getMaxWeight();
+        if (maxWeight != Double.POSITIVE_INFINITY) {
+            compiled.add((species, age, gender, weight, health) ->
+                    weight > maxWeight ? ImportDiagnostics.Reason.WEIGHT_OUT_OF_RANGE : null);
+        }
+        if (genders != null) {
+            Set<String> allowedGenders = new HashSet<>(genders);
+            compiled.add((species, age, gender, weight, health) ->
+                    allowedGenders.contains(gender) ? null : ImportDiagnostics.Reason.INVALID_GENDER);
+        }
+        if (!config.getSpeciesWeightBounds().isEmpty()) {
+            Map<String, double[]> bounds = new HashMap<>(config.getSpeciesWeightBounds());
+            compiled.add((species, age, gender, weight, health) -> {
+                double[] range = bounds.get(species.toLowerCase(Locale.ROOT));
+                return range != null && (weight < range[0] || weight > range[1])
+                        ? ImportDiagnostics.Reason.SPECIES_WEIGHT_OUT_OF_RANGE : null;
+            });
+        }
+        this.rules = compiled.toArray(new Rule[0]);
+    }
+
+    /**
+     * Method: check
+     * Purpose: Checks the fields of one record.
+     * Arguments: String species, int age, String gender, double weight, String health - the record's fields
+     * Return: ImportDiagnostics.Reason - the first violated rule, or null if the record is valid
+     */
+    public ImportDiagnostics.Reason check(String species, int age, String gender, double weight, String health) {
+        for (Rule rule : rules) {
+            ImportDiagnostics.Reason reason = rule.test(species, age, gender, weight, health);
+            if (reason != null) {
+                return reason;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method: validate
+     * Purpose: Checks one record and reports a violation as an exception, for the add and update paths.
+     * Arguments: WildAnimal animal - the record
+     * Return: void
+     */
+    public void validate(WildAnimal animal) {
+        ImportDiagnostics.Reason reason = check(animal.getSpecies(), animal.getAge(), animal.getGender(),
+                animal.getWeight(), animal.getHealthStatus());
+        if (reason != null) {
+            throw new IllegalArgumentException(reason.getDescription());
+        }
+    }
+
+    /**
+     * Method: validate
+     * Purpose: Checks every row of a batch that has no reason yet, one rule at a time over all rows.
+     * The first violated rule of a row is stored as its reason.
+     * Arguments: Batch batch - the rows to check
+     * Return: void
+     */
+    public void validate(Batch batch) {
+        ImportDiagnostics.Reason[] reasons = batch.reasons;
+        for (Rule rule : rules) {
+            for (int row = 0; row < batch.size; row++) {
+                if (reasons[row] == null) {
+                    reasons[row] = rule.test(batch.species[row], batch.ages[row], batch.genders[row],
+                            batch.weights[row], batch.health[row]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method: getHealthStatuses
+     * Purpose: Returns the accepted health statuses, in the order the dialogs offer them.
+     * Arguments: None
+     * Return: List<String> - the health statuses
+     */
+    public List<String> getHealthStatuses() {
+        return healthStatuses;
+    }
+
+    /**
+     * Method: getGenderChoices
+     * Purpose: Returns the genders the dialogs offer: the accepted genders, or the usual
+     * choices when any gender is accepted.
+     * Arguments: None
+     * Return: List<String> - the genders
+     */
+    public List<String> getGenderChoices() {
+        return genders != null ? genders : ValidationRules.DEFAULT_GENDERS;
+    }
+
+    /**
+     * Class: Batch
+     * A batch of parsed records stored column by column. Rows that failed to parse carry their
+     * reason already and are skipped by the validation.
+     */
+    public static final class Batch {
+        private int[] ids;
+        private String[] species;
+        private String[] names;
+        private int[] ages;
+        private String[] genders;
+        private double[] weights;
+        private String[] health;
+        private ImportDiagnostics.Reason[] reasons;
+        private int size = 0;
+
+        public Batch(int capacity) {
+            int initial = Math.max(1, capacity);
+            ids = new int[initial];
+            species = new String[initial];
+            names = new String[initial];
+            ages = new int[initial];
+            genders = new String[initial];
+            weights = new double[initial];
+            health = new String[initial];
+            reasons = new ImportDiagnostics.Reason[initial];
+        }
+
+        /**
+         * Method: add
+         * Purpose: Appends a parsed row.
+         * Arguments: the record's fields
+         * Return: void
+         */
+        public void add(int id, String speciesValue, String name, int age, String gender, double weight,
+                        String healthStatus) {
+            int row = nextRow();
+            ids[row] = id;
+            species[row] = speciesValue;
+            names[row] = name;
+            ages[row] = age;
+            genders[row] = gender;
+            weights[row] = weight;
+            health[row] = healthStatus;
+        }
+
+        /**
+         * Method: addRejected
+         * Purpose: Appends a row that could not be parsed, keeping the row numbering of the batch.
+         * Arguments: ImportDiagnostics.Reason reason - why the row is rejected
+         * Return: void
+         */
+        public void addRejected(ImportDiagnostics.Reason reason) {
+            reasons[nextRow()] = reason;
+        }
+
+        private int nextRow() {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                species = Arrays.copyOf(species, capacity);
+                names = Arrays.copyOf(names, capacity);
+                ages = Arrays.copyOf(ages, capacity);
+                genders = Arrays.copyOf(genders, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+                health = Arrays.copyOf(health, capacity);
+                reasons = Arrays.copyOf(reasons, capacity);
+            }
+            return size++;
+        }
+
+        public int size() { return size; }
+
+        public ImportDiagnostics.Reason getReason(int row) { return reasons[row]; }
+
+        public int getId(int row) { return ids[row]; }
+
+        /**
+         * Method: toAnimal
+         * Purpose: Builds the record of a valid row.
+         * Arguments: int row - the row
+         * Return: WildAnimal - the record
+         */
+        public WildAnimal toAnimal(int row) {
+            return new WildAnimal(ids[row], species[row], names[row], ages[row], genders[row], weights[row], health[row]);
+        }
+    }
+}
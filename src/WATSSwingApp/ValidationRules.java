@@ -0,0 +1,193 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: ValidationRules.java
+ *
+ * This class holds the configurable rule set for animal records: age and weight ranges, the
+ * allowed health statuses and genders, and optional weight bounds per species. The rules are
+ * compiled once into a ValidationEngine, which every write path of the AnimalManager uses.
+ * A rule set can be loaded from a properties file, for example:
+ *
+ *   age.max=60
+ *   weight.max=7000
+ *   health=Healthy,Injured,Sick,Unknown
+ *   gender=Male,Female,Unknown
+ *   species.Lion.weight=90-260
+ */
+
+package WATSSwingApp;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+public class ValidationRules {
+
+    /**
+     * Health statuses accepted by default
+     */
+    public static final List<String> DEFAULT_HEALTH_STATUSES =
+            Collections.unmodifiableList(Arrays.asList("Healthy", "Injured", "Sick", "Unknown"));
+    /**
+     * Genders offered by the dialogs when the rules do not restrict them
+     */
+    public static final List<String> DEFAULT_GENDERS =
+            Collections.unmodifiableList(Arrays.asList("Male", "Female", "Unknown"));
+
+    private int maxAge = Integer.MAX_VALUE;
+    private double maxWeight = Double.POSITIVE_INFINITY;
+    private List<String> healthStatuses = DEFAULT_HEALTH_STATUSES;
+    /**
+     * Allowed genders, or null to accept any gender
+     */
+    private List<String> genders = null;
+    /**
+     * Weight bounds per species: species (lower case) to {min, max}
+     */
+    private final Map<String, double[]> speciesWeightBounds = new LinkedHashMap<>();
+
+    /**
+     * Method: setMaxAge
+     * Purpose: Sets the highest accepted age. Ages are always non-negative.
+     * Arguments: int maxAge - maximum age in years
+     * Return: ValidationRules - this rule set
+     */
+    public ValidationRules setMaxAge(int maxAge) {
+        if (maxAge < 0) {
+            throw new IllegalArgumentException("Maximum age must be non-negative");
+        }
+        this.maxAge = maxAge;
+        return this;
+    }
+
+    /**
+     * Method: setMaxWeight
+     * Purpose: Sets the highest accepted weight. Weights are always positive.
+     * Arguments: double maxWeight - maximum weight in kg
+     * Return: ValidationRules - this rule set
+     */
+    public ValidationRules setMaxWeight(double maxWeight) {
+        if (!(maxWeight > 0)) {
+            throw new IllegalArgumentException("Maximum weight must be positive");
+        }
+        this.maxWeight = maxWeight;
+        return this;
+    }
+
+    /**
+     * Method: setHealthStatuses
+     * Purpose: Sets the accepted health statuses.
+     * Arguments: List<String> statuses - the allowed values, in the order the dialogs offer them
+     * Return: ValidationRules - this rule set
+     */
+    public ValidationRules setHealthStatuses(List<String> statuses) {
+        if (statuses.isEmpty()) {
+            throw new IllegalArgumentException("At least one health status is required");
+        }
+        this.healthStatuses = Collections.unmodifiableList(new ArrayList<>(statuses));
+        return this;
+    }
+
+    /**
+     * Method: setGenders
+     * Purpose: Restricts the accepted genders.
+     * Arguments: List<String> genders - the allowed values, or null to accept any gender
+     * Return: ValidationRules - this rule set
+     */
+    public ValidationRules setGenders(List<String> genders) {
+        this.genders = genders == null ? null : Collections.unmodifiableList(new ArrayList<>(genders));
+        return this;
+    }
+
+    /**
+     * Method: setSpeciesWeightRange
+     * Purpose: Sets the accepted weight range of one species (matched ignoring case).
+     * Arguments: String species - the species, double min - lowest weight, double max - highest weight
+     * Return: ValidationRules - this rule set
+     */
+    public ValidationRules setSpeciesWeightRange(String species, double min, double max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Invalid weight range for " + species + ": " + min + "-" + max);
+        }
+        speciesWeightBounds.put(species.trim().toLowerCase(Locale.ROOT), new double[] { min, max });
+        return this;
+    }
+
+    int getMaxAge() { return maxAge; }
+
+    double getMaxWeight() { return maxWeight; }
+
+    List<String> getHealthStatuses() { return healthStatuses; }
+
+    List<String> getGenders() { return genders; }
+
+    Map<String, double[]> getSpeciesWeightBounds() { return speciesWeightBounds; }
+
+    /**
+     * Method: compile
+     * Purpose: Compiles the rule set into a validation engine. Later changes to this rule set do
+     * not affect engines already compiled.
+     * Arguments: None
+     * Return: ValidationEngine - the compiled rules
+     */
+    public ValidationEngine compile() {
+        return new ValidationEngine(this);
+    }
+
+    /**
+     * Method: load
+     * Purpose: Reads a rule set from a properties file (see the class comment for the keys).
+     * Keys that are not present keep their default values. The file is read as UTF-8, like the CSV
+     * input, so species names outside ASCII load the same on every platform.
+     * Arguments: File file - the properties file
+     * Return: ValidationRules - the loaded rules
+     */
+    public static ValidationRules load(File file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        ValidationRules rules = new ValidationRules();
+        try {
+            if (properties.containsKey("age.max")) {
+                rules.setMaxAge(Integer.parseInt(properties.getProperty("age.max").trim()));
+            }
+            if (properties.containsKey("weight.max")) {
+                rules.setMaxWeight(Double.parseDouble(properties.getProperty("weight.max").trim()));
+            }
+            if (properties.containsKey("health")) {
+                rules.setHealthStatuses(splitList(properties.getProperty("health")));
+            }
+            if (properties.containsKey("gender")) {
+                rules.setGenders(splitList(properties.getProperty("gender")));
+            }
+            for (String key : properties.stringPropertyNames()) {
+                if (key.startsWith("species.") && key.endsWith(".weight")) {
+                    String species = key.substring("species.".length(), key.length() - ".weight".length());
+                    String[] range = properties.getProperty(key).split("-");
+                    if (range.length != 2) {
+                        throw new IllegalArgumentException("Expected min-max for " + key);
+                    }
+                    rules.setSpeciesWeightRange(species, Double.parseDouble(range[0].trim()),
+                            Double.parseDouble(range[1].trim()));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid rule in " + file + ": " + e.getMessage(), e);
+        }
+        return rules;
+    }
+
+    private static List<String> splitList(String value) {
+        List<String> values = new ArrayList<>();
+        for (String part : value.split(",")) {
+            if (!part.trim().isEmpty()) {
+                values.add(part.trim());
+            }
+        }
+        return values;
+    }
+}
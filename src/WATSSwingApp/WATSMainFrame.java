@@ -14,10 +14,17 @@
 package WATSSwingApp;
 
 import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 public class WATSMainFrame extends JFrame {
@@ -38,6 +45,26 @@ public class WATSMainFrame extends JFrame {
      * Create an instance of JPanel for the main content panel
      */
     private final JPanel mainPanel;
+    /**
+     * Set while a table refresh is queued on the Event Dispatch Thread, coalesces change events
+     */
+    private final AtomicBoolean refreshPending = new AtomicBoolean(false);
+    /**
+     * Follows appends to the CSV files of a watched folder, null when no folder is watched
+     */
+    private DirectoryTailIngestor folderIngestor;
+    /**
+     * Live average weight chart, created the first time it is opened
+     */
+    private AverageWeightChart averageWeightChart;
+    /**
+     * Last filter expression entered, offered again by the filter dialog
+     */
+    private String lastFilter = "";
+    /**
+     * Upload button, disabled while a multi-file import runs in the background
+     */
+    private JButton btnImportCSV;
 
 
     /**
@@ -59,10 +86,45 @@ public class WATSMainFrame extends JFrame {
         // Create menu bar
         JMenuBar menuBar = new JMenuBar();
         JMenu fileMenu = new JMenu("File");
+        JMenuItem watchFolderItem = new JMenuItem("Watch Folder...");
+        watchFolderItem.addActionListener(e -> startFolderWatch());
+        fileMenu.add(watchFolderItem);
+        JMenuItem watchStatusItem = new JMenuItem("Folder Watch Status");
+        watchStatusItem.addActionListener(e -> showFolderWatchStatus());
+        fileMenu.add(watchStatusItem);
+        JMenuItem stopWatchItem = new JMenuItem("Stop Watching Folder");
+        stopWatchItem.addActionListener(e -> stopFolderWatch());
+        fileMenu.add(stopWatchItem);
+        fileMenu.addSeparator();
+        JMenuItem convertArchiveItem = new JMenuItem("Convert CSV to Archive...");
+        convertArchiveItem.addActionListener(e -> convertCsvToArchive());
+        fileMenu.add(convertArchiveItem);
+        JMenuItem openArchiveItem = new JMenuItem("Open Archive...");
+        openArchiveItem.addActionListener(e -> openArchive());
+        fileMenu.add(openArchiveItem);
+        JMenuItem exportSnapshotItem = new JMenuItem("Export Snapshot...");
+        exportSnapshotItem.addActionListener(e -> exportSnapshot());
+        fileMenu.add(exportSnapshotItem);
+        JMenuItem syncSnapshotItem = new JMenuItem("Sync from Snapshot...");
+        syncSnapshotItem.addActionListener(e -> syncFromSnapshot());
+        fileMenu.add(syncSnapshotItem);
+        JMenuItem exportChartsItem = new JMenuItem("Export Species Charts...");
+        exportChartsItem.addActionListener(e -> exportSpeciesCharts());
+        fileMenu.add(exportChartsItem);
+        fileMenu.addSeparator();
+        JMenuItem importSightingsItem = new JMenuItem("Import Sightings...");
+        importSightingsItem.addActionListener(e -> importSightingsFile());
+        fileMenu.add(importSightingsItem);
+        fileMenu.addSeparator();
         JMenuItem exitItem = new JMenuItem("Exit");
         exitItem.addActionListener(e -> System.exit(0));
         fileMenu.add(exitItem);
         menuBar.add(fileMenu);
+        JMenu diagnosticsMenu = new JMenu("Diagnostics");
+        JMenuItem responsivenessItem = new JMenuItem("UI Responsiveness...");
+        responsivenessItem.addActionListener(e -> showResponsiveness());
+        diagnosticsMenu.add(responsivenessItem);
+        menuBar.add(diagnosticsMenu);
         setJMenuBar(menuBar);
 
         // Create sidebar
@@ -71,7 +133,7 @@ public class WATSMainFrame extends JFrame {
         sidebar.setPreferredSize(new Dimension(200, getHeight()));
         sidebar.setBackground(new Color(230, 230, 250));
 
-        JButton btnImportCSV = new JButton("Upload Animal Records");
+        btnImportCSV = new JButton("Upload Animal Records");
         btnImportCSV.addActionListener(e -> importCSVFile());
         sidebar.add(btnImportCSV);
 
@@ -79,7 +141,6 @@ public class WATSMainFrame extends JFrame {
         btnAnimals.addActionListener(e -> {
             AddAnimalDialog dialog = new AddAnimalDialog(WATSMainFrame.this, animalManager);
             dialog.setVisible(true);
-            refreshAnimalTable();
         });
         sidebar.add(btnAnimals);
 
@@ -96,17 +157,59 @@ public class WATSMainFrame extends JFrame {
         btnAverageWeight.addActionListener(e -> showAverageWeightDialog());
         sidebar.add(btnAverageWeight);
 
+        JButton btnFilter = new JButton("Filter Animals");
+        btnFilter.addActionListener(e -> showFilterDialog());
+        sidebar.add(btnFilter);
+
+        JButton btnBulkEdit = new JButton("Bulk Update / Delete");
+        btnBulkEdit.addActionListener(e -> showBulkEditByFilter(btnBulkEdit));
+        sidebar.add(btnBulkEdit);
+
         JButton btnShowChart = new JButton("Show Average Weight Chart");
         btnShowChart.addActionListener(e -> {
-            AverageWeightChart chart = new AverageWeightChart(animalManager);
-            chart.showChart(this);
+            if (averageWeightChart == null) {
+                averageWeightChart = new AverageWeightChart(animalManager);
+            }
+            averageWeightChart.showChart(this);
         });
         sidebar.add(btnShowChart);
 
+        JButton btnPivot = new JButton("Pivot Table");
+        btnPivot.addActionListener(e -> new PivotTableDialog(this, animalManager).setVisible(true));
+        sidebar.add(btnPivot);
+
+        JButton btnTopAnimals = new JButton("Heaviest / Oldest Animals");
+        btnTopAnimals.addActionListener(e -> showTopAnimals());
+        sidebar.add(btnTopAnimals);
+
+        JButton btnWeightLoss = new JButton("Weight Loss Alerts");
+        btnWeightLoss.addActionListener(e -> showWeightLossAlerts());
+        sidebar.add(btnWeightLoss);
+
+        JButton btnDuplicates = new JButton("Find Possible Duplicates");
+        btnDuplicates.addActionListener(e -> showPossibleDuplicates());
+        sidebar.add(btnDuplicates);
+
+        JButton btnSeenInArea = new JButton("Animals Seen in Area");
+        btnSeenInArea.addActionListener(e -> showAnimalsSeenInArea());
+        sidebar.add(btnSeenInArea);
+
         // Create main content panel
         mainPanel = new JPanel(new BorderLayout());
         setupAnimalTable();
         refreshAnimalTable();
+        // Keep the table current whatever thread changes the records
+        animalManager.addChangeListener(new AnimalChangeListener() {
+            @Override
+            public void animalsChanged() {
+                scheduleTableRefresh();
+            }
+
+            @Override
+            public void animalUpdated(int id, Set<AnimalPatch.Field> fields) {
+                SwingUtilities.invokeLater(() -> refreshAnimalRow(id));
+            }
+        });
 
         // Add components to frame
         getContentPane().setLayout(new BorderLayout());
@@ -136,6 +239,8 @@ public class WATSMainFrame extends JFrame {
 
         animalTable = new JTable(tableModel);
         animalTable.setRowHeight(30);
+        // Several rows can be selected to update or delete them together
+        animalTable.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
 
         DefaultTableCellRenderer rightRenderer = new DefaultTableCellRenderer();
         rightRenderer.setHorizontalAlignment(SwingConstants.CENTER);
@@ -154,7 +259,7 @@ public class WATSMainFrame extends JFrame {
     /**
      * Method: setupContextMenu
      * Purpose: Configures the context menu for the animal table, providing options
-     * to update or delete selected animal records. Each menu item is linked to its
+     * to update or delete selected animal records, or to view their weight trend. Each menu item is linked to its
      * respective action handler.
      * Arguments: none
      * Return: void
@@ -164,12 +269,18 @@ public class WATSMainFrame extends JFrame {
 
         JMenuItem editItem = new JMenuItem("Update Animal");
         JMenuItem deleteItem = new JMenuItem("Delete Animal");
+        JMenuItem trendItem = new JMenuItem("Weight Trend");
+        JMenuItem positionItem = new JMenuItem("Last Known Position");
 
         editItem.addActionListener(e -> openEditAnimalDialog());
         deleteItem.addActionListener(e -> handleDeleteAnimal());
+        trendItem.addActionListener(e -> showWeightTrend());
+        positionItem.addActionListener(e -> showLastKnownPosition());
 
         popupMenu.add(editItem);
         popupMenu.add(deleteItem);
+        popupMenu.add(trendItem);
+        popupMenu.add(positionItem);
 
         animalTable.setComponentPopupMenu(popupMenu);
     }
@@ -198,52 +309,187 @@ public class WATSMainFrame extends JFrame {
         }
     }
 
+    /**
+     * Method: refreshAnimalRow
+     * Purpose: Shows the current values of a single record after a partial update, instead of
+     * reloading the whole table. Falls back to a full refresh if the row is not shown.
+     * Arguments: int tagId - Tag ID of the changed record
+     * Return: void
+     */
+    private void refreshAnimalRow(int tagId) {
+        if (refreshPending.get()) {
+            // A full refresh is queued and will show the change
+            return;
+        }
+        WildAnimal animal = animalManager.findAnimalById(tagId);
+        for (int row = 0; row < tableModel.getRowCount(); row++) {
+            if ((int) tableModel.getValueAt(row, 0) == tagId) {
+                if (animal == null) {
+                    break;
+                }
+                tableModel.setValueAt(animal.getName(), row, 1);
+                tableModel.setValueAt(animal.getSpecies(), row, 2);
+                tableModel.setValueAt(animal.getAge(), row, 3);
+                tableModel.setValueAt(animal.getGender(), row, 4);
+                tableModel.setValueAt(animal.getWeight(), row, 5);
+                tableModel.setValueAt(animal.getHealthStatus(), row, 6);
+                return;
+            }
+        }
+        refreshAnimalTable();
+    }
+
+    /**
+     * Method: scheduleTableRefresh
+     * Purpose: Called by the AnimalManager when records change, possibly from a background thread.
+     * Queues a single table refresh on the Event Dispatch Thread; further changes arriving before
+     * it runs are folded into the same refresh.
+     * Arguments: none
+     * Return: void
+     */
+    private void scheduleTableRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(() -> {
+                refreshPending.set(false);
+                refreshAnimalTable();
+            });
+        }
+    }
+
     /**
      * Method: importCSVFile
-     * Purpose: Opens a file chooser dialog to allow the user to select a CSV file containing animal data.
-     * The selected file is processed by the AnimalManager to import records. Displays a detailed report
-     * of any errors or warnings encountered during import, and refreshes the animal table upon completion.
+     * Purpose: Opens a file chooser dialog to allow the user to select one or more CSV files, or
+     * folders of them, containing animal data. The selected files are processed by the AnimalManager
+     * to import records, using the conflict policy chosen in the dialog for rows whose Tag ID already
+     * exists. Several files are imported concurrently, with earlier files (in the order listed, folder
+     * contents by name) taking precedence for repeated Tag IDs. Displays one detailed report
+     * of any errors or warnings encountered during import. The table refreshes through the change listener.
      * Arguments: none
      * Return: void
      */
     private void importCSVFile() {
         JFileChooser fileChooser = new JFileChooser();
-        fileChooser.setDialogTitle("Select CSV File");
+        fileChooser.setDialogTitle("Select CSV Files or Folders");
+        fileChooser.addChoosableFileFilter(new FileNameExtensionFilter("CSV files (.csv, .gz, .zip)", "csv", "gz", "zip"));
+        fileChooser.setFileSelectionMode(JFileChooser.FILES_AND_DIRECTORIES);
+        fileChooser.setMultiSelectionEnabled(true);
+
+        // Let the user pick how rows with an existing Tag ID are handled
+        JComboBox<ConflictPolicy> cmbPolicy = new JComboBox<>(ConflictPolicy.values());
+        JPanel policyPanel = new JPanel(new BorderLayout());
+        policyPanel.setBorder(BorderFactory.createTitledBorder("Existing Tag IDs"));
+        policyPanel.add(cmbPolicy, BorderLayout.NORTH);
+        fileChooser.setAccessory(policyPanel);
+
         int result = fileChooser.showOpenDialog(this);
 
         if (result == JFileChooser.APPROVE_OPTION) {
-            String filePath = fileChooser.getSelectedFile().getAbsolutePath();
-            List<String> messages = animalManager.uploadAnimalsFromFile(filePath);
+            List<String> filePaths = new ArrayList<>();
+            try {
+                for (File selected : fileChooser.getSelectedFiles()) {
+                    if (selected.isDirectory()) {
+                        filePaths.addAll(PipelinedCsvReader.listDataFiles(selected));
+                    } else {
+                        filePaths.add(selected.getAbsolutePath());
+                    }
+                }
+            } catch (IOException ex) {
+                JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage(), "Import Failed", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            if (filePaths.isEmpty()) {
+                JOptionPane.showMessageDialog(this, "The selected folder holds no CSV files.", "Nothing to Import",
+                        JOptionPane.WARNING_MESSAGE);
+                return;
+            }
 
-            boolean hasErrors = messages.stream().anyMatch(msg ->
-                    msg.startsWith("[ERROR]") || msg.startsWith("[WARNING]")
-            );
+            ConflictPolicy policy = (ConflictPolicy) cmbPolicy.getSelectedItem();
+            // Even a single file may be large; import off the Event Dispatch Thread
+            btnImportCSV.setEnabled(false);
+            new SwingWorker<ImportDiagnostics, Void>() {
+                @Override
+                protected ImportDiagnostics doInBackground() {
+                    if (filePaths.size() == 1) {
+                        return animalManager.importAnimalsFromFile(filePaths.get(0), policy);
+                    }
+                    return animalManager.importAnimalsFromFiles(filePaths, policy);
+                }
 
-            if (hasErrors) {
-                StringBuilder report = new StringBuilder();
-                for (String msg : messages) {
-                    report.append(msg).append("\n");
+                @Override
+                protected void done() {
+                    btnImportCSV.setEnabled(true);
+                    try {
+                        showImportResult(get());
+                    } catch (Exception ex) {
+                        Throwable cause = ex instanceof java.util.concurrent.ExecutionException ? ex.getCause() : ex;
+                        JOptionPane.showMessageDialog(WATSMainFrame.this, "Error: " + cause.getMessage(),
+                                "Import Failed", JOptionPane.ERROR_MESSAGE);
+                    }
                 }
+            }.execute();
+        }
+    }
 
-                JTextArea textArea = new JTextArea(report.toString());
-                textArea.setEditable(false);
-                JScrollPane scrollPane = new JScrollPane(textArea);
-                scrollPane.setPreferredSize(new Dimension(600, 400));
+    /**
+     * Method: showImportResult
+     * Purpose: Shows the import report if any line was rejected, otherwise a summary message.
+     * Arguments: ImportDiagnostics diagnostics - the outcome of the import
+     * Return: void
+     */
+    private void showImportResult(ImportDiagnostics diagnostics) {
+        if (diagnostics.hasProblems()) {
+            ImportReportDialog reportDialog = new ImportReportDialog(this, diagnostics);
+            reportDialog.setVisible(true);
+        } else {
+            JOptionPane.showMessageDialog(this, "CSV data imported successfully!\n"
+                    + String.join("\n", diagnostics.toMessages()));
+        }
+    }
+
+    /**
+     * Method: importSightingsFile
+     * Purpose: Lets the user pick a sightings file (id,timestamp,latitude,longitude) and adds its
+     * sightings to the log, showing the import report if any line was rejected.
+     * Arguments: none
+     * Return: void
+     */
+    private void importSightingsFile() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("Select Sightings File");
+        fileChooser.addChoosableFileFilter(new FileNameExtensionFilter("CSV files (.csv, .gz, .zip)", "csv", "gz", "zip"));
 
-                JOptionPane.showMessageDialog(this, scrollPane, "Import Report", JOptionPane.INFORMATION_MESSAGE);
+        if (fileChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+            ImportDiagnostics diagnostics = animalManager.importSightingsFromFile(
+                    fileChooser.getSelectedFile().getAbsolutePath());
+            if (diagnostics.hasProblems()) {
+                new ImportReportDialog(this, diagnostics).setVisible(true);
             } else {
-                JOptionPane.showMessageDialog(this, "CSV data imported successfully!");
+                JOptionPane.showMessageDialog(this, String.join("\n", diagnostics.toMessages()));
             }
+        }
+    }
 
-            refreshAnimalTable();
+    /**
+     * Method: selectedTagIds
+     * Purpose: Returns the Tag IDs of the rows selected in the animal table.
+     * Arguments: none
+     * Return: List<Integer> - the Tag IDs, in table order
+     */
+    private List<Integer> selectedTagIds() {
+        int[] rows = animalTable.getSelectedRows();
+        List<Integer> tagIds = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            tagIds.add((Integer) tableModel.getValueAt(animalTable.convertRowIndexToModel(row), 0));
         }
+        return tagIds;
     }
 
     /**
      * Method: openEditAnimalDialog
      * Purpose: Opens a dialog window to update the details of a selected animal record.
      * Validates that the table contains data and that a row is selected before launching
-     * the UpdateAnimalDialog. Refreshes the table after the dialog is closed.
+     * the UpdateAnimalDialog. When several rows are selected, the BulkUpdateDialog sets fields
+     * on all of them instead. The table refreshes through the change listener once the records are updated.
      * Arguments: none
      * Return: void
      */
@@ -254,24 +500,27 @@ public class WATSMainFrame extends JFrame {
             return;
         }
 
-        int selectedRow = animalTable.getSelectedRow();
+        List<Integer> tagIds = selectedTagIds();
 
-        if (selectedRow == -1) {
+        if (tagIds.isEmpty()) {
             JOptionPane.showMessageDialog(this, "Please select an animal to update.", "No Selection", JOptionPane.WARNING_MESSAGE);
             return;
         }
 
-        int tagId = (int) tableModel.getValueAt(selectedRow, 0);
-        UpdateAnimalDialog dialog = new UpdateAnimalDialog(this, animalManager, tagId);
+        if (tagIds.size() > 1) {
+            new BulkUpdateDialog(this, animalManager, tagIds).setVisible(true);
+            return;
+        }
+        UpdateAnimalDialog dialog = new UpdateAnimalDialog(this, animalManager, tagIds.get(0));
         dialog.setVisible(true);
-        refreshAnimalTable();
     }
 
     /**
      * Method: handleDeleteAnimal
-     * Purpose: Handles the deletion of a selected animal record from the table.
+     * Purpose: Handles the deletion of the selected animal records from the table.
      * Prompts the user for confirmation before proceeding with the deletion using
-     * the AnimalManager. Displays appropriate messages based on the outcome or any errors.
+     * the AnimalManager, which removes several records in one batch.
+     * Displays appropriate messages based on the outcome or any errors.
      * Arguments: none
      * Return: void
      */
@@ -282,27 +531,31 @@ public class WATSMainFrame extends JFrame {
             return;
         }
 
-        int selectedRow = animalTable.getSelectedRow();
-        if (selectedRow == -1) {
+        List<Integer> tagIds = selectedTagIds();
+        if (tagIds.isEmpty()) {
             JOptionPane.showMessageDialog(this, "Please select a row to delete.", "No Selection", JOptionPane.WARNING_MESSAGE);
             return;
         }
 
-        int tagId = (int) tableModel.getValueAt(selectedRow, 0);
-
         int confirm = JOptionPane.showConfirmDialog(
                 this,
-                "Are you sure you want to delete animal with Tag ID " + tagId + "?",
+                tagIds.size() == 1
+                        ? "Are you sure you want to delete animal with Tag ID " + tagIds.get(0) + "?"
+                        : "Are you sure you want to delete the " + tagIds.size() + " selected animals?",
                 "Confirm Delete",
                 JOptionPane.YES_NO_OPTION
         );
 
         if (confirm == JOptionPane.YES_OPTION) {
             try {
-                boolean success = animalManager.deleteAnimal(tagId);
-                if (success) {
-                    JOptionPane.showMessageDialog(this, "Animal deleted successfully.");
-                    refreshAnimalTable();
+                if (tagIds.size() == 1) {
+                    boolean success = animalManager.deleteAnimal(tagIds.get(0));
+                    if (success) {
+                        JOptionPane.showMessageDialog(this, "Animal deleted successfully.");
+                    }
+                } else {
+                    int deleted = animalManager.deleteAnimals(tagIds);
+                    JOptionPane.showMessageDialog(this, deleted + " animals deleted successfully.");
                 }
             } catch (IllegalArgumentException ex) {
                 JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage(), "Delete Failed", JOptionPane.ERROR_MESSAGE);
@@ -310,10 +563,90 @@ public class WATSMainFrame extends JFrame {
         }
     }
 
+    /**
+     * Method: showBulkEditByFilter
+     * Purpose: Prompts for a filter expression, such as health = 'Unknown', and offers to update or
+     * delete every matching animal at once. The filter is shared with the Filter Animals dialog.
+     * The matching animals are counted off the Event Dispatch Thread.
+     * Arguments: JButton button - the button that opened it, disabled while counting
+     * Return: void
+     */
+    private void showBulkEditByFilter(JButton button) {
+        Object input = JOptionPane.showInputDialog(this,
+                "Filter selecting the animals to update or delete, e.g.\n"
+                        + "health = 'Unknown' or species = 'Lion' and age > 20",
+                "Bulk Update / Delete", JOptionPane.QUESTION_MESSAGE, null, null, lastFilter);
+        if (input == null || input.toString().trim().isEmpty()) {
+            return;
+        }
+        lastFilter = input.toString().trim();
+
+        AnimalFilter filter;
+        try {
+            filter = AnimalFilter.compile(lastFilter);
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage(), "Invalid Filter", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        button.setEnabled(false);
+        new SwingWorker<Integer, Void>() {
+            @Override
+            protected Integer doInBackground() {
+                return animalManager.findAnimalIds(filter).length;
+            }
+
+            @Override
+            protected void done() {
+                button.setEnabled(true);
+                try {
+                    offerBulkEdit(filter, get());
+                } catch (Exception ex) {
+                    Throwable cause = ex instanceof java.util.concurrent.ExecutionException ? ex.getCause() : ex;
+                    JOptionPane.showMessageDialog(WATSMainFrame.this, "Error: " + cause.getMessage(),
+                            "Bulk Update / Delete", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Method: offerBulkEdit
+     * Purpose: Asks whether the animals matching a filter should be updated or deleted, and does so.
+     * Arguments: AnimalFilter filter - the compiled filter, int matchCount - number of matching animals
+     * Return: void
+     */
+    private void offerBulkEdit(AnimalFilter filter, int matchCount) {
+        try {
+            if (matchCount == 0) {
+                JOptionPane.showMessageDialog(this, "No animal matches the filter.");
+                return;
+            }
+            String[] options = { "Update...", "Delete", "Cancel" };
+            int choice = JOptionPane.showOptionDialog(this,
+                    matchCount + " animals match the filter. What should be done with them?",
+                    "Bulk Update / Delete", JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE,
+                    null, options, options[2]);
+            if (choice == 0) {
+                new BulkUpdateDialog(this, animalManager, filter, matchCount).setVisible(true);
+            } else if (choice == 1) {
+                int confirm = JOptionPane.showConfirmDialog(this,
+                        "Are you sure you want to delete the " + matchCount + " matching animals?",
+                        "Confirm Delete", JOptionPane.YES_NO_OPTION);
+                if (confirm == JOptionPane.YES_OPTION) {
+                    int deleted = animalManager.deleteAnimals(filter);
+                    JOptionPane.showMessageDialog(this, deleted + " animals deleted successfully.");
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage(), "Bulk Update / Delete", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
     /**
      * Method: showAverageWeightDialog
      * Purpose: Prompts the user to enter a species name and calculates the average weight
-     * of all animals belonging to that species using the AnimalManager. Displays the result
+     * of all animals belonging to that species using the AnimalManager, together with the median
+     * and the 5th and 95th percentile weights. Displays the result
      * in a dialog box or shows an error message if the calculation fails.
      * Arguments: none
      * Return: void
@@ -324,8 +657,12 @@ public class WATSMainFrame extends JFrame {
         if (species != null && !species.trim().isEmpty()) {
             try {
                 double average = animalManager.calculateAverageWeightBySpecies(species.trim());
+                // Median and spread from the species' weight sketch, within 1%
+                double[] quantiles = animalManager.getWeightQuantiles(species.trim(), 0.05, 0.5, 0.95);
                 String message = average > 0
-                        ? String.format("Average weight for species '%s': %.2f kg", species, average)
+                        ? String.format("Average weight for species '%s': %.2f kg%n"
+                                + "Median: %.2f kg (5th percentile %.2f kg, 95th percentile %.2f kg)",
+                                species, average, quantiles[1], quantiles[0], quantiles[2])
                         : "No animals found for species: " + species;
 
                 JOptionPane.showMessageDialog(this, message, "Average Weight", JOptionPane.INFORMATION_MESSAGE);
@@ -334,4 +671,692 @@ public class WATSMainFrame extends JFrame {
             }
         }
     }
+
+    /**
+     * Method: showFilterDialog
+     * Purpose: Prompts for a filter expression, such as species = 'Lion' and weight > 150, and lists
+     * the matching animals together with their count and average weight. The last expression is
+     * offered again the next time.
+     * Arguments: none
+     * Return: void
+     */
+    private void showFilterDialog() {
+        Object input = JOptionPane.showInputDialog(this,
+                "Filter (fields: id, species, name, age, gender, weight, health), e.g.\n"
+                        + "species = 'Lion' and weight > 150 and health in ('Sick', 'Injured')",
+                "Filter Animals", JOptionPane.QUESTION_MESSAGE, null, null, lastFilter);
+        if (input == null || input.toString().trim().isEmpty()) {
+            return;
+        }
+        lastFilter = input.toString().trim();
+
+        try {
+            List<WildAnimal> animals = animalManager.findAnimals(lastFilter);
+            if (animals.isEmpty()) {
+                JOptionPane.showMessageDialog(this, "No animal matches the filter.");
+                return;
+            }
+
+            DefaultTableModel filterModel = new DefaultTableModel(
+                    new String[] { "Tag ID", "Species", "Name", "Age", "Gender", "Weight", "Health Status" }, 0) {
+                @Override
+                public boolean isCellEditable(int row, int column) {
+                    return false;
+                }
+            };
+            double totalWeight = 0;
+            for (WildAnimal animal : animals) {
+                filterModel.addRow(new Object[] {
+                        animal.getId(),
+                        animal.getSpecies(),
+                        animal.getName(),
+                        animal.getAge(),
+                        animal.getGender(),
+                        animal.getWeight(),
+                        animal.getHealthStatus()
+                });
+                totalWeight += animal.getWeight();
+            }
+            JScrollPane scrollPane = new JScrollPane(new JTable(filterModel));
+            scrollPane.setPreferredSize(new Dimension(650, 300));
+            JPanel resultPanel = new JPanel(new BorderLayout(0, 10));
+            resultPanel.add(new JLabel(String.format("%d animals, average weight %.2f kg",
+                    animals.size(), totalWeight / animals.size())), BorderLayout.NORTH);
+            resultPanel.add(scrollPane, BorderLayout.CENTER);
+            JOptionPane.showMessageDialog(this, resultPanel, "Filter Animals", JOptionPane.INFORMATION_MESSAGE);
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage(), "Invalid Filter", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Method: startFolderWatch
+     * Purpose: Lets the user pick a folder and starts importing the rows appended to its CSV files.
+     * Rows for existing Tag IDs overwrite the stored record when they differ, so new collar
+     * readings refresh the weights and health statuses. Any previously watched folder is released.
+     * Arguments: none
+     * Return: void
+     */
+    private void startFolderWatch() {
+        JFileChooser folderChooser = new JFileChooser();
+        folderChooser.setDialogTitle("Select Folder to Watch");
+        folderChooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
+
+        if (folderChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+            stopFolderWatch();
+            DirectoryTailIngestor ingestor = new DirectoryTailIngestor(animalManager,
+                    folderChooser.getSelectedFile().toPath(), ConflictPolicy.OVERWRITE_IF_CHANGED);
+            try {
+                ingestor.start();
+                folderIngestor = ingestor;
+                JOptionPane.showMessageDialog(this, "Watching folder " + ingestor.getDirectory()
+                        + " for new animal records.");
+            } catch (IOException ex) {
+                JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage(), "Watch Failed", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+
+    /**
+     * Method: showResponsiveness
+     * Purpose: Opens the dialog showing the user interface stalls recorded by the EdtWatchdog.
+     * Arguments: none
+     * Return: void
+     */
+    private void showResponsiveness() {
+        EdtWatchdog watchdog = EdtWatchdog.getInstance();
+        if (watchdog == null) {
+            JOptionPane.showMessageDialog(this, "The UI watchdog is turned off (-Dwats.edt.watchdog=false).",
+                    "UI Responsiveness", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        new EdtDiagnosticsDialog(this, watchdog).setVisible(true);
+    }
+
+    /**
+     * Method: showFolderWatchStatus
+     * Purpose: Displays a summary of the rows ingested from the watched folder so far.
+     * Arguments: none
+     * Return: void
+     */
+    private void showFolderWatchStatus() {
+        if (folderIngestor == null) {
+            JOptionPane.showMessageDialog(this, "No folder is being watched.", "Folder Watch", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        String status = "Watching " + folderIngestor.getDirectory() + "\n"
+                + String.join("\n", folderIngestor.getStatusMessages());
+        JOptionPane.showMessageDialog(this, status, "Folder Watch", JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    /**
+     * Method: stopFolderWatch
+     * Purpose: Stops following the watched folder, if any.
+     * Arguments: none
+     * Return: void
+     */
+    private void stopFolderWatch() {
+        if (folderIngestor != null) {
+            folderIngestor.close();
+            folderIngestor = null;
+        }
+    }
+
+    /**
+     * Method: convertCsvToArchive
+     * Purpose: Lets the user pick a CSV file and an archive file name, then streams the CSV records
+     * into the archive on a background thread. The records are not loaded into the AnimalManager,
+     * so files larger than the heap can be converted.
+     * Arguments: none
+     * Return: void
+     */
+    private void convertCsvToArchive() {
+        JFileChooser csvChooser = new JFileChooser();
+        csvChooser.setDialogTitle("Select CSV File to Archive");
+        csvChooser.addChoosableFileFilter(new FileNameExtensionFilter("CSV files (.csv, .gz, .zip)", "csv", "gz", "zip"));
+        if (csvChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        JFileChooser archiveChooser = new JFileChooser(csvChooser.getCurrentDirectory());
+        archiveChooser.setDialogTitle("Save Archive As");
+        archiveChooser.setSelectedFile(new java.io.File(csvChooser.getSelectedFile().getName() + ".wats"));
+        if (archiveChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        String csvPath = csvChooser.getSelectedFile().getAbsolutePath();
+        java.nio.file.Path archivePath = archiveChooser.getSelectedFile().toPath();
+        new SwingWorker<ImportDiagnostics, Void>() {
+            @Override
+            protected ImportDiagnostics doInBackground() throws Exception {
+                return PagedAnimalArchive.convertCsv(animalManager, csvPath, archivePath);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    ImportDiagnostics diagnostics = get();
+                    JOptionPane.showMessageDialog(WATSMainFrame.this, "Archive written to " + archivePath + "\n"
+                            + String.join("\n", diagnostics.toMessages()), "Archive", JOptionPane.INFORMATION_MESSAGE);
+                } catch (Exception ex) {
+                    JOptionPane.showMessageDialog(WATSMainFrame.this, "Error: " + ex.getMessage(),
+                            "Archive Failed", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Method: openArchive
+     * Purpose: Lets the user pick an archive file and opens it in an ArchiveBrowserDialog.
+     * Arguments: none
+     * Return: void
+     */
+    private void openArchive() {
+        JFileChooser archiveChooser = new JFileChooser();
+        archiveChooser.setDialogTitle("Open Archive");
+        archiveChooser.addChoosableFileFilter(new FileNameExtensionFilter("WATS archives (.wats)", "wats"));
+        if (archiveChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+            try {
+                PagedAnimalArchive archive = new PagedAnimalArchive(archiveChooser.getSelectedFile().toPath());
+                new ArchiveBrowserDialog(this, archive, archiveChooser.getSelectedFile().getName()).setVisible(true);
+            } catch (IOException ex) {
+                JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage(), "Open Failed", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+
+    /**
+     * Method: exportSnapshot
+     * Purpose: Lets the user pick a file name and writes every current record into it as an
+     * archive on a background thread, to be synced into the WATS instance of another station.
+     * Arguments: none
+     * Return: void
+     */
+    private void exportSnapshot() {
+        JFileChooser archiveChooser = new JFileChooser();
+        archiveChooser.setDialogTitle("Export Snapshot As");
+        archiveChooser.setSelectedFile(new File("wats-snapshot.wats"));
+        if (archiveChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        java.nio.file.Path archivePath = archiveChooser.getSelectedFile().toPath();
+        new SwingWorker<Long, Void>() {
+            @Override
+            protected Long doInBackground() throws Exception {
+                return PagedAnimalArchive.write(archivePath, animalManager);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    long written = get();
+                    JOptionPane.showMessageDialog(WATSMainFrame.this, written + " animals written to "
+                            + archivePath, "Snapshot", JOptionPane.INFORMATION_MESSAGE);
+                } catch (Exception ex) {
+                    JOptionPane.showMessageDialog(WATSMainFrame.this, "Error: " + ex.getMessage(),
+                            "Snapshot Failed", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Method: syncFromSnapshot
+     * Purpose: Lets the user pick a snapshot of another station (an archive, or a CSV file that is
+     * converted to one first) and compares it with the current records on a background thread.
+     * The user then chooses to merge the added and updated animals, or to also delete the animals
+     * missing from the snapshot, and the changes are applied as one batch. Animals whose CSV lines
+     * were rejected are never deleted; if a rejected line has no readable Tag ID, nothing is deleted.
+     * Arguments: none
+     * Return: void
+     */
+    private void syncFromSnapshot() {
+        JFileChooser snapshotChooser = new JFileChooser();
+        snapshotChooser.setDialogTitle("Select Snapshot to Sync From");
+        snapshotChooser.addChoosableFileFilter(new FileNameExtensionFilter("WATS archives (.wats)", "wats"));
+        snapshotChooser.addChoosableFileFilter(new FileNameExtensionFilter("CSV files (.csv, .gz, .zip)", "csv", "gz", "zip"));
+        if (snapshotChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        File snapshotFile = snapshotChooser.getSelectedFile();
+        new SwingWorker<DatasetSnapshot.ChangeSet, Void>() {
+            private long rejectedLines = 0;
+
+            @Override
+            protected DatasetSnapshot.ChangeSet doInBackground() throws Exception {
+                if (snapshotFile.getName().toLowerCase().endsWith(".wats")) {
+                    return diffWith(snapshotFile.toPath());
+                }
+                java.nio.file.Path converted = java.nio.file.Files.createTempFile("wats-sync", ".wats");
+                try {
+                    Set<Integer> rejectedIds = new HashSet<>();
+                    rejectedLines = PagedAnimalArchive.convertCsv(animalManager, snapshotFile.getAbsolutePath(),
+                            converted, rejectedIds).getRejectedCount();
+                    DatasetSnapshot.ChangeSet changes = diffWith(converted);
+                    return rejectedIds.contains(null) ? changes.withoutDeletes() : changes.withoutDeleting(rejectedIds);
+                } finally {
+                    java.nio.file.Files.deleteIfExists(converted);
+                }
+            }
+
+            private DatasetSnapshot.ChangeSet diffWith(java.nio.file.Path archivePath) throws IOException {
+                try (PagedAnimalArchive archive = new PagedAnimalArchive(archivePath)) {
+                    return DatasetSnapshot.diff(DatasetSnapshot.of(animalManager), DatasetSnapshot.of(archive));
+                }
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    applyChangeSet(get(), snapshotFile.getName(), rejectedLines);
+                } catch (Exception ex) {
+                    Throwable cause = ex instanceof java.util.concurrent.ExecutionException ? ex.getCause() : ex;
+                    JOptionPane.showMessageDialog(WATSMainFrame.this, "Error: " + cause.getMessage(),
+                            "Sync Failed", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Method: applyChangeSet
+     * Purpose: Shows the differences found by syncFromSnapshot and applies the ones the user chooses.
+     * Arguments: DatasetSnapshot.ChangeSet changes - the differences, String snapshotName - shown to the user,
+     * long rejectedLines - number of snapshot lines rejected while converting a CSV file
+     * Return: void
+     */
+    private void applyChangeSet(DatasetSnapshot.ChangeSet changes, String snapshotName, long rejectedLines) {
+        String rejectedNote = rejectedLines == 0 ? "" : "\n\n" + rejectedLines + " lines of " + snapshotName
+                + " were rejected (see the rejects file next to it).\nThe animals on those lines are not deleted.";
+        if (changes.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "The records already match " + snapshotName + "." + rejectedNote,
+                    "Sync", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        String message = "Compared with " + snapshotName + ":\n"
+                + changes.getAdded().size() + " animals to add\n"
+                + changes.getUpdated().size() + " animals to update\n"
+                + changes.getDeleted().size() + " animals missing from the snapshot" + rejectedNote;
+        Object[] options = changes.getDeleted().isEmpty()
+                ? new Object[] { "Merge", "Cancel" }
+                : new Object[] { "Merge", "Merge and Delete Missing", "Cancel" };
+        int choice = JOptionPane.showOptionDialog(this, message, "Sync from Snapshot", JOptionPane.DEFAULT_OPTION,
+                JOptionPane.QUESTION_MESSAGE, null, options, options[0]);
+        if (choice < 0 || options[choice].equals("Cancel")) {
+            return;
+        }
+        try {
+            int applied = animalManager.applyChangeSet(choice == 0 ? changes.withoutDeletes() : changes);
+            JOptionPane.showMessageDialog(this, applied + " animals changed.", "Sync", JOptionPane.INFORMATION_MESSAGE);
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage(), "Sync Failed", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Method: exportSpeciesCharts
+     * Purpose: Lets the user pick a folder and writes the weight and age distribution charts of
+     * every species into it as PNG and SVG files, rendered offscreen on a background worker pool.
+     * Arguments: none
+     * Return: void
+     */
+    private void exportSpeciesCharts() {
+        JFileChooser folderChooser = new JFileChooser();
+        folderChooser.setDialogTitle("Select Folder for Species Charts");
+        folderChooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
+        if (folderChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        java.io.File outputDir = folderChooser.getSelectedFile();
+        SpeciesChartReportGenerator generator = new SpeciesChartReportGenerator(animalManager,
+                Runtime.getRuntime().availableProcessors());
+        new SwingWorker<List<String>, Void>() {
+            @Override
+            protected List<String> doInBackground() throws Exception {
+                return generator.generate(outputDir);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    List<String> messages = get();
+                    JOptionPane.showMessageDialog(WATSMainFrame.this, messages.get(messages.size() - 1),
+                            "Species Charts", JOptionPane.INFORMATION_MESSAGE);
+                } catch (Exception ex) {
+                    JOptionPane.showMessageDialog(WATSMainFrame.this, "Error: " + ex.getMessage(),
+                            "Export Failed", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Method: showWeightTrend
+     * Purpose: Displays the latest weight readings of the selected animal together with its
+     * weight trend over the last 30 days.
+     * Arguments: none
+     * Return: void
+     */
+    private void showWeightTrend() {
+        int selectedRow = animalTable.getSelectedRow();
+        if (selectedRow == -1) {
+            JOptionPane.showMessageDialog(this, "Please select an animal.", "No Selection", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        int tagId = (int) tableModel.getValueAt(selectedRow, 0);
+        StringBuilder report = new StringBuilder();
+        java.text.SimpleDateFormat dateFormat = new java.text.SimpleDateFormat("yyyy-MM-dd HH:mm");
+        for (WeightHistory.Reading reading : animalManager.getLatestWeights(tagId, 10)) {
+            report.append(dateFormat.format(new java.util.Date(reading.getTimeMillis())))
+                    .append(String.format("   %.2f kg%n", reading.getWeight()));
+        }
+        double slope = animalManager.getWeightSlope(tagId, 30);
+        report.append(Double.isNaN(slope)
+                ? "\nNot enough readings in the last 30 days for a trend."
+                : String.format("%nTrend over the last 30 days: %+.3f kg/day", slope));
+
+        JOptionPane.showMessageDialog(this, report.toString(), "Weight Trend - Tag ID " + tagId,
+                JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    /**
+     * Method: showTopAnimals
+     * Purpose: Prompts for a species and a number of animals, then lists the heaviest or the
+     * oldest animals of that species.
+     * Arguments: none
+     * Return: void
+     */
+    private void showTopAnimals() {
+        JTextField txtSpecies = new JTextField();
+        JTextField txtCount = new JTextField("5");
+        ((javax.swing.text.PlainDocument) txtCount.getDocument()).setDocumentFilter(new NumericDocumentFilter());
+        JComboBox<String> cmbRanking = new JComboBox<>(new String[] { "Heaviest", "Oldest" });
+        JPanel inputPanel = new JPanel(new GridLayout(3, 2, 10, 10));
+        inputPanel.add(new JLabel("Species:"));
+        inputPanel.add(txtSpecies);
+        inputPanel.add(new JLabel("Number of animals (max " + TopKIndex.MAX_K + "):"));
+        inputPanel.add(txtCount);
+        inputPanel.add(new JLabel("Show:"));
+        inputPanel.add(cmbRanking);
+
+        int result = JOptionPane.showConfirmDialog(this, inputPanel, "Heaviest / Oldest Animals", JOptionPane.OK_CANCEL_OPTION);
+        if (result != JOptionPane.OK_OPTION || txtSpecies.getText().trim().isEmpty()) {
+            return;
+        }
+
+        try {
+            String species = txtSpecies.getText().trim();
+            int count = Integer.parseInt(txtCount.getText().trim());
+            boolean byWeight = "Heaviest".equals(cmbRanking.getSelectedItem());
+            List<WildAnimal> animals = byWeight
+                    ? animalManager.getHeaviestAnimals(species, count)
+                    : animalManager.getOldestAnimals(species, count);
+            if (animals.isEmpty()) {
+                JOptionPane.showMessageDialog(this, "No animals found for species: " + species);
+                return;
+            }
+
+            DefaultTableModel topModel = new DefaultTableModel(
+                    new String[] { "Rank", "Tag ID", "Name", "Age", "Weight", "Health Status" }, 0) {
+                @Override
+                public boolean isCellEditable(int row, int column) {
+                    return false;
+                }
+            };
+            int rank = 1;
+            for (WildAnimal animal : animals) {
+                topModel.addRow(new Object[] {
+                        rank++,
+                        animal.getId(),
+                        animal.getName(),
+                        animal.getAge(),
+                        animal.getWeight(),
+                        animal.getHealthStatus()
+                });
+            }
+            JScrollPane scrollPane = new JScrollPane(new JTable(topModel));
+            scrollPane.setPreferredSize(new Dimension(550, 300));
+            JOptionPane.showMessageDialog(this, scrollPane, cmbRanking.getSelectedItem() + " " + species,
+                    JOptionPane.INFORMATION_MESSAGE);
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage(), "Invalid Input", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Method: showWeightLossAlerts
+     * Purpose: Prompts for a percentage and a number of days, then lists the animals whose
+     * weight dropped by more than that percentage within those days.
+     * Arguments: none
+     * Return: void
+     */
+    private void showWeightLossAlerts() {
+        JTextField txtPercent = new JTextField("10");
+        ((javax.swing.text.PlainDocument) txtPercent.getDocument()).setDocumentFilter(new DecimalDocumentFilter());
+        JTextField txtDays = new JTextField("30");
+        ((javax.swing.text.PlainDocument) txtDays.getDocument()).setDocumentFilter(new NumericDocumentFilter());
+        JPanel inputPanel = new JPanel(new GridLayout(2, 2, 10, 10));
+        inputPanel.add(new JLabel("Weight drop more than (%):"));
+        inputPanel.add(txtPercent);
+        inputPanel.add(new JLabel("Within the last (days):"));
+        inputPanel.add(txtDays);
+
+        int result = JOptionPane.showConfirmDialog(this, inputPanel, "Weight Loss Alerts", JOptionPane.OK_CANCEL_OPTION);
+        if (result != JOptionPane.OK_OPTION) {
+            return;
+        }
+
+        try {
+            double percent = Double.parseDouble(txtPercent.getText().trim());
+            int days = Integer.parseInt(txtDays.getText().trim());
+            List<WeightHistory.WeightLoss> losses = animalManager.findWeightLoss(percent, days);
+            if (losses.isEmpty()) {
+                JOptionPane.showMessageDialog(this, "No animal lost more than " + percent + "% in the last " + days + " days.");
+                return;
+            }
+
+            DefaultTableModel alertModel = new DefaultTableModel(
+                    new String[] { "Tag ID", "Start Weight", "Latest Weight", "Drop (%)" }, 0) {
+                @Override
+                public boolean isCellEditable(int row, int column) {
+                    return false;
+                }
+            };
+            for (WeightHistory.WeightLoss loss : losses) {
+                alertModel.addRow(new Object[] {
+                        loss.getId(),
+                        String.format("%.2f", loss.getStartWeight()),
+                        String.format("%.2f", loss.getLatestWeight()),
+                        String.format("%.1f", loss.getDropPercent())
+                });
+            }
+            JScrollPane scrollPane = new JScrollPane(new JTable(alertModel));
+            scrollPane.setPreferredSize(new Dimension(500, 300));
+            JOptionPane.showMessageDialog(this, scrollPane, "Weight Loss Alerts", JOptionPane.WARNING_MESSAGE);
+        } catch (NumberFormatException ex) {
+            JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage(), "Invalid Input", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Method: showLastKnownPosition
+     * Purpose: Displays where and when the selected animal was last seen.
+     * Arguments: none
+     * Return: void
+     */
+    private void showLastKnownPosition() {
+        int selectedRow = animalTable.getSelectedRow();
+        if (selectedRow == -1) {
+            JOptionPane.showMessageDialog(this, "Please select an animal.", "No Selection", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        int tagId = (int) tableModel.getValueAt(selectedRow, 0);
+        SightingLog.Sighting sighting = animalManager.getLastKnownPosition(tagId);
+        if (sighting == null) {
+            JOptionPane.showMessageDialog(this, "Animal with Tag ID " + tagId + " has no sightings.");
+            return;
+        }
+        java.text.SimpleDateFormat dateFormat = new java.text.SimpleDateFormat("yyyy-MM-dd HH:mm");
+        JOptionPane.showMessageDialog(this, String.format("Last seen %s at %.5f, %.5f",
+                        dateFormat.format(new java.util.Date(sighting.getTimeMillis())),
+                        sighting.getLatitude(), sighting.getLongitude()),
+                "Last Known Position - Tag ID " + tagId, JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    /**
+     * Method: showAnimalsSeenInArea
+     * Purpose: Prompts for a latitude/longitude box and a number of days, then lists the animals
+     * seen inside the box within those days together with their last known position.
+     * Arguments: none
+     * Return: void
+     */
+    private void showAnimalsSeenInArea() {
+        JTextField txtMinLat = new JTextField();
+        JTextField txtMaxLat = new JTextField();
+        JTextField txtMinLon = new JTextField();
+        JTextField txtMaxLon = new JTextField();
+        JTextField txtDays = new JTextField("7");
+        ((javax.swing.text.PlainDocument) txtDays.getDocument()).setDocumentFilter(new NumericDocumentFilter());
+        JPanel inputPanel = new JPanel(new GridLayout(5, 2, 10, 10));
+        inputPanel.add(new JLabel("Minimum latitude:"));
+        inputPanel.add(txtMinLat);
+        inputPanel.add(new JLabel("Maximum latitude:"));
+        inputPanel.add(txtMaxLat);
+        inputPanel.add(new JLabel("Minimum longitude:"));
+        inputPanel.add(txtMinLon);
+        inputPanel.add(new JLabel("Maximum longitude:"));
+        inputPanel.add(txtMaxLon);
+        inputPanel.add(new JLabel("Within the last (days):"));
+        inputPanel.add(txtDays);
+
+        int result = JOptionPane.showConfirmDialog(this, inputPanel, "Animals Seen in Area", JOptionPane.OK_CANCEL_OPTION);
+        if (result != JOptionPane.OK_OPTION) {
+            return;
+        }
+
+        try {
+            double minLat = Double.parseDouble(txtMinLat.getText().trim());
+            double maxLat = Double.parseDouble(txtMaxLat.getText().trim());
+            double minLon = Double.parseDouble(txtMinLon.getText().trim());
+            double maxLon = Double.parseDouble(txtMaxLon.getText().trim());
+            int days = Integer.parseInt(txtDays.getText().trim());
+            long now = System.currentTimeMillis();
+            List<WildAnimal> animals = animalManager.findAnimalsSeenInArea(minLat, maxLat, minLon, maxLon,
+                    now - days * 24L * 60 * 60 * 1000, now);
+            if (animals.isEmpty()) {
+                JOptionPane.showMessageDialog(this, "No animal was seen in this area in the last " + days + " days.");
+                return;
+            }
+
+            DefaultTableModel areaModel = new DefaultTableModel(
+                    new String[] { "Tag ID", "Name", "Species", "Last Latitude", "Last Longitude" }, 0) {
+                @Override
+                public boolean isCellEditable(int row, int column) {
+                    return false;
+                }
+            };
+            for (WildAnimal animal : animals) {
+                SightingLog.Sighting last = animalManager.getLastKnownPosition(animal.getId());
+                areaModel.addRow(new Object[] {
+                        animal.getId(),
+                        animal.getName(),
+                        animal.getSpecies(),
+                        last == null ? "" : String.format("%.5f", last.getLatitude()),
+                        last == null ? "" : String.format("%.5f", last.getLongitude())
+                });
+            }
+            JScrollPane scrollPane = new JScrollPane(new JTable(areaModel));
+            scrollPane.setPreferredSize(new Dimension(550, 300));
+            JOptionPane.showMessageDialog(this, scrollPane, "Animals Seen in Area", JOptionPane.INFORMATION_MESSAGE);
+        } catch (NumberFormatException ex) {
+            JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage(), "Invalid Input", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Method: showPossibleDuplicates
+     * Purpose: Prompts for the matching tolerances, then searches for retagged animals in the
+     * background and lists the clusters of probable duplicates for review.
+     * Arguments: none
+     * Return: void
+     */
+    private void showPossibleDuplicates() {
+        JTextField txtWeight = new JTextField("5");
+        ((javax.swing.text.PlainDocument) txtWeight.getDocument()).setDocumentFilter(new DecimalDocumentFilter());
+        JTextField txtAge = new JTextField("1");
+        ((javax.swing.text.PlainDocument) txtAge.getDocument()).setDocumentFilter(new NumericDocumentFilter());
+        JPanel inputPanel = new JPanel(new GridLayout(2, 2, 10, 10));
+        inputPanel.add(new JLabel("Weight difference up to (%):"));
+        inputPanel.add(txtWeight);
+        inputPanel.add(new JLabel("Age difference up to (years):"));
+        inputPanel.add(txtAge);
+
+        int result = JOptionPane.showConfirmDialog(this, inputPanel, "Find Possible Duplicates", JOptionPane.OK_CANCEL_OPTION);
+        if (result != JOptionPane.OK_OPTION) {
+            return;
+        }
+
+        DuplicateDetector detector;
+        try {
+            detector = new DuplicateDetector(Double.parseDouble(txtWeight.getText().trim()),
+                    Integer.parseInt(txtAge.getText().trim()), Runtime.getRuntime().availableProcessors());
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage(), "Invalid Input", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        new SwingWorker<List<DuplicateDetector.Cluster>, Void>() {
+            @Override
+            protected List<DuplicateDetector.Cluster> doInBackground() throws Exception {
+                return detector.findDuplicates(animalManager);
+            }
+
+            @Override
+            protected void done() {
+                List<DuplicateDetector.Cluster> clusters;
+                try {
+                    clusters = get();
+                } catch (Exception ex) {
+                    JOptionPane.showMessageDialog(WATSMainFrame.this, "Error: " + ex.getMessage(),
+                            "Duplicate Search Failed", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                if (clusters.isEmpty()) {
+                    JOptionPane.showMessageDialog(WATSMainFrame.this, "No possible duplicates found.");
+                    return;
+                }
+
+                DefaultTableModel clusterModel = new DefaultTableModel(
+                        new String[] { "Cluster", "Tag ID", "Name", "Species", "Gender", "Age", "Weight" }, 0) {
+                    @Override
+                    public boolean isCellEditable(int row, int column) {
+                        return false;
+                    }
+                };
+                for (int i = 0; i < clusters.size(); i++) {
+                    for (WildAnimal animal : clusters.get(i).getAnimals()) {
+                        clusterModel.addRow(new Object[] {
+                                i + 1,
+                                animal.getId(),
+                                animal.getName(),
+                                animal.getSpecies(),
+                                animal.getGender(),
+                                animal.getAge(),
+                                animal.getWeight()
+                        });
+                    }
+                }
+                JScrollPane scrollPane = new JScrollPane(new JTable(clusterModel));
+                scrollPane.setPreferredSize(new Dimension(650, 350));
+                JOptionPane.showMessageDialog(WATSMainFrame.this, scrollPane,
+                        clusters.size() + " Possible Duplicate Clusters", JOptionPane.INFORMATION_MESSAGE);
+            }
+        }.execute();
+    }
 }
@@ -8,13 +8,30 @@
  * It provides a Swing GUI for WATS Application for users to interact with the system.
  * Users can add, remove, display, and load Wild-Animals from a file.
  * The program demonstrates basic file I/O, object-oriented design, and input validation.
+ *
+ * Startup is kept short: chart, dialog and archive classes are only loaded when first used.
+ * Two system properties support the startup scripts in the scripts folder:
+ *   -Dwats.startup.report=true            prints the time to the first painted frame
+ *   -Dwats.startup.exitAfterFirstFrame=true exits once the first frame is painted (CDS training runs)
+ *   -Dwats.startup.exitBeforeFrame=true   exits just before the main frame is built, which also works
+ *                                         without a display (-Djava.awt.headless=true)
+ * The EdtWatchdog is installed before the first window to report user interface stalls:
+ *   -Dwats.edt.watchdog=false              turns the watchdog off
+ *   -Dwats.edt.stallThresholdMs=200        shortest event handling time reported as a stall
  */
 package WATSSwingApp;
 
 import javax.swing.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 
 public class WATSSwingApp {
 
+    /**
+     * Time main() was entered, used by the startup report
+     */
+    private static long mainStartNanos;
+
     public WATSSwingApp() {
         initApp();
     }
@@ -28,12 +45,131 @@ public class WATSSwingApp {
      */
     private void initApp() {
         // Using one shared instance of AnimalManager.
-        AnimalManager manager = new AnimalManager();
+        AnimalRepository repository = createRepository();
+        AnimalManager manager = new AnimalManager(repository, loadValidationRules());
+        if (Boolean.getBoolean("wats.startup.exitBeforeFrame")) {
+            reportStartup("main frame ready to build");
+            System.exit(0);
+        }
         // Define JFrame and UI components: JPanel, JTable, JButton, JDialogs
         WATSMainFrame mainFrame = new WATSMainFrame(manager);
+        startHttpServer(manager);
+        if (Boolean.getBoolean("wats.startup.report") || Boolean.getBoolean("wats.startup.exitAfterFirstFrame")) {
+            watchFirstFrame(mainFrame);
+        }
         mainFrame.setVisible(true);
     }
 
+    /**
+     * Method: createRepository
+     * Purpose: Creates the record storage selected with -Dwats.storage:
+     * "offheap" keeps the records outside the Java heap, "jdbc" keeps them in the database named by
+     * -Dwats.jdbc.url (an embedded H2 file by default), anything else keeps them in memory.
+     * Arguments: none
+     * Return: AnimalRepository - the storage
+     */
+    private static AnimalRepository createRepository() {
+        String storage = System.getProperty("wats.storage", "memory");
+        if ("offheap".equalsIgnoreCase(storage)) {
+            return new OffHeapAnimalRepository();
+        }
+        if ("jdbc".equalsIgnoreCase(storage)) {
+            String url = System.getProperty("wats.jdbc.url", "jdbc:h2:./wats-data");
+            try {
+                JdbcAnimalRepository repository = new JdbcAnimalRepository(url, 4);
+                // Embedded databases write their file when the last connection closes
+                Runtime.getRuntime().addShutdownHook(new Thread(repository::close));
+                return repository;
+            } catch (IllegalStateException e) {
+                JOptionPane.showMessageDialog(null, e.getMessage()
+                        + "\nThe records are kept in memory for this session.", "Storage", JOptionPane.WARNING_MESSAGE);
+            }
+        }
+        return new InMemoryAnimalRepository();
+    }
+
+    /**
+     * Method: loadValidationRules
+     * Purpose: Loads the validation rules named by -Dwats.validation.rules, or returns the default
+     * rules when the property is not set. A file that cannot be read falls back to the defaults.
+     * Arguments: none
+     * Return: ValidationRules - the rule set
+     */
+    private static ValidationRules loadValidationRules() {
+        String rulesFile = System.getProperty("wats.validation.rules");
+        if (rulesFile == null) {
+            return new ValidationRules();
+        }
+        try {
+            return ValidationRules.load(new java.io.File(rulesFile));
+        } catch (java.io.IOException e) {
+            JOptionPane.showMessageDialog(null, "Could not load validation rules: " + e.getMessage()
+                    + "\nThe default rules are used.", "Validation Rules", JOptionPane.WARNING_MESSAGE);
+            return new ValidationRules();
+        }
+    }
+
+    /**
+     * Method: startHttpServer
+     * Purpose: Starts the local JSON API on the port given with -Dwats.http.port, sharing the
+     * records shown in the window. Nothing is started when the property is not set.
+     * Arguments: AnimalManager manager - the shared records
+     * Return: void
+     */
+    private static void startHttpServer(AnimalManager manager) {
+        String port = System.getProperty("wats.http.port");
+        if (port == null) {
+            return;
+        }
+        try {
+            WatsHttpServer server = new WatsHttpServer(manager, Integer.parseInt(port.trim()));
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+            System.out.println("[INFO] WATS API listening on http://localhost:" + server.getPort() + "/api/");
+        } catch (java.io.IOException | NumberFormatException e) {
+            JOptionPane.showMessageDialog(null, "Could not start the HTTP API on port " + port + ": " + e.getMessage(),
+                    "HTTP API", JOptionPane.WARNING_MESSAGE);
+        }
+    }
+
+    /**
+     * Method: watchFirstFrame
+     * Purpose: Reports the time to the first frame once the main window is open and its first
+     * paint has been processed. Optionally exits the application afterwards.
+     * Arguments: JFrame frame - the main window
+     * Return: void
+     */
+    private static void watchFirstFrame(JFrame frame) {
+        frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                // Queued behind the paint events of the newly opened window
+                SwingUtilities.invokeLater(() -> {
+                    reportStartup("first frame");
+                    if (Boolean.getBoolean("wats.startup.exitAfterFirstFrame")) {
+                        System.exit(0);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Method: reportStartup
+     * Purpose: Prints how long startup took to reach a point, measured from main() and from the JVM
+     * start. The wall clock time is printed as well, so a launcher script can include the JVM boot.
+     * Arguments: String point - what has been reached
+     * Return: void
+     */
+    private static void reportStartup(String point) {
+        long sinceMainMs = (System.nanoTime() - mainStartNanos) / 1_000_000;
+        long sinceJvmStartMs = ProcessHandle.current().info().startInstant()
+                .map(start -> System.currentTimeMillis() - start.toEpochMilli())
+                .orElse(-1L);
+        System.out.println("[STARTUP] " + point + " " + sinceMainMs + " ms after main, "
+                + sinceJvmStartMs + " ms after JVM start, epochMillis=" + System.currentTimeMillis());
+    }
+
     /**
      * Method: main
      * Purpose: Entry point of the program. Starts the menu loop.
@@ -41,6 +177,8 @@ public class WATSSwingApp {
      * Return: void
      */
     public static void main(String[] args) {
+        mainStartNanos = System.nanoTime();
+        EdtWatchdog.install();
         SwingUtilities.invokeLater(WATSSwingApp::new);
     }
 
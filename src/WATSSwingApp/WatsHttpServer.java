@@ -0,0 +1,427 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: WatsHttpServer.java
+ *
+ * This class exposes an AnimalManager as a local JSON API, so dashboards and scripts can read and
+ * write the same records the Swing window shows without driving the UI. It uses the JDK HttpServer
+ * and runs every exchange on its own virtual thread, so thousands of concurrent requests only cost
+ * a small amount of memory each. Changes made through the API notify the manager's listeners like
+ * any other change, so the window refreshes on its own.
+ *
+ *   GET    /api/animals[?species=Lion]   all records as a JSON array, streamed
+ *   GET    /api/animals?filter=...       records matching a filter expression (see AnimalFilter)
+ *   GET    /api/animals/{id}             one record
+ *   POST   /api/animals                  add a record (JSON object including "id")
+ *   PUT    /api/animals/{id}             replace the fields of a record
+ *   PATCH  /api/animals/{id}             change only the fields in the JSON object
+ *   DELETE /api/animals/{id}             delete a record
+ *   POST   /api/import[?policy=SKIP]     bulk import of CSV lines in the request body
+ *   GET    /api/species                  count, total, average, median, p5 and p95 weight per species
+ *   GET    /api/species/{species}/top[?by=weight|age&k=5]   heaviest or oldest animals of a species
+ *
+ * The server only listens on the loopback interface.
+ */
+
+package WATSSwingApp;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class WatsHttpServer implements Closeable {
+
+    /**
+     * Number of pending connections the operating system queues before refusing new ones
+     */
+    private static final int BACKLOG = 4096;
+    /**
+     * Lines handed to the manager at a time during a bulk import
+     */
+    private static final int IMPORT_BATCH_LINES = 1024;
+    /**
+     * Maximum size of a JSON request body
+     */
+    private static final int MAX_JSON_BODY = 64 * 1024;
+    /**
+     * Number of records copied under the manager lock at a time while streaming an export
+     */
+    private static final int EXPORT_CHUNK_SIZE = 1000;
+
+    private final AnimalManager animalManager;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Method: WatsHttpServer (Constructor)
+     * Purpose: Binds the server to the given port on the loopback interface. Call start() to serve requests.
+     * Arguments: AnimalManager manager - the records to expose, int port - TCP port, 0 for any free port
+     * Return: None
+     */
+    public WatsHttpServer(AnimalManager manager, int port) throws IOException {
+        this.animalManager = manager;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/api/", this::handle);
+    }
+
+    /**
+     * Method: start
+     * Purpose: Starts serving requests in the background.
+     * Arguments: None
+     * Return: void
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Method: getPort
+     * Purpose: Returns the port the server listens on.
+     * Arguments: None
+     * Return: int - the port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Method: close
+     * Purpose: Stops the server, giving running exchanges one second to finish.
+     * Arguments: None
+     * Return: void
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdown();
+    }
+
+    /**
+     * Method: handle
+     * Purpose: Routes an exchange to its endpoint and turns errors into JSON error responses:
+     * invalid input is 400, an unknown Tag ID 404, a Tag ID already in use 409, a storage failure 500.
+     * Every write is a single manager call that checks the Tag ID under the manager lock.
+     * Arguments: HttpExchange exchange - the request
+     * Return: void
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String[] path = exchange.getRequestURI().getPath().replaceAll("/+$", "").split("/");
+            String method = exchange.getRequestMethod();
+            // path[0] is empty and path[1] is "api"
+            String resource = path.length > 2 ? path[2] : "";
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            if (resource.equals("animals") && path.length == 3) {
+                if (method.equals("GET")) {
+                    exportAnimals(exchange, query.get("species"), query.get("filter"));
+                } else if (method.equals("POST")) {
+                    addAnimal(exchange);
+                } else {
+                    sendError(exchange, 405, "Use GET or POST on /api/animals");
+                }
+            } else if (resource.equals("animals") && path.length == 4) {
+                int id = parseId(path[3]);
+                switch (method) {
+                    case "GET": getAnimal(exchange, id); break;
+                    case "PUT": updateAnimal(exchange, id); break;
+                    case "PATCH": patchAnimal(exchange, id); break;
+                    case "DELETE": deleteAnimal(exchange, id); break;
+                    default: sendError(exchange, 405, "Use GET, PUT, PATCH or DELETE on /api/animals/{id}");
+                }
+            } else if (resource.equals("import") && path.length == 3) {
+                if (method.equals("POST")) {
+                    importCsv(exchange, query.get("policy"));
+                } else {
+                    sendError(exchange, 405, "Use POST on /api/import");
+                }
+            } else if (resource.equals("species") && path.length == 3) {
+                if (method.equals("GET")) {
+                    getSpecies(exchange);
+                } else {
+                    sendError(exchange, 405, "Use GET on /api/species");
+                }
+            } else if (resource.equals("species") && path.length == 5 && path[4].equals("top")) {
+                if (method.equals("GET")) {
+                    getTopAnimals(exchange, URLDecoder.decode(path[3], StandardCharsets.UTF_8), query);
+                } else {
+                    sendError(exchange, 405, "Use GET on /api/species/{species}/top");
+                }
+            } else {
+                sendError(exchange, 404, "Unknown resource " + exchange.getRequestURI().getPath());
+            }
+        } catch (AnimalNotFoundException e) {
+            sendError(exchange, 404, e.getMessage());
+        } catch (DuplicateTagIdException e) {
+            sendError(exchange, 409, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+        } catch (RuntimeException e) {
+            sendError(exchange, 500, e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Method: exportAnimals
+     * Purpose: Streams the records as a JSON array with chunked encoding, flushing every few
+     * kilobytes, so the response is never built in memory as a whole. Only the Tag IDs are read
+     * up front; the records are then copied under the manager lock one chunk at a time and written
+     * without it, so a slow client does not block the manager and no record is written half-changed.
+     * Arguments: HttpExchange exchange - the request, String species - optional species filter,
+     * String filter - optional filter expression
+     * Return: void
+     */
+    private void exportAnimals(HttpExchange exchange, String species, String filter) throws IOException {
+        int[] ids = animalManager.findAnimalIds(filter == null ? null : AnimalFilter.compile(filter), species);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, 0);
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), 64 * 1024)) {
+            StringBuilder record = new StringBuilder(256);
+            boolean first = true;
+            writer.write('[');
+            for (int start = 0; start < ids.length; start += EXPORT_CHUNK_SIZE) {
+                for (WildAnimal animal : animalManager.copyAnimals(ids, start, Math.min(start + EXPORT_CHUNK_SIZE, ids.length))) {
+                    record.setLength(0);
+                    if (!first) {
+                        record.append(',');
+                    }
+                    JsonSupport.appendAnimal(record, animal);
+                    writer.append(record);
+                    first = false;
+                }
+            }
+            writer.write(']');
+        }
+    }
+
+    private void getAnimal(HttpExchange exchange, int id) throws IOException {
+        WildAnimal animal = animalManager.copyAnimalById(id);
+        if (animal == null) {
+            throw new AnimalNotFoundException(id);
+        }
+        StringBuilder json = new StringBuilder();
+        JsonSupport.appendAnimal(json, animal);
+        sendJson(exchange, 200, json.toString());
+    }
+
+    private void addAnimal(HttpExchange exchange) throws IOException {
+        Map<String, Object> members = JsonSupport.parseObject(readBody(exchange));
+        WildAnimal animal = JsonSupport.toAnimal(members, JsonSupport.intMember(members, "id"));
+        // Written before the record is stored, since a stored record may change at any time
+        StringBuilder json = new StringBuilder();
+        JsonSupport.appendAnimal(json, animal);
+        animalManager.addAnimal(animal);
+        sendJson(exchange, 201, json.toString());
+    }
+
+    private void updateAnimal(HttpExchange exchange, int id) throws IOException {
+        WildAnimal animal = JsonSupport.toAnimal(JsonSupport.parseObject(readBody(exchange)), id);
+        animalManager.updateAnimal(id, animal);
+        StringBuilder json = new StringBuilder();
+        JsonSupport.appendAnimal(json, animal);
+        sendJson(exchange, 200, json.toString());
+    }
+
+    private void patchAnimal(HttpExchange exchange, int id) throws IOException {
+        AnimalPatch patch = JsonSupport.toPatch(JsonSupport.parseObject(readBody(exchange)));
+        animalManager.patchAnimal(id, patch);
+        WildAnimal animal = animalManager.copyAnimalById(id);
+        if (animal == null) {
+            // Deleted by another client right after the patch
+            throw new AnimalNotFoundException(id);
+        }
+        StringBuilder json = new StringBuilder();
+        JsonSupport.appendAnimal(json, animal);
+        sendJson(exchange, 200, json.toString());
+    }
+
+    private void deleteAnimal(HttpExchange exchange, int id) throws IOException {
+        animalManager.deleteAnimal(id);
+        exchange.sendResponseHeaders(204, -1);
+    }
+
+    /**
+     * Method: importCsv
+     * Purpose: Imports the CSV lines of the request body in batches while the body is still
+     * arriving, and answers with the import counters.
+     * Arguments: HttpExchange exchange - the request, String policyName - optional ConflictPolicy name
+     * Return: void
+     */
+    private void importCsv(HttpExchange exchange, String policyName) throws IOException {
+        ConflictPolicy policy = policyName == null ? ConflictPolicy.SKIP : ConflictPolicy.valueOf(policyName.toUpperCase());
+        ImportDiagnostics diagnostics = new ImportDiagnostics(null);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8))) {
+            List<String> lines = new ArrayList<>(IMPORT_BATCH_LINES);
+            long firstLineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+                if (lines.size() == IMPORT_BATCH_LINES) {
+                    animalManager.importAnimalLines(lines, "request", firstLineNumber, policy, diagnostics);
+                    firstLineNumber += lines.size();
+                    lines = new ArrayList<>(IMPORT_BATCH_LINES);
+                }
+            }
+            if (!lines.isEmpty()) {
+                animalManager.importAnimalLines(lines, "request", firstLineNumber, policy, diagnostics);
+            }
+        }
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\"accepted\":").append(diagnostics.getAcceptedCount());
+        json.append(",\"updated\":").append(diagnostics.getUpdatedCount());
+        json.append(",\"unchanged\":").append(diagnostics.getUnchangedCount());
+        json.append(",\"rejected\":").append(diagnostics.getRejectedCount());
+        json.append(",\"rejections\":{");
+        boolean first = true;
+        for (ImportDiagnostics.Reason reason : ImportDiagnostics.Reason.values()) {
+            long count = diagnostics.getCount(reason);
+            if (count > 0) {
+                json.append(first ? "" : ",").append('"').append(reason.name()).append("\":").append(count);
+                first = false;
+            }
+        }
+        json.append("}}");
+        sendJson(exchange, 200, json.toString());
+    }
+
+    private void getSpecies(HttpExchange exchange) throws IOException {
+        // The quantile sketches are kept per WildAnimal.speciesKey, so the summaries are merged by the same key
+        Map<String, SpeciesSummary> merged = new LinkedHashMap<>();
+        for (SpeciesSummary summary : animalManager.summarizeBySpecies()) {
+            merged.merge(WildAnimal.speciesKey(summary.getSpecies()), summary, (kept, more) -> new SpeciesSummary(
+                    kept.getSpecies(), kept.getCount() + more.getCount(), kept.getTotalWeight() + more.getTotalWeight()));
+        }
+        StringBuilder json = new StringBuilder("[");
+        boolean first = true;
+        for (SpeciesSummary summary : merged.values()) {
+            if (!first) {
+                json.append(',');
+            }
+            JsonSupport.appendSummary(json, summary,
+                    animalManager.getWeightQuantiles(summary.getSpecies(), 0.05, 0.5, 0.95));
+            first = false;
+        }
+        sendJson(exchange, 200, json.append(']').toString());
+    }
+
+    /**
+     * Method: getTopAnimals
+     * Purpose: Answers with the heaviest (by=weight, the default) or oldest (by=age) animals of a species.
+     * Arguments: HttpExchange exchange - the request, String species - the species,
+     * Map<String, String> query - optional "by" and "k" (default 5)
+     * Return: void
+     */
+    private void getTopAnimals(HttpExchange exchange, String species, Map<String, String> query) throws IOException {
+        String by = query.getOrDefault("by", "weight");
+        int k;
+        try {
+            k = Integer.parseInt(query.getOrDefault("k", "5"));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid k: " + query.get("k"));
+        }
+        List<WildAnimal> animals;
+        if (by.equals("weight")) {
+            animals = animalManager.getHeaviestAnimals(species, k);
+        } else if (by.equals("age")) {
+            animals = animalManager.getOldestAnimals(species, k);
+        } else {
+            throw new IllegalArgumentException("Use by=weight or by=age");
+        }
+        StringBuilder json = new StringBuilder("[");
+        for (WildAnimal animal : animals) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            JsonSupport.appendAnimal(json, animal);
+        }
+        sendJson(exchange, 200, json.append(']').toString());
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readNBytes(MAX_JSON_BODY + 1);
+        if (body.length > MAX_JSON_BODY) {
+            throw new IllegalArgumentException("Request body larger than " + MAX_JSON_BODY + " bytes");
+        }
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private static int parseId(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid Tag ID: " + value);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = URLDecoder.decode(equals < 0 ? pair : pair.substring(0, equals), StandardCharsets.UTF_8);
+            String value = equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            query.put(name, value);
+        }
+        return query;
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Method: sendError
+     * Purpose: Answers with {"error": message}, unless the response has already started.
+     * Arguments: HttpExchange exchange, int status - HTTP status code, String message - the error
+     * Return: void
+     */
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        if (exchange.getResponseCode() != -1) {
+            return;
+        }
+        StringBuilder json = new StringBuilder("{\"error\":");
+        JsonSupport.appendString(json, message);
+        sendJson(exchange, status, json.append('}').toString());
+    }
+
+    /**
+     * Method: main
+     * Purpose: Runs the API without the Swing window, optionally loading a CSV file first.
+     * Arguments: String[] args - port, optional CSV file
+     * Return: void
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println("Usage: WatsHttpServer <port> [animals.csv]");
+            System.exit(1);
+        }
+        AnimalManager manager = new AnimalManager();
+        if (args.length > 1) {
+            manager.uploadAnimalsFromFile(args[1]).forEach(System.out::println);
+        }
+        WatsHttpServer server = new WatsHttpServer(manager, Integer.parseInt(args[0]));
+        server.start();
+        System.out.println("[INFO] WATS API listening on http://localhost:" + server.getPort() + "/api/");
+    }
+}
@@ -0,0 +1,409 @@
+/**
+ * Author: Felix Guevara
+ * Course: [CEN-3024C-13950]
+ * Date: October 19, 2026,
+ * Class: WeightHistory.java
+ *
+ * This class keeps the weight measurement history of every animal, so weight trends survive
+ * updates of the current weight. All readings live in one shared columnar log of primitive arrays:
+ * the time as an int second offset from the first reading ever stored, the weight as a float and
+ * the log position of the animal's previous reading, 12 bytes per reading. An open addressing
+ * table of primitive arrays maps each Tag ID to its newest reading, so there is no object per
+ * animal or per reading and the history adds nothing for the garbage collector to trace, however
+ * many animals are stored. The readings of an animal are chained newest first; a reading that
+ * arrives out of order is linked in at its place in time. The log is compacted when more than
+ * half of it belongs to deleted animals.
+ *
+ * The class is not thread-safe; the AnimalManager calls it while holding its lock.
+ */
+
+package WATSSwingApp;
+
+import java.util.*;
+
+public class WeightHistory {
+
+    private static final double MILLIS_PER_DAY = 24.0 * 60 * 60 * 1000;
+    private static final int INITIAL_CAPACITY = 1024;
+    /**
+     * Marks the end of a chain and an empty table bucket
+     */
+    private static final int NONE = -1;
+
+    // Reading log, in order of arrival
+    private int[] offsets = new int[INITIAL_CAPACITY];
+    private float[] weights = new float[INITIAL_CAPACITY];
+    private int[] previous = new int[INITIAL_CAPACITY];
+    private int logSize = 0;
+    /**
+     * Second of the first reading ever stored; offsets are relative to it
+     */
+    private long baseSeconds;
+    private boolean hasBase = false;
+
+    // Tag ID to newest reading: open addressing table, NONE marks an empty bucket
+    private int[] tableIds = new int[INITIAL_CAPACITY];
+    private int[] tableHeads = newTable(INITIAL_CAPACITY);
+    private int animalCount = 0;
+
+    private long readingCount = 0;
+
+    /**
+     * Class: Reading
+     * A single weight measurement returned by the queries.
+     */
+    public static final class Reading {
+        private final long timeMillis;
+        private final double weight;
+
+        Reading(long timeMillis, double weight) {
+            this.timeMillis = timeMillis;
+            this.weight = weight;
+        }
+
+        public long getTimeMillis() { return timeMillis; }
+
+        public double getWeight() { return weight; }
+    }
+
+    /**
+     * Class: WeightLoss
+     * An animal whose weight dropped within the queried window.
+     */
+    public static final class WeightLoss {
+        private final int id;
+        private final double startWeight;
+        private final double latestWeight;
+
+        WeightLoss(int id, double startWeight, double latestWeight) {
+            this.id = id;
+            this.startWeight = startWeight;
+            this.latestWeight = latestWeight;
+        }
+
+        public int getId() { return id; }
+
+        public double getStartWeight() { return startWeight; }
+
+        public double getLatestWeight() { return latestWeight; }
+
+        public double getDropPercent() { return (startWeight - latestWeight) / startWeight * 100; }
+    }
+
+    /**
+     * Method: record
+     * Purpose: Adds a weight reading for an animal. Readings more than about 68 years away
+     * from the first reading stored do not fit the int offsets and are rejected.
+     * Arguments: int id - Tag ID, long timeMillis - when the weight was measured, double weight - the weight
+     * Return: void
+     */
+    public void record(int id, long timeMillis, double weight) {
+        long seconds = Math.floorDiv(timeMillis, 1000);
+        if (!hasBase) {
+            baseSeconds = seconds;
+            hasBase = true;
+        }
+        long offset = seconds - baseSeconds;
+        if (offset < Integer.MIN_VALUE || offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Reading time is more than 68 years from the first reading");
+        }
+        int reading = append((int) offset, (float) weight);
+        int bucket = findBucket(id);
+        if (tableHeads[bucket] == NONE) {
+            previous[reading] = NONE;
+            putHead(id, reading);
+        } else {
+            // Readings normally arrive in order and become the new head
+            int later = NONE;
+            int current = tableHeads[bucket];
+            while (current != NONE && offsets[current] > offset) {
+                later = current;
+                current = previous[current];
+            }
+            previous[reading] = current;
+            if (later == NONE) {
+                tableHeads[bucket] = reading;
+            } else {
+                previous[later] = reading;
+            }
+        }
+        readingCount++;
+    }
+
+    /**
+     * Method: remove
+     * Purpose: Drops the whole history of an animal.
+     * Arguments: int id - Tag ID
+     * Return: void
+     */
+    public void remove(int id) {
+        int bucket = findBucket(id);
+        if (tableHeads[bucket] == NONE) {
+            return;
+        }
+        for (int reading = tableHeads[bucket]; reading != NONE; reading = previous[reading]) {
+            readingCount--;
+        }
+        removeBucket(bucket);
+        // The log keeps the readings of deleted animals until most of it is dead
+        if (logSize > INITIAL_CAPACITY && readingCount * 2 < logSize) {
+            compact();
+        }
+    }
+
+    /**
+     * Method: getReadingCount
+     * Purpose: Returns the number of readings stored for all animals.
+     * Arguments: None
+     * Return: long - number of readings
+     */
+    public long getReadingCount() {
+        return readingCount;
+    }
+
+    /**
+     * Method: latest
+     * Purpose: Returns the most recent readings of an animal, newest first.
+     * Arguments: int id - Tag ID, int n - maximum number of readings
+     * Return: List<Reading> - up to n readings
+     */
+    public List<Reading> latest(int id, int n) {
+        List<Reading> readings = new ArrayList<>();
+        for (int reading = headOf(id); reading != NONE && readings.size() < n; reading = previous[reading]) {
+            readings.add(new Reading(timeMillis(reading), weights[reading]));
+        }
+        return readings;
+    }
+
+    /**
+     * Method: slope
+     * Purpose: Computes the least-squares trend of an animal's weight over a time window.
+     * Arguments: int id - Tag ID, long fromMillis - window start, long toMillis - window end (inclusive)
+     * Return: double - weight change in kg per day, or NaN if fewer than two readings fall in the window
+     */
+    public double slope(int id, long fromMillis, long toMillis) {
+        int head = headOf(id);
+        if (head == NONE) {
+            return Double.NaN;
+        }
+        long from = Math.floorDiv(fromMillis, 1000) - baseSeconds;
+        long to = Math.floorDiv(toMillis, 1000) - baseSeconds;
+        // Offsets are centered on the newest reading of the window to keep the sums small
+        double sumX = 0, sumY = 0, sumXX = 0, sumXY = 0;
+        int n = 0;
+        long origin = 0;
+        for (int reading = head; reading != NONE && offsets[reading] >= from; reading = previous[reading]) {
+            if (offsets[reading] > to) {
+                continue;
+            }
+            if (n == 0) {
+                origin = offsets[reading];
+            }
+            double x = (offsets[reading] - origin) / 86400.0;
+            double y = weights[reading];
+            sumX += x;
+            sumY += y;
+            sumXX += x * x;
+            sumXY += x * y;
+            n++;
+        }
+        if (n < 2) {
+            return Double.NaN;
+        }
+        double denominator = n * sumXX - sumX * sumX;
+        return denominator == 0 ? Double.NaN : (n * sumXY - sumX * sumY) / denominator;
+    }
+
+    /**
+     * Method: findWeightLoss
+     * Purpose: Finds the animals whose weight dropped by more than the given percentage over the
+     * last days. The weight at the start of the window (the last reading at or before it, else the
+     * first reading inside it) is compared with the latest reading. Walks each animal's readings
+     * back to the start of the window.
+     * Arguments: double percent - minimum drop in percent, double days - window length,
+     * long nowMillis - end of the window
+     * Return: List<WeightLoss> - the matching animals, largest drop first
+     */
+    public List<WeightLoss> findWeightLoss(double percent, double days, long nowMillis) {
+        long startMillis = nowMillis - (long) (days * MILLIS_PER_DAY);
+        long startOffset = Math.floorDiv(startMillis, 1000) - baseSeconds;
+        List<WeightLoss> losses = new ArrayList<>();
+        for (int bucket = 0; bucket < tableHeads.length; bucket++) {
+            int head = tableHeads[bucket];
+            if (head == NONE) {
+                continue;
+            }
+            // Walk back to the first reading before the window; the reading seen last before it
+            // is the first one inside the window
+            int firstInside = NONE;
+            int reading = head;
+            while (reading != NONE && offsets[reading] >= startOffset) {
+                firstInside = reading;
+                reading = previous[reading];
+            }
+            int reference;
+            if (firstInside == NONE) {
+                // Every reading is older than the window
+                continue;
+            } else if (reading != NONE && timeMillis(firstInside) > startMillis) {
+                reference = reading;
+            } else {
+                reference = firstInside;
+            }
+            if (reference == head) {
+                continue;
+            }
+            double startWeight = weights[reference];
+            double latestWeight = weights[head];
+            if (startWeight > 0 && (startWeight - latestWeight) / startWeight * 100 > percent) {
+                losses.add(new WeightLoss(tableIds[bucket], startWeight, latestWeight));
+            }
+        }
+        losses.sort(Comparator.comparingDouble(WeightLoss::getDropPercent).reversed());
+        return losses;
+    }
+
+    private long timeMillis(int reading) {
+        return (baseSeconds + offsets[reading]) * 1000;
+    }
+
+    private int headOf(int id) {
+        return tableHeads[findBucket(id)];
+    }
+
+    /**
+     * Method: append
+     * Purpose: Appends a reading to the log, growing the arrays when needed.
+     * Arguments: int offset - seconds from baseSeconds, float weight - the weight
+     * Return: int - the log position of the reading
+     */
+    private int append(int offset, float weight) {
+        if (logSize == offsets.length) {
+            int capacity = offsets.length * 2;
+            offsets = Arrays.copyOf(offsets, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+            previous = Arrays.copyOf(previous, capacity);
+        }
+        offsets[logSize] = offset;
+        weights[logSize] = weight;
+        return logSize++;
+    }
+
+    /**
+     * Method: compact
+     * Purpose: Rewrites the log with only the readings of the animals still stored, keeping each
+     * animal's readings together and in time order.
+     * Arguments: None
+     * Return: void
+     */
+    private void compact() {
+        int capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit((int) Math.max(1, readingCount)) * 2);
+        int[] newOffsets = new int[capacity];
+        float[] newWeights = new float[capacity];
+        int[] newPrevious = new int[capacity];
+        int size = 0;
+        int[] chain = new int[16];
+        for (int bucket = 0; bucket < tableHeads.length; bucket++) {
+            if (tableHeads[bucket] == NONE) {
+                continue;
+            }
+            int length = 0;
+            for (int reading = tableHeads[bucket]; reading != NONE; reading = previous[reading]) {
+                if (length == chain.length) {
+                    chain = Arrays.copyOf(chain, length * 2);
+                }
+                chain[length++] = reading;
+            }
+            // Copy oldest first, so each reading follows the one before it
+            int before = NONE;
+            for (int i = length - 1; i >= 0; i--) {
+                newOffsets[size] = offsets[chain[i]];
+                newWeights[size] = weights[chain[i]];
+                newPrevious[size] = before;
+                before = size++;
+            }
+            tableHeads[bucket] = before;
+        }
+        offsets = newOffsets;
+        weights = newWeights;
+        previous = newPrevious;
+        logSize = size;
+    }
+
+    /**
+     * Method: findBucket
+     * Purpose: Looks up the table bucket of a Tag ID.
+     * Arguments: int id - the Tag ID
+     * Return: int - the bucket holding the Tag ID, or the empty bucket where it would go
+     */
+    private int findBucket(int id) {
+        int mask = tableHeads.length - 1;
+        int bucket = hash(id) & mask;
+        while (tableHeads[bucket] != NONE && tableIds[bucket] != id) {
+            bucket = (bucket + 1) & mask;
+        }
+        return bucket;
+    }
+
+    private void putHead(int id, int reading) {
+        if ((animalCount + 1) * 4L > tableHeads.length * 3L) {
+            resizeTable();
+        }
+        int bucket = findBucket(id);
+        tableIds[bucket] = id;
+        tableHeads[bucket] = reading;
+        animalCount++;
+    }
+
+    /**
+     * Method: removeBucket
+     * Purpose: Empties a table bucket using backward shift deletion, so that no tombstones are
+     * left behind and lookups stay short.
+     * Arguments: int bucket - the bucket to empty
+     * Return: void
+     */
+    private void removeBucket(int bucket) {
+        int mask = tableHeads.length - 1;
+        int hole = bucket;
+        for (int next = (hole + 1) & mask; tableHeads[next] != NONE; next = (next + 1) & mask) {
+            int home = hash(tableIds[next]) & mask;
+            // Move the entry back if its home bucket is not between the hole and its position
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                tableIds[hole] = tableIds[next];
+                tableHeads[hole] = tableHeads[next];
+                hole = next;
+            }
+        }
+        tableHeads[hole] = NONE;
+        animalCount--;
+    }
+
+    private void resizeTable() {
+        int[] oldIds = tableIds;
+        int[] oldHeads = tableHeads;
+        tableIds = new int[oldIds.length * 2];
+        tableHeads = newTable(oldHeads.length * 2);
+        int mask = tableHeads.length - 1;
+        for (int i = 0; i < oldHeads.length; i++) {
+            if (oldHeads[i] != NONE) {
+                int bucket = hash(oldIds[i]) & mask;
+                while (tableHeads[bucket] != NONE) {
+                    bucket = (bucket + 1) & mask;
+                }
+                tableIds[bucket] = oldIds[i];
+                tableHeads[bucket] = oldHeads[i];
+            }
+        }
+    }
+
+    private static int[] newTable(int capacity) {
+        int[] heads = new int[capacity];
+        Arrays.fill(heads, NONE);
+        return heads;
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -10,6 +10,9 @@
  */
 package WATSSwingApp;
 
+import java.util.Locale;
+import java.util.Objects;
+
 public class WildAnimal {
     /**
      * Fields to store animal attributes
@@ -21,6 +24,10 @@ public class WildAnimal {
     private String gender;
     private double weight;
     private String healthStatus;
+    /**
+     * Cached hash of the field values, 0 when it needs to be recomputed
+     */
+    private long contentHash;
 
     /**
      * Method: WildAnimal (Constructor)
@@ -58,17 +65,95 @@ public class WildAnimal {
     /**
      * Setter methods
      */
-    public void setSpecies(String species) { this.species = species; }
+    public void setSpecies(String species) { this.species = species; contentHash = 0; }
+
+    public void setName(String name) { this.name = name; contentHash = 0; }
+
+    public void setAge(int age) { this.age = age; contentHash = 0; }
 
-    public void setName(String name) { this.name = name; }
+    public void setGender(String gender) { this.gender = gender; contentHash = 0; }
+
+    public void setWeight(double weight) { this.weight = weight; contentHash = 0; }
+
+    public void setHealthStatus(String healthStatus) { this.healthStatus = healthStatus; contentHash = 0; }
+
+    /**
+     * Method: contentHash
+     * Purpose: Returns a 64-bit FNV-1a hash over all fields of the record. The value is cached
+     * until a setter changes the record, so comparing two records for changes is cheap.
+     * Arguments: None
+     * Return: long - hash of the field values
+     */
+    public long contentHash() {
+        long hash = contentHash;
+        if (hash == 0) {
+            hash = 0xcbf29ce484222325L;
+            hash = mix(hash, id);
+            hash = mix(hash, species);
+            hash = mix(hash, name);
+            hash = mix(hash, age);
+            hash = mix(hash, gender);
+            hash = mix(hash, Double.doubleToLongBits(weight));
+            hash = mix(hash, healthStatus);
+            if (hash == 0) {
+                hash = 1;
+            }
+            contentHash = hash;
+        }
+        return hash;
+    }
 
-    public void setAge(int age) { this.age = age; }
+    /**
+     * Method: hasSameContent
+     * Purpose: Checks whether another record holds exactly the same field values.
+     * The cached hashes are compared first so most differing records are rejected without
+     * looking at the strings.
+     * Arguments: WildAnimal other - the record to compare with
+     * Return: boolean - true if all fields are equal
+     */
+    public boolean hasSameContent(WildAnimal other) {
+        return contentHash() == other.contentHash()
+                && id == other.id
+                && age == other.age
+                && Double.compare(weight, other.weight) == 0
+                && Objects.equals(species, other.species)
+                && Objects.equals(name, other.name)
+                && Objects.equals(gender, other.gender)
+                && Objects.equals(healthStatus, other.healthStatus);
+    }
 
-    public void setGender(String gender) { this.gender = gender; }
+    /**
+     * Method: speciesKey
+     * Purpose: Returns the key the aggregates group species by: trimmed and in lower case, so
+     * "Lion", "lion" and " Lion" count as one species everywhere.
+     * Arguments: String species - the species as stored or entered
+     * Return: String - the key
+     */
+    public static String speciesKey(String species) {
+        return species.trim().toLowerCase(Locale.ROOT);
+    }
 
-    public void setWeight(double weight) { this.weight = weight; }
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
 
-    public void setHealthStatus(String healthStatus) { this.healthStatus = healthStatus; }
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return mix(hash, -1L);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        // Field separator, so ("ab","c") and ("a","bc") hash differently
+        hash ^= 0x1f;
+        hash *= 0x100000001b3L;
+        return hash;
+    }
 
     /** Method: toString
      * Purpose: Returns a formatted string representation of the animal